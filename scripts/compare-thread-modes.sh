@@ -0,0 +1,41 @@
+#!/usr/bin/env bash
+# 서블릿 플랫폼 스레드 모드와 가상 스레드 모드를 같은 조건으로 비교한다.
+#
+# 1) 1초씩 늦게 응답하는 Seoul API 스텁에 실제 조회 경로를 붙여 2000개 요청을 동시에 보내
+#    처리 시간, 업스트림 호출 수, 플랫폼 스레드 수, 요청당 힙 사용량, 가상 스레드 고정(JFR)을 출력
+#    (Platform/VirtualThreadCongestionLoadTest)
+# 2) E2E=1 이면 로컬 스텁 + 애플리케이션으로 두 모드를 차례로 부하 테스트 (scripts/loadtest.sh)
+#
+#   scripts/compare-thread-modes.sh
+#   E2E=1 RATE=1000 STUB_ARGS="--latency=fixed:2s" scripts/compare-thread-modes.sh
+set -euo pipefail
+cd "$(dirname "$0")/.."
+
+./gradlew loadTest --tests '*ThreadCongestionLoadTest' --rerun-tasks \
+    | grep -E 'servlet/(platform|virtual):|pinned:'
+
+if [ "${E2E:-0}" != 1 ]; then
+    exit 0
+fi
+
+export RATE=${RATE:-500}
+export DURATION=${DURATION:-60s}
+export STUB_ARGS=${STUB_ARGS:-"--latency=lognormal:1s:0.3"}
+
+for mode in platform virtual; do
+    enabled=false
+    if [ "$mode" = virtual ]; then
+        enabled=true
+    fi
+    OUT="build/loadtest/$mode" \
+        APP_ARGS="--spring.main.web-application-type=servlet --spring.threads.virtual.enabled=$enabled" \
+        scripts/loadtest.sh
+done
+
+for mode in platform virtual; do
+    echo "== $mode"
+    cat "build/loadtest/$mode/report.txt"
+    # 동시에 처리 중이던 요청 수와 스레드·힙 사용량
+    grep -E '^(http_server_requests_active_seconds_active_count|jvm_threads_live_threads|jvm_threads_peak_threads|jvm_memory_used_bytes\{.*area="heap")' \
+        "build/loadtest/$mode/prometheus.txt" || true
+done
@@ -0,0 +1,60 @@
+#!/usr/bin/env bash
+# 로컬 Seoul API 스텁 + 애플리케이션 + 부하 생성기를 한 대의 리눅스 장비에서 오프라인으로 실행한다.
+#
+#   scripts/loadtest.sh                                  # 기본값 (500 req/s, 60초)
+#   RATE=2000 DURATION=120s ZIPF=1.2 scripts/loadtest.sh
+#   STUB_ARGS="--latency=lognormal:300ms:0.8 --error-rate=0.05" scripts/loadtest.sh
+#   APP_ARGS="--spring.main.web-application-type=reactive" scripts/loadtest.sh
+set -euo pipefail
+cd "$(dirname "$0")/.."
+
+STUB_PORT=${STUB_PORT:-18088}
+APP_PORT=${APP_PORT:-8080}
+RATE=${RATE:-500}
+DURATION=${DURATION:-60s}
+WARMUP=${WARMUP:-10s}
+ZIPF=${ZIPF:-1.0}
+STUB_ARGS=${STUB_ARGS:-"--latency=lognormal:80ms:0.5 --error-rate=0.01"}
+APP_ARGS=${APP_ARGS:-}
+OUT=${OUT:-build/loadtest}
+HEAP=${HEAP:-512m}
+
+mkdir -p "$OUT"
+./gradlew -q bootJar loadtestClasses
+
+pids=()
+cleanup() {
+    for pid in "${pids[@]}"; do
+        kill "$pid" 2>/dev/null || true
+    done
+}
+trap cleanup EXIT
+
+./gradlew -q stubServer --args="--port=$STUB_PORT $STUB_ARGS" > "$OUT/stub.log" 2>&1 &
+pids+=($!)
+
+# 호출 한도는 스텁에 대해서는 의미가 없으므로 크게 잡고, 기록은 메모리 DB에 남긴다
+java -Xmx"$HEAP" -jar build/libs/seoul-congestion-0.0.1-SNAPSHOT.jar \
+    --spring.profiles.active=ex \
+    --server.port="$APP_PORT" \
+    --seoul.api.base-url="http://localhost:$STUB_PORT" \
+    --seoul.api.key=loadtest \
+    --kakao.api.key=loadtest \
+    --seoul.quota.daily-limit=100000000 \
+    --spring.datasource.url=jdbc:h2:mem:loadtest \
+    $APP_ARGS > "$OUT/app.log" 2>&1 &
+pids+=($!)
+
+echo "waiting for application on :$APP_PORT"
+for _ in $(seq 1 60); do
+    if curl -fs "http://localhost:$APP_PORT/actuator/health" > /dev/null; then
+        break
+    fi
+    sleep 1
+done
+
+./gradlew -q loadGenerator --args="--target=http://localhost:$APP_PORT --rate=$RATE --duration=$DURATION \
+    --warmup=$WARMUP --zipf=$ZIPF --hgrm=$PWD/$OUT/latency.hgrm" | tee "$OUT/report.txt"
+
+curl -fs "http://localhost:$APP_PORT/actuator/prometheus" > "$OUT/prometheus.txt" || true
+echo "logs, latency distribution and metrics written to $OUT"
@@ -0,0 +1,151 @@
+#!/usr/bin/env bash
+# 실행 모드별로 기동부터 첫 정상 응답(/api/congestion/{장소}가 200)까지의 시간과 그 시점의 RSS를 측정한다.
+# 업스트림은 로컬 스텁을 쓰므로 첫 요청은 Seoul API 조회·파싱·직렬화 경로를 모두 거친다. (리눅스 /proc 필요)
+#
+#   jar      java -jar (기존 Dockerfile과 같음)
+#   cds      압축을 푼 jar + AppCDS 아카이브
+#   aot-cds  Spring AOT로 처리한 컨텍스트 + AppCDS 아카이브
+#   native   GraalVM 네이티브 이미지 (NATIVE=1, GraalVM JDK 21로 실행해야 함)
+#
+#   scripts/startup-benchmark.sh
+#   RUNS=10 MODES="jar aot-cds" scripts/startup-benchmark.sh
+#   NATIVE=1 scripts/startup-benchmark.sh
+set -euo pipefail
+cd "$(dirname "$0")/.."
+
+STUB_PORT=${STUB_PORT:-18088}
+APP_PORT=${APP_PORT:-8080}
+RUNS=${RUNS:-5}
+HEAP=${HEAP:-512m}
+NATIVE=${NATIVE:-0}
+OUT=${OUT:-build/startup}
+# 강남역
+AREA_PATH=${AREA_PATH:-%EA%B0%95%EB%82%A8%EC%97%AD}
+TIMEOUT_SECONDS=${TIMEOUT_SECONDS:-60}
+
+MODES=${MODES:-"jar cds aot-cds"}
+if [ "$NATIVE" = 1 ]; then
+    MODES="$MODES native"
+fi
+
+JAR=build/libs/seoul-congestion-0.0.1-SNAPSHOT.jar
+EXTRACTED=$OUT/extracted
+NATIVE_BINARY=build/native/nativeCompile/seoul-congestion
+
+# 모든 모드가 같은 설정으로 시작하도록 (AOT는 ex 프로필 기준으로 빈 조건을 고정)
+APP_ARGS=(
+    --spring.profiles.active=ex
+    --server.port="$APP_PORT"
+    --seoul.api.base-url="http://localhost:$STUB_PORT"
+    --seoul.api.key=startup
+    --kakao.api.key=startup
+    --spring.datasource.url=jdbc:h2:mem:startup
+)
+
+mkdir -p "$OUT"
+# AOT 클래스가 들어 있어도 spring.aot.enabled를 켜지 않으면 기존과 똑같이 동작하므로 모든 JVM 모드가 같은 jar를 쓴다
+./gradlew -q bootJar loadtestClasses -Paot
+if [ "$NATIVE" = 1 ]; then
+    ./gradlew -q nativeCompile -Paot
+fi
+
+pids=()
+cleanup() {
+    for pid in "${pids[@]}"; do
+        kill "$pid" 2>/dev/null || true
+    done
+}
+trap cleanup EXIT
+
+./gradlew -q stubServer --args="--port=$STUB_PORT --latency=fixed:20ms" > "$OUT/stub.log" 2>&1 &
+pids+=($!)
+for _ in $(seq 1 60); do
+    if curl -s -o /dev/null "http://localhost:$STUB_PORT/"; then
+        break
+    fi
+    sleep 1
+done
+
+rm -rf "$EXTRACTED"
+# 원본 jar 이름과 상관없이 아래 학습·실행 명령이 같은 경로를 쓰도록 이름을 고정한다
+java -Djarmode=tools -jar "$JAR" extract --destination "$EXTRACTED" --application-filename app.jar
+
+# 컨텍스트 초기화 직후 종료하는 학습 실행으로 모드별 CDS 아카이브를 만든다
+train() {
+    local archive=$1
+    local aot=$2
+    java -XX:ArchiveClassesAtExit="$archive" -Dspring.context.exit=onRefresh -Dspring.aot.enabled="$aot" \
+        -jar "$EXTRACTED/app.jar" "${APP_ARGS[@]}" > "$OUT/train-$(basename "$archive" .jsa).log" 2>&1
+}
+train "$EXTRACTED/app.jsa" false
+train "$EXTRACTED/app-aot.jsa" true
+
+launch() {
+    case "$1" in
+        jar)
+            java -Xmx"$HEAP" -jar "$JAR" "${APP_ARGS[@]}" ;;
+        cds)
+            java -Xmx"$HEAP" -XX:SharedArchiveFile="$EXTRACTED/app.jsa" \
+                -jar "$EXTRACTED/app.jar" "${APP_ARGS[@]}" ;;
+        aot-cds)
+            java -Xmx"$HEAP" -XX:SharedArchiveFile="$EXTRACTED/app-aot.jsa" -Dspring.aot.enabled=true \
+                -jar "$EXTRACTED/app.jar" "${APP_ARGS[@]}" ;;
+        native)
+            "$NATIVE_BINARY" -Xmx"$HEAP" "${APP_ARGS[@]}" ;;
+    esac
+}
+
+now_ms() {
+    echo $(($(date +%s%N) / 1000000))
+}
+
+median() {
+    sort -n | awk '{ v[NR] = $1 } END { print (NR % 2) ? v[(NR + 1) / 2] : int((v[NR / 2] + v[NR / 2 + 1]) / 2) }'
+}
+
+RESULTS=$OUT/results.csv
+echo "mode,run,first_response_ms,rss_kb" > "$RESULTS"
+
+for mode in $MODES; do
+    for run in $(seq 1 "$RUNS"); do
+        started=$(now_ms)
+        launch "$mode" > "$OUT/$mode-$run.log" 2>&1 &
+        pid=$!
+
+        # curl 실행 비용 때문에 해상도는 수 ms 정도
+        elapsed=
+        while [ $(($(now_ms) - started)) -lt $((TIMEOUT_SECONDS * 1000)) ]; do
+            if curl -fs -o /dev/null --max-time 2 "http://localhost:$APP_PORT/api/congestion/$AREA_PATH"; then
+                elapsed=$(($(now_ms) - started))
+                break
+            fi
+            if ! kill -0 "$pid" 2>/dev/null; then
+                break
+            fi
+            sleep 0.01
+        done
+        rss=$(awk '/^VmRSS:/ { print $2 }' "/proc/$pid/status" 2>/dev/null || echo "")
+
+        kill "$pid" 2>/dev/null || true
+        wait "$pid" 2>/dev/null || true
+
+        if [ -z "$elapsed" ]; then
+            echo "$mode run $run: no successful response within ${TIMEOUT_SECONDS}s, see $OUT/$mode-$run.log" >&2
+            continue
+        fi
+        echo "$mode,$run,$elapsed,$rss" >> "$RESULTS"
+    done
+done
+
+printf '%-8s %8s %22s %14s\n' mode runs first_response_ms rss_mb
+for mode in $MODES; do
+    rows=$(grep "^$mode," "$RESULTS" || true)
+    if [ -z "$rows" ]; then
+        continue
+    fi
+    count=$(echo "$rows" | wc -l)
+    first=$(echo "$rows" | cut -d, -f3 | median)
+    rss=$(echo "$rows" | cut -d, -f4 | median)
+    printf '%-8s %8d %22d %14d\n' "$mode" "$count" "$first" $((rss / 1024))
+done
+echo "raw measurements written to $RESULTS (medians above)"
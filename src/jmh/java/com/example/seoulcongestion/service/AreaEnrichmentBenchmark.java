@@ -0,0 +1,99 @@
+package com.example.seoulcongestion.service;
+
+import com.example.seoulcongestion.domain.Area;
+import com.example.seoulcongestion.domain.CongestionData;
+import com.example.seoulcongestion.domain.CongestionLevel;
+import com.example.seoulcongestion.domain.CongestionSnapshot;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.core.io.ClassPathResource;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// 전체 장소(areas.csv)를 한 바퀴 돌며 좌표 보강과 응답 직렬화 비용을 잰다.
+// 초기 setLatitudeAndLongitude 의 문자열 switch(legacySwitchLookup)와 이를 대체한 AreaRegistry 조회(registryLookup)를 비교.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@OperationsPerInvocation(AreaEnrichmentBenchmark.AREA_COUNT)
+public class AreaEnrichmentBenchmark {
+
+    static final int AREA_COUNT = 115;
+
+    private AreaRegistry registry;
+    private ObjectMapper objectMapper;
+    // 응답에서 읽은 이름처럼 등록된 인스턴스와 다른 String
+    private String[] names;
+    private CongestionSnapshot[] snapshots;
+    private CongestionData[] responses;
+
+    @Setup
+    public void setUp() throws IOException {
+        registry = new AreaRegistry(new ClassPathResource("areas.csv"));
+        if (registry.size() != AREA_COUNT) {
+            throw new IllegalStateException("Expected " + AREA_COUNT + " areas but found " + registry.size());
+        }
+        objectMapper = new ObjectMapper();
+
+        List<Area> areas = registry.getAreas();
+        names = new String[areas.size()];
+        snapshots = new CongestionSnapshot[areas.size()];
+        responses = new CongestionData[areas.size()];
+        for (int i = 0; i < areas.size(); i++) {
+            Area area = areas.get(i);
+            names[i] = new String(area.getName().toCharArray());
+            snapshots[i] = CongestionSnapshot.builder()
+                    .area(area)
+                    .populationMinute(CongestionSnapshot.toPopulationMinute("2024-12-30 14:35"))
+                    .level(CongestionLevel.values()[i % 4])
+                    .congestMessage("사람이 몰려있을 수 있지만 크게 붐비지는 않아요.")
+                    .forecastMinutes(new short[0])
+                    .forecastLevels(new byte[0])
+                    .forecastCount(0)
+                    .build();
+            responses[i] = snapshots[i].toCongestionData();
+        }
+    }
+
+    // 초기 구현: 장소명 switch 로 좌표를 채움
+    @Benchmark
+    public void legacySwitchLookup(Blackhole blackhole) {
+        for (String name : names) {
+            LegacyAreaCoordinates coordinates = new LegacyAreaCoordinates();
+            LegacyAreaCoordinates.set(name, coordinates);
+            blackhole.consume(coordinates);
+        }
+    }
+
+    @Benchmark
+    public void registryLookup(Blackhole blackhole) {
+        for (String name : names) {
+            blackhole.consume(registry.get(name));
+        }
+    }
+
+    // 스냅샷에서 좌표가 채워진 응답 모델 생성
+    @Benchmark
+    public void toCongestionData(Blackhole blackhole) {
+        for (CongestionSnapshot snapshot : snapshots) {
+            blackhole.consume(snapshot.toCongestionData());
+        }
+    }
+
+    @Benchmark
+    public void serializeCongestionData(Blackhole blackhole) throws IOException {
+        for (CongestionData response : responses) {
+            blackhole.consume(objectMapper.writeValueAsBytes(response));
+        }
+    }
+}
@@ -0,0 +1,131 @@
+package com.example.seoulcongestion.service;
+
+import com.example.seoulcongestion.domain.Area;
+import com.example.seoulcongestion.domain.CongestionData;
+import com.example.seoulcongestion.domain.CongestionSnapshot;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// CITYDATA 응답 한 건을 파싱하는 비용: 초기 트리 모델 파싱 vs 필요한 필드만 읽는 스트리밍 파서
+// 픽스처는 src/test/resources/citydata 의 녹화 응답을 그대로 사용한다
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class CityDataParseBenchmark {
+
+    private static final DateTimeFormatter FORECAST_TIME_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm");
+
+    @Param({"gangnam-station.json"})
+    public String fixture;
+
+    // WebClient가 넘겨 주는 DataBuffer 크기와 비슷하게 나눠서 넣는다
+    @Param({"8192"})
+    public int chunkSize;
+
+    private final JsonFactory jsonFactory = new JsonFactory();
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private byte[] body;
+    private String text;
+    private Area area;
+
+    @Setup
+    public void setUp() throws IOException {
+        body = new ClassPathResource("citydata/" + fixture).getContentAsByteArray();
+        text = new String(body, StandardCharsets.UTF_8);
+        AreaRegistry registry = new AreaRegistry(new ClassPathResource("areas.csv"));
+        area = registry.get(objectMapper.readTree(body).path("CITYDATA").path("AREA_NM").asText());
+    }
+
+    @Benchmark
+    public CongestionSnapshot streamingSingleBuffer() {
+        CityDataParser parser = new CityDataParser(jsonFactory);
+        parser.feed(DefaultDataBufferFactory.sharedInstance.wrap(body));
+        return parser.finish(area);
+    }
+
+    @Benchmark
+    public CongestionSnapshot streamingChunked() {
+        CityDataParser parser = new CityDataParser(jsonFactory);
+        for (int from = 0; from < body.length; from += chunkSize) {
+            parser.feed(DefaultDataBufferFactory.sharedInstance.wrap(
+                    ByteBuffer.wrap(body, from, Math.min(chunkSize, body.length - from))));
+        }
+        return parser.finish(area);
+    }
+
+    // 스트리밍 파싱 결과를 응답 모델로 바꾸는 비용까지 포함
+    @Benchmark
+    public CongestionData streamingToCongestionData() {
+        return streamingSingleBuffer().toCongestionData();
+    }
+
+    // 초기 SeoulApiService.parseJsonData 와 같은 방식: 응답 전체를 String으로 받아 트리로 읽는다
+    @Benchmark
+    public CongestionData legacyTreeModel() throws IOException {
+        JsonNode root = new ObjectMapper().readTree(text);
+        JsonNode dataNode = root.get("CITYDATA");
+        if (dataNode == null || !dataNode.isObject()) {
+            throw new IllegalStateException("Missing CITYDATA in " + fixture);
+        }
+        return legacyParseAreaNode(dataNode);
+    }
+
+    // 트리 파싱만 따로 측정 (ObjectMapper 재사용)
+    @Benchmark
+    public JsonNode treeModelReadOnly() throws IOException {
+        return objectMapper.readTree(body);
+    }
+
+    // 초기 SeoulApiService.parseAreaNode 를 그대로 옮긴 기준선
+    private static CongestionData legacyParseAreaNode(JsonNode node) {
+        CongestionData.CongestionDataBuilder builder = CongestionData.builder()
+                .areaName(node.path("AREA_NM").asText());
+
+        for (JsonNode liveNode : node.path("LIVE_PPLTN_STTS")) {
+            builder.populationTime(liveNode.path("PPLTN_TIME").asText())
+                    .areaCongestLevel(liveNode.path("AREA_CONGEST_LVL").asText())
+                    .areaCongestMsg(liveNode.path("AREA_CONGEST_MSG").asText());
+
+            List<String> forecastTimes = new ArrayList<>();
+            List<String> forecastCongestions = new ArrayList<>();
+            for (JsonNode forecastNode : liveNode.path("FCST_PPLTN")) {
+                String fcstTimeStr = forecastNode.path("FCST_TIME").asText();
+                if (fcstTimeStr == null || fcstTimeStr.isEmpty()) {
+                    continue;
+                }
+                LocalDateTime fcstTime = LocalDateTime.parse(fcstTimeStr, FORECAST_TIME_FORMAT);
+                forecastTimes.add(fcstTime.toLocalTime().toString());
+                forecastCongestions.add(forecastNode.path("FCST_CONGEST_LVL").asText());
+            }
+            builder.forecastTimes(forecastTimes).forecastCongestions(forecastCongestions);
+        }
+
+        JsonNode roadTraffic = node.path("ROAD_TRAFFIC_STTS").path("AVG_ROAD_DATA");
+        if (!roadTraffic.isMissingNode()) {
+            builder.roadCongestMsg(roadTraffic.path("ROAD_MSG").asText())
+                    .roadCongestIdx(roadTraffic.path("ROAD_TRAFFIC_IDX").asText());
+        }
+        return builder.build();
+    }
+}
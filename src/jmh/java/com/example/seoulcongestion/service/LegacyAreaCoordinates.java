@@ -0,0 +1,475 @@
+package com.example.seoulcongestion.service;
+
+// 비교용으로 남겨 둔 초기 SeoulApiService.setLatitudeAndLongitude 의 장소명 switch.
+// CongestionData 가 불변이 되어 setter 대신 가변 좌표 객체에 쓴다.
+final class LegacyAreaCoordinates {
+
+    double latitude;
+    double longitude;
+
+    static void set(String areaName, LegacyAreaCoordinates target) {
+        switch (areaName) {
+            case "강남 MICE 관광특구":
+                target.latitude = 37.5133;
+                target.longitude = 127.0592;
+                break;
+            case "동대문 관광특구":
+                target.latitude = 37.5714;
+                target.longitude = 127.0090;
+                break;
+            case "명동 관광특구":
+                target.latitude = 37.5636;
+                target.longitude = 126.9827;
+                break;
+            case "이태원 관광특구":
+                target.latitude = 37.5345;
+                target.longitude = 126.9943;
+                break;
+            case "잠실 관광특구":
+                target.latitude = 37.5130;
+                target.longitude = 127.1025;
+                break;
+            case "종로·청계 관광특구":
+                target.latitude = 37.5705;
+                target.longitude = 126.9850;
+                break;
+            case "홍대 관광특구":
+                target.latitude = 37.5568;
+                target.longitude = 126.9237;
+                break;
+            case "경복궁":
+                target.latitude = 37.5796;
+                target.longitude = 126.9770;
+                break;
+            case "광화문·덕수궁":
+                target.latitude = 37.5664;
+                target.longitude = 126.9779;
+                break;
+            case "보신각":
+                target.latitude = 37.5704;
+                target.longitude = 126.9824;
+                break;
+            case "서울 암사동 유적":
+                target.latitude = 37.5513;
+                target.longitude = 127.1303;
+                break;
+            case "창덕궁·종묘":
+                target.latitude = 37.5794;
+                target.longitude = 126.9910;
+                break;
+            case "가산디지털단지역":
+                target.latitude = 37.4816;
+                target.longitude = 126.8828;
+                break;
+            case "강남역":
+                target.latitude = 37.4981;
+                target.longitude = 127.0276;
+                break;
+            case "건대입구역":
+                target.latitude = 37.5405;
+                target.longitude = 127.0701;
+                break;
+            case "고덕역":
+                target.latitude = 37.5545;
+                target.longitude = 127.1540;
+                break;
+            case "고속터미널역":
+                target.latitude = 37.5046;
+                target.longitude = 127.0046;
+                break;
+            case "교대역":
+                target.latitude = 37.4939;
+                target.longitude = 127.0148;
+                break;
+            case "구로디지털단지역":
+                target.latitude = 37.4854;
+                target.longitude = 126.9014;
+                break;
+            case "구로역":
+                target.latitude = 37.5030;
+                target.longitude = 126.8827;
+                break;
+            case "군자역":
+                target.latitude = 37.5573;
+                target.longitude = 127.0794;
+                break;
+            case "남구로역":
+                target.latitude = 37.4863;
+                target.longitude = 126.8877;
+                break;
+            case "대림역":
+                target.latitude = 37.4933;
+                target.longitude = 126.8965;
+                break;
+            case "동대문역":
+                target.latitude = 37.5714;
+                target.longitude = 127.0090;
+                break;
+            case "뚝섬역":
+                target.latitude = 37.5475;
+                target.longitude = 127.0471;
+                break;
+            case "미아사거리역":
+                target.latitude = 37.6132;
+                target.longitude = 127.0300;
+                break;
+            case "발산역":
+                target.latitude = 37.5585;
+                target.longitude = 126.8377;
+                break;
+            case "북한산우이역":
+                target.latitude = 37.6633;
+                target.longitude = 127.0122;
+                break;
+            case "사당역":
+                target.latitude = 37.4765;
+                target.longitude = 126.9816;
+                break;
+            case "삼각지역":
+                target.latitude = 37.5345;
+                target.longitude = 126.9733;
+                break;
+            case "서울대입구역":
+                target.latitude = 37.4813;
+                target.longitude = 126.9527;
+                break;
+            case "서울식물원·마곡나루역":
+                target.latitude = 37.5639;
+                target.longitude = 126.8328;
+                break;
+            case "서울역":
+                target.latitude = 37.5547;
+                target.longitude = 126.9706;
+                break;
+            case "선릉역":
+                target.latitude = 37.5045;
+                target.longitude = 127.0496;
+                break;
+            case "성신여대입구역":
+                target.latitude = 37.5926;
+                target.longitude = 127.0163;
+                break;
+            case "수유역":
+                target.latitude = 37.6387;
+                target.longitude = 127.0251;
+                break;
+            case "신논현역·논현역":
+                target.latitude = 37.5081;
+                target.longitude = 127.0250;
+                break;
+            case "신도림역":
+                target.latitude = 37.5086;
+                target.longitude = 126.8912;
+                break;
+            case "신림역":
+                target.latitude = 37.4848;
+                target.longitude = 126.9291;
+                break;
+            case "신촌·이대역":
+                target.latitude = 37.5597;
+                target.longitude = 126.9426;
+                break;
+            case "양재역":
+                target.latitude = 37.4848;
+                target.longitude = 127.0348;
+                break;
+            case "역삼역":
+                target.latitude = 37.5009;
+                target.longitude = 127.0367;
+                break;
+            case "연신내역":
+                target.latitude = 37.6190;
+                target.longitude = 126.9217;
+                break;
+            case "오목교역·목동운동장":
+                target.latitude = 37.5245;
+                target.longitude = 126.8750;
+                break;
+            case "왕십리역":
+                target.latitude = 37.5614;
+                target.longitude = 127.0370;
+                break;
+            case "용산역":
+                target.latitude = 37.5299;
+                target.longitude = 126.9646;
+                break;
+            case "이태원역":
+                target.latitude = 37.5345;
+                target.longitude = 126.9943;
+                break;
+            case "장지역":
+                target.latitude = 37.4780;
+                target.longitude = 127.1236;
+                break;
+            case "장한평역":
+                target.latitude = 37.5613;
+                target.longitude = 127.0643;
+                break;
+            case "천호역":
+                target.latitude = 37.5386;
+                target.longitude = 127.1230;
+                break;
+            case "총신대입구(이수)역":
+                target.latitude = 37.4860;
+                target.longitude = 126.9823;
+                break;
+            case "충정로역":
+                target.latitude = 37.5604;
+                target.longitude = 126.9634;
+                break;
+            case "합정역":
+                target.latitude = 37.5494;
+                target.longitude = 126.9132;
+                break;
+            case "혜화역":
+                target.latitude = 37.5823;
+                target.longitude = 127.0018;
+                break;
+            case "홍대입구역(2호선)":
+                target.latitude = 37.5568;
+                target.longitude = 126.9237;
+                break;
+            case "회기역":
+                target.latitude = 37.5895;
+                target.longitude = 127.0578;
+                break;
+            case "4·19 카페거리":
+                target.latitude = 37.6490;
+                target.longitude = 127.0137;
+                break;
+            case "가락시장":
+                target.latitude = 37.4922;
+                target.longitude = 127.1184;
+                break;
+            case "가로수길":
+                target.latitude = 37.5219;
+                target.longitude = 127.0236;
+                break;
+            case "광장(전통)시장":
+                target.latitude = 37.5701;
+                target.longitude = 126.9998;
+                break;
+            case "김포공항":
+                target.latitude = 37.5584;
+                target.longitude = 126.7940;
+                break;
+            case "낙산공원·이화마을":
+                target.latitude = 37.5794;
+                target.longitude = 127.0062;
+                break;
+            case "노량진":
+                target.latitude = 37.5130;
+                target.longitude = 126.9404;
+                break;
+            case "덕수궁길·정동길":
+                target.latitude = 37.5651;
+                target.longitude = 126.9756;
+                break;
+            case "방배역 먹자골목":
+                target.latitude = 37.4813;
+                target.longitude = 126.9964;
+                break;
+            case "북촌한옥마을":
+                target.latitude = 37.5826;
+                target.longitude = 126.9831;
+                break;
+            case "서촌":
+                target.latitude = 37.5792;
+                target.longitude = 126.9718;
+                break;
+            case "성수카페거리":
+                target.latitude = 37.5446;
+                target.longitude = 127.0555;
+                break;
+            case "수유리 먹자골목":
+                target.latitude = 37.6341;
+                target.longitude = 127.0212;
+                break;
+            case "쌍문동 맛집거리":
+                target.latitude = 37.6484;
+                target.longitude = 127.0347;
+                break;
+            case "압구정로데오거리":
+                target.latitude = 37.5274;
+                target.longitude = 127.0401;
+                break;
+            case "여의도":
+                target.latitude = 37.5219;
+                target.longitude = 126.9245;
+                break;
+            case "연남동":
+                target.latitude = 37.5658;
+                target.longitude = 126.9259;
+                break;
+            case "영등포 타임스퀘어":
+                target.latitude = 37.5172;
+                target.longitude = 126.9030;
+                break;
+            case "외대앞":
+                target.latitude = 37.5967;
+                target.longitude = 127.0634;
+                break;
+            case "용리단길":
+                target.latitude = 37.5285;
+                target.longitude = 126.9646;
+                break;
+            case "이태원 앤틱가구거리":
+                target.latitude = 37.5342;
+                target.longitude = 126.9950;
+                break;
+            case "인사동·익선동":
+                target.latitude = 37.5748;
+                target.longitude = 126.9854;
+                break;
+            case "창동 신경제 중심지":
+                target.latitude = 37.6534;
+                target.longitude = 127.0514;
+                break;
+            case "청담동 명품거리":
+                target.latitude = 37.5242;
+                target.longitude = 127.0492;
+                break;
+            case "청량리 제기동 일대 전통시장":
+                target.latitude = 37.5801;
+                target.longitude = 127.0384;
+                break;
+            case "해방촌·경리단길":
+                target.latitude = 37.5417;
+                target.longitude = 126.9876;
+                break;
+            case "DDP(동대문디자인플라자)":
+                target.latitude = 37.5673;
+                target.longitude = 127.0095;
+                break;
+            case "DMC(디지털미디어시티)":
+                target.latitude = 37.5771;
+                target.longitude = 126.8986;
+                break;
+            case "강서한강공원":
+                target.latitude = 37.5585;
+                target.longitude = 126.8377;
+                break;
+            case "고척돔":
+                target.latitude = 37.4967;
+                target.longitude = 126.8674;
+                break;
+            case "광나루한강공원":
+                target.latitude = 37.5484;
+                target.longitude = 127.1168;
+                break;
+            case "광화문광장":
+                target.latitude = 37.5717;
+                target.longitude = 126.9765;
+                break;
+            case "국립중앙박물관·용산가족공원":
+                target.latitude = 37.5245;
+                target.longitude = 126.9808;
+                break;
+            case "난지한강공원":
+                target.latitude = 37.5674;
+                target.longitude = 126.8828;
+                break;
+            case "남산공원":
+                target.latitude = 37.5512;
+                target.longitude = 126.9882;
+                break;
+            case "노들섬":
+                target.latitude = 37.5132;
+                target.longitude = 126.9534;
+                break;
+            case "뚝섬한강공원":
+                target.latitude = 37.5313;
+                target.longitude = 127.0668;
+                break;
+            case "망원한강공원":
+                target.latitude = 37.5520;
+                target.longitude = 126.8960;
+                break;
+            case "반포한강공원":
+                target.latitude = 37.5126;
+                target.longitude = 126.9957;
+                break;
+            case "북서울꿈의숲":
+                target.latitude = 37.6204;
+                target.longitude = 127.0408;
+                break;
+            case "불광천":
+                target.latitude = 37.6100;
+                target.longitude = 126.9200;
+                break;
+            case "서리풀공원·몽마르뜨공원":
+                target.latitude = 37.4958;
+                target.longitude = 127.0025;
+                break;
+            case "서울광장":
+                target.latitude = 37.5665;
+                target.longitude = 126.9780;
+                break;
+            case "서울대공원":
+                target.latitude = 37.4360;
+                target.longitude = 127.0079;
+                break;
+            case "서울숲공원":
+                target.latitude = 37.5443;
+                target.longitude = 127.0377;
+                break;
+            case "아차산":
+                target.latitude = 37.5548;
+                target.longitude = 127.1035;
+                break;
+            case "양화한강공원":
+                target.latitude = 37.5476;
+                target.longitude = 126.9134;
+                break;
+            case "어린이대공원":
+                target.latitude = 37.5487;
+                target.longitude = 127.0733;
+                break;
+            case "여의도한강공원":
+                target.latitude = 37.5283;
+                target.longitude = 126.9340;
+                break;
+            case "월드컵공원":
+                target.latitude = 37.5692;
+                target.longitude = 126.8982;
+                break;
+            case "응봉산":
+                target.latitude = 37.5600;
+                target.longitude = 127.0227;
+                break;
+            case "이촌한강공원":
+                target.latitude = 37.5220;
+                target.longitude = 126.9617;
+                break;
+            case "잠실종합운동장":
+                target.latitude = 37.5112;
+                target.longitude = 127.0717;
+                break;
+            case "잠실한강공원":
+                target.latitude = 37.5174;
+                target.longitude = 127.0813;
+                break;
+            case "잠원한강공원":
+                target.latitude = 37.5270;
+                target.longitude = 127.0112;
+                break;
+            case "청계산":
+                target.latitude = 37.4483;
+                target.longitude = 127.0586;
+                break;
+            case "청와대":
+                target.latitude = 37.5865;
+                target.longitude = 126.9748;
+                break;
+            case "북창동 먹자골목":
+                target.latitude = 37.5590;
+                target.longitude = 126.9780;
+                break;
+            case "남대문시장":
+                target.latitude = 37.5593;
+                target.longitude = 126.9770;
+                break;
+            default:
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package com.example.seoulcongestion.service;
+
+import com.example.seoulcongestion.domain.CongestionLevel;
+import com.example.seoulcongestion.domain.CongestionSnapshot;
+import com.example.seoulcongestion.domain.RoadTrafficIndex;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.core.io.ClassPathResource;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+// 캐시 적중 시 응답 본문을 만드는 비용: 요청마다 직렬화+gzip vs 스냅샷당 한 번 인코딩한 바이트 재사용
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ResponseEncodingBenchmark {
+
+    private ObjectMapper objectMapper;
+    private CongestionResponseEncoder encoder;
+    private CongestionSnapshot snapshot;
+
+    @Setup
+    public void setUp() throws IOException {
+        AreaRegistry registry = new AreaRegistry(new ClassPathResource("areas.csv"));
+        objectMapper = new ObjectMapper();
+        encoder = new CongestionResponseEncoder(objectMapper, registry, 11);
+
+        short[] minutes = new short[12];
+        byte[] levels = new byte[12];
+        for (int i = 0; i < minutes.length; i++) {
+            minutes[i] = (short) (15 * 60 + i * 60);
+            levels[i] = CongestionLevel.values()[i % 4].code();
+        }
+        snapshot = CongestionSnapshot.builder()
+                .area(registry.get("강남역"))
+                .populationMinute(CongestionSnapshot.toPopulationMinute("2024-12-30 14:35"))
+                .level(CongestionLevel.SLIGHTLY_CROWDED)
+                .congestMessage("사람이 몰려있을 수 있지만 크게 붐비지는 않아요. 도보 이동에 큰 제약이 없어요.")
+                .forecastMinutes(minutes)
+                .forecastLevels(levels)
+                .forecastCount(minutes.length)
+                .roadTrafficIndex(RoadTrafficIndex.SLOW)
+                .roadMessage("차량 흐름이 다소 느린 구간이 있어요.")
+                .build();
+        encoder.encode(snapshot);
+    }
+
+    @Benchmark
+    public byte[] serializePerRequest() throws IOException {
+        return objectMapper.writeValueAsBytes(snapshot.toCongestionData());
+    }
+
+    @Benchmark
+    public byte[] serializeAndGzipPerRequest() throws IOException {
+        byte[] json = objectMapper.writeValueAsBytes(snapshot.toCongestionData());
+        ByteArrayOutputStream out = new ByteArrayOutputStream(json.length / 2 + 32);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(json);
+        }
+        return out.toByteArray();
+    }
+
+    @Benchmark
+    public byte[] preEncodedGzip() {
+        return encoder.encode(snapshot).gzip();
+    }
+
+    @Benchmark
+    public byte[] preEncodedIdentity() {
+        return encoder.encode(snapshot).identity();
+    }
+}
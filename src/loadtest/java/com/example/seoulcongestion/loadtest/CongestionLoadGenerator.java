@@ -0,0 +1,171 @@
+package com.example.seoulcongestion.loadtest;
+
+import com.example.seoulcongestion.domain.Area;
+import com.example.seoulcongestion.service.AreaRegistry;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.web.util.UriUtils;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+// /api/congestion/{areaName} 에 일정한 도착률로 요청을 보내고 처리량과 지연 시간 백분위를 보고한다.
+// 응답을 기다리지 않고 예정된 시각에 요청을 보내며(open loop), 지연 시간도 예정 시각부터 재므로
+// 서버가 밀릴 때 대기 시간이 결과에서 빠지지 않는다.
+//
+//   ./gradlew loadGenerator --args="--target=http://localhost:8080 --rate=500 --duration=60s --zipf=1.0"
+//
+// --rate          초당 요청 수, --duration 측정 시간, --warmup 측정에서 제외할 앞부분
+// --zipf          장소 인기도 Zipf 지수 (0이면 균등), --seed 인기 장소 순서
+// --max-in-flight 이보다 많이 밀리면 요청을 보내지 않고 dropped 로 센다
+// --hgrm          HdrHistogram 백분위 분포 파일 경로 (HistogramLogAnalyzer 등으로 시각화)
+public class CongestionLoadGenerator {
+
+    private static final Duration TICK = Duration.ofMillis(1);
+
+    private final HttpClient client;
+    private final ZipfAreaSampler sampler;
+    private final double rate;
+    private final long warmupNanos;
+    private final long durationNanos;
+    private final int maxInFlight;
+
+    // 마이크로초 단위
+    private final Histogram latency = new ConcurrentHistogram(3);
+    private final Map<Integer, LongAdder> statuses = new ConcurrentHashMap<>();
+    private final LongAdder errors = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private long issued;
+
+    CongestionLoadGenerator(HttpClient client, ZipfAreaSampler sampler, LoadTestOptions options) {
+        this.client = client;
+        this.sampler = sampler;
+        this.rate = options.getDouble("rate", 200);
+        this.warmupNanos = options.getDuration("warmup", Duration.ofSeconds(10)).toNanos();
+        this.durationNanos = options.getDuration("duration", Duration.ofSeconds(60)).toNanos();
+        this.maxInFlight = options.getInt("max-in-flight", 10_000);
+    }
+
+    public static void main(String[] args) throws IOException {
+        LoadTestOptions options = new LoadTestOptions(args);
+        AreaRegistry areaRegistry = new AreaRegistry(new ClassPathResource("areas.csv"));
+        ZipfAreaSampler sampler = new ZipfAreaSampler(
+                areaRegistry.getAreas().stream().map(Area::getName).toList(),
+                options.getDouble("zipf", 1.0), options.getLong("seed", 42));
+
+        ConnectionProvider provider = ConnectionProvider.builder("load-generator")
+                .maxConnections(options.getInt("max-connections", 512))
+                .pendingAcquireMaxCount(-1)
+                .build();
+        HttpClient client = HttpClient.create(provider)
+                .baseUrl(options.getString("target", "http://localhost:8080"))
+                .responseTimeout(options.getDuration("timeout", Duration.ofSeconds(10)));
+
+        CongestionLoadGenerator generator = new CongestionLoadGenerator(client, sampler, options);
+        System.out.printf("top 10 areas receive %.1f%% of requests (most popular: %s)%n",
+                sampler.topShare(10) * 100, sampler.areaAtRank(0));
+        generator.run();
+        generator.report(System.out);
+
+        String hgrm = options.getString("hgrm", null);
+        if (hgrm != null) {
+            Path path = Path.of(hgrm);
+            Files.createDirectories(path.toAbsolutePath().getParent());
+            try (PrintStream out = new PrintStream(Files.newOutputStream(path), true, StandardCharsets.UTF_8)) {
+                generator.latency.outputPercentileDistribution(out, 1000.0);
+            }
+        }
+        provider.disposeLater().block();
+    }
+
+    void run() {
+        long startedAt = System.nanoTime();
+        long endsAt = startedAt + warmupNanos + durationNanos;
+        double intervalNanos = 1e9 / rate;
+
+        // 1ms 마다 지금까지 보냈어야 할 요청을 모두 보낸다
+        Disposable ticker = Flux.interval(TICK)
+                .onBackpressureDrop()
+                .subscribe(tick -> {
+                    long now = System.nanoTime();
+                    while (true) {
+                        long scheduledAt = startedAt + (long) (issued * intervalNanos);
+                        if (scheduledAt > now || scheduledAt >= endsAt) {
+                            break;
+                        }
+                        issued++;
+                        send(scheduledAt, scheduledAt >= startedAt + warmupNanos);
+                    }
+                });
+
+        Mono.delay(Duration.ofNanos(endsAt - System.nanoTime())).block();
+        ticker.dispose();
+        // 남은 요청이 끝나거나 시간 초과될 때까지 대기
+        Flux.interval(Duration.ofMillis(100))
+                .takeUntil(tick -> inFlight.get() == 0)
+                .blockLast();
+    }
+
+    private void send(long scheduledAt, boolean measured) {
+        if (inFlight.get() >= maxInFlight) {
+            if (measured) {
+                dropped.increment();
+            }
+            return;
+        }
+        inFlight.incrementAndGet();
+        String path = "/api/congestion/" + UriUtils.encodePathSegment(sampler.next(), StandardCharsets.UTF_8);
+        client.headers(headers -> headers.set("Accept-Encoding", "gzip"))
+                .get()
+                .uri(path)
+                .responseSingle((response, body) -> body.asByteArray()
+                        .defaultIfEmpty(new byte[0])
+                        .thenReturn(response.status().code()))
+                .subscribe(status -> {
+                    if (measured) {
+                        statuses.computeIfAbsent(status, code -> new LongAdder()).increment();
+                        latency.recordValue(TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - scheduledAt));
+                    }
+                    inFlight.decrementAndGet();
+                }, error -> {
+                    if (measured) {
+                        errors.increment();
+                    }
+                    inFlight.decrementAndGet();
+                });
+    }
+
+    void report(PrintStream out) {
+        double seconds = durationNanos / 1e9;
+        long completed = latency.getTotalCount();
+        out.printf("target rate %.0f req/s, measured %.0f s (after %.0f s warm-up)%n", rate, seconds, warmupNanos / 1e9);
+        out.printf("completed %d (%.1f req/s), errors %d, dropped %d%n",
+                completed, completed / seconds, errors.sum(), dropped.sum());
+        Map<Integer, Long> byStatus = new TreeMap<>();
+        statuses.forEach((status, count) -> byStatus.put(status, count.sum()));
+        out.printf("status %s%n", byStatus);
+        out.printf("latency ms  p50 %.2f  p90 %.2f  p99 %.2f  p99.9 %.2f  max %.2f%n",
+                percentile(50), percentile(90), percentile(99), percentile(99.9), latency.getMaxValue() / 1000.0);
+    }
+
+    private double percentile(double percentile) {
+        return latency.getValueAtPercentile(percentile) / 1000.0;
+    }
+}
@@ -0,0 +1,38 @@
+package com.example.seoulcongestion.loadtest;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+
+// 스텁 서버의 응답 지연 분포
+//   fixed:50ms
+//   uniform:20ms:200ms
+//   lognormal:80ms:0.5   (중앙값, 로그 표준편차 - 실제 API처럼 꼬리가 긴 분포)
+interface LatencyDistribution {
+
+    Duration next();
+
+    static LatencyDistribution parse(String spec, Duration cap) {
+        String[] parts = spec.split(":");
+        LatencyDistribution distribution = switch (parts[0]) {
+            case "fixed" -> {
+                Duration latency = LoadTestOptions.parseDuration(parts[1]);
+                yield () -> latency;
+            }
+            case "uniform" -> {
+                long min = LoadTestOptions.parseDuration(parts[1]).toNanos();
+                long max = LoadTestOptions.parseDuration(parts[2]).toNanos();
+                yield () -> Duration.ofNanos(ThreadLocalRandom.current().nextLong(min, max + 1));
+            }
+            case "lognormal" -> {
+                double mu = Math.log(LoadTestOptions.parseDuration(parts[1]).toNanos());
+                double sigma = Double.parseDouble(parts[2]);
+                yield () -> Duration.ofNanos((long) Math.exp(mu + sigma * ThreadLocalRandom.current().nextGaussian()));
+            }
+            default -> throw new IllegalArgumentException("Unknown latency distribution: " + spec);
+        };
+        return () -> {
+            Duration latency = distribution.next();
+            return latency.compareTo(cap) > 0 ? cap : latency;
+        };
+    }
+}
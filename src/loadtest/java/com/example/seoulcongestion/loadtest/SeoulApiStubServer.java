@@ -0,0 +1,174 @@
+package com.example.seoulcongestion.loadtest;
+
+import com.example.seoulcongestion.service.AreaRegistry;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.web.util.UriUtils;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.server.HttpServer;
+import reactor.netty.http.server.HttpServerRequest;
+import reactor.netty.http.server.HttpServerResponse;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+// 호출 한도를 쓰지 않고 부하 테스트할 수 있도록 Seoul API citydata 엔드포인트를 흉내내는 로컬 서버.
+// SeoulApiService 와 같은 /{key}/{type}/{service}/{start}/{end}/{area} 경로에 녹화된 CITYDATA 응답을 돌려준다.
+//
+//   ./gradlew stubServer --args="--port=18088 --latency=lognormal:80ms:0.5 --error-rate=0.01"
+//
+// --fixture        녹화된 응답 파일 (기본: 테스트 픽스처 citydata/gangnam-station.json)
+// --latency        지연 분포 (LatencyDistribution 참고), --latency-cap 으로 상한 지정
+// --error-rate     error-status 로 실패시킬 비율, --hang-rate 는 hang 동안 응답하지 않을 비율
+// --payload-bytes  응답이 이 크기보다 작으면 파서가 건너뛰는 필드로 채운다
+public class SeoulApiStubServer {
+
+    private static final ZoneId SEOUL = ZoneId.of("Asia/Seoul");
+    private static final DateTimeFormatter TIME_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm");
+    private static final Pattern TIMESTAMP = Pattern.compile("\\d{4}-\\d{2}-\\d{2} \\d{2}:\\d{2}");
+    private static final Pattern AREA_NAME = Pattern.compile("(\"AREA_NM\"\\s*:\\s*\")[^\"]*(\")");
+    private static final Pattern POPULATION_TIME = Pattern.compile("\"PPLTN_TIME\"\\s*:\\s*\"([^\"]+)\"");
+    private static final long UPDATE_MINUTES = 5;
+    private static final byte[] NO_DATA = """
+            {"RESULT":{"RESULT.CODE":"INFO-200","RESULT.MESSAGE":"해당하는 데이터가 없습니다."}}"""
+            .getBytes(StandardCharsets.UTF_8);
+
+    private final AreaRegistry areaRegistry;
+    private final String template;
+    private final LocalDateTime recordedAt;
+    private final int payloadBytes;
+    private final LatencyDistribution latency;
+    private final double errorRate;
+    private final int errorStatus;
+    private final double hangRate;
+    private final Duration hang;
+
+    // 장소별로 PPLTN_TIME 갱신 주기마다 한 번만 만든다
+    private final Map<String, Rendered> rendered = new ConcurrentHashMap<>();
+    private final LongAdder served = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final LongAdder hung = new LongAdder();
+    private final LongAdder unknown = new LongAdder();
+
+    private record Rendered(LocalDateTime populationTime, byte[] body) {
+    }
+
+    SeoulApiStubServer(AreaRegistry areaRegistry, Resource fixture, LoadTestOptions options) throws IOException {
+        this.areaRegistry = areaRegistry;
+        this.template = fixture.getContentAsString(StandardCharsets.UTF_8);
+        Matcher populationTime = POPULATION_TIME.matcher(template);
+        if (!populationTime.find()) {
+            throw new IllegalArgumentException("Fixture has no PPLTN_TIME: " + fixture);
+        }
+        this.recordedAt = LocalDateTime.parse(populationTime.group(1), TIME_FORMAT);
+        this.payloadBytes = options.getInt("payload-bytes", 0);
+        this.latency = LatencyDistribution.parse(options.getString("latency", "lognormal:80ms:0.5"),
+                options.getDuration("latency-cap", Duration.ofSeconds(10)));
+        this.errorRate = options.getDouble("error-rate", 0);
+        this.errorStatus = options.getInt("error-status", 503);
+        this.hangRate = options.getDouble("hang-rate", 0);
+        this.hang = options.getDuration("hang", Duration.ofSeconds(30));
+    }
+
+    public static void main(String[] args) throws IOException {
+        LoadTestOptions options = new LoadTestOptions(args);
+        String fixturePath = options.getString("fixture", null);
+        Resource fixture = fixturePath == null
+                ? new ClassPathResource("citydata/gangnam-station.json")
+                : new FileSystemResource(fixturePath);
+
+        SeoulApiStubServer stub = new SeoulApiStubServer(new AreaRegistry(new ClassPathResource("areas.csv")),
+                fixture, options);
+        DisposableServer server = HttpServer.create()
+                .port(options.getInt("port", 18088))
+                .route(routes -> routes.get("/{key}/{type}/{service}/{start}/{end}/{area}", stub::handle))
+                .bindNow();
+        System.out.printf("Seoul API stub listening on http://localhost:%d (fixture %s)%n", server.port(), fixture);
+
+        Duration reportInterval = options.getDuration("report-interval", Duration.ofSeconds(10));
+        Flux.interval(reportInterval, reportInterval)
+                .subscribe(tick -> System.out.println(stub.summary()));
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> System.out.println(stub.summary())));
+        server.onDispose().block();
+    }
+
+    Mono<Void> handle(HttpServerRequest request, HttpServerResponse response) {
+        String areaName = UriUtils.decode(request.param("area"), StandardCharsets.UTF_8);
+        double roll = ThreadLocalRandom.current().nextDouble();
+
+        if (roll < hangRate) {
+            hung.increment();
+            return Mono.delay(hang).then(response.status(504).send());
+        }
+        Duration delay = latency.next();
+        if (roll < hangRate + errorRate) {
+            failed.increment();
+            return Mono.delay(delay).then(response.status(errorStatus).send());
+        }
+
+        byte[] body;
+        if (areaRegistry.contains(areaName)) {
+            body = render(areaName);
+        } else {
+            unknown.increment();
+            body = NO_DATA;
+        }
+        served.increment();
+        return Mono.delay(delay)
+                .then(response.header("Content-Type", "application/json;charset=UTF-8")
+                        .header("Content-Length", String.valueOf(body.length))
+                        .sendByteArray(Mono.just(body))
+                        .then());
+    }
+
+    // 실제 API처럼 PPLTN_TIME 이 5분 단위로 바뀌도록 녹화 시각 기준으로 모든 시각을 옮긴다
+    byte[] render(String areaName) {
+        LocalDateTime now = LocalDateTime.now(SEOUL).truncatedTo(ChronoUnit.MINUTES);
+        LocalDateTime populationTime = now.minusMinutes(now.getMinute() % UPDATE_MINUTES);
+        Rendered cached = rendered.get(areaName);
+        if (cached != null && cached.populationTime().equals(populationTime)) {
+            return cached.body();
+        }
+
+        long shiftMinutes = ChronoUnit.MINUTES.between(recordedAt, populationTime);
+        String json = TIMESTAMP.matcher(template).replaceAll(match ->
+                LocalDateTime.parse(match.group(), TIME_FORMAT).plusMinutes(shiftMinutes).format(TIME_FORMAT));
+        json = AREA_NAME.matcher(json).replaceAll(match ->
+                Matcher.quoteReplacement(match.group(1) + areaName + match.group(2)));
+        byte[] body = pad(json.getBytes(StandardCharsets.UTF_8));
+
+        rendered.put(areaName, new Rendered(populationTime, body));
+        return body;
+    }
+
+    // CITYDATA 안에 파서가 사용하지 않는 필드를 추가해 응답 크기를 맞춘다
+    private byte[] pad(byte[] body) {
+        int missing = payloadBytes - body.length;
+        if (missing <= 0) {
+            return body;
+        }
+        String json = new String(body, StandardCharsets.UTF_8);
+        int cityData = json.indexOf('{', json.indexOf("\"CITYDATA\"")) + 1;
+        String padding = "\"STUB_PADDING\":\"" + "x".repeat(Math.max(0, missing - 20)) + "\",";
+        return (json.substring(0, cityData) + padding + json.substring(cityData)).getBytes(StandardCharsets.UTF_8);
+    }
+
+    String summary() {
+        return String.format("stub: served %d (unknown area %d), errors %d, hung %d",
+                served.sum(), unknown.sum(), failed.sum(), hung.sum());
+    }
+}
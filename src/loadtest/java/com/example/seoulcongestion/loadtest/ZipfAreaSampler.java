@@ -0,0 +1,47 @@
+package com.example.seoulcongestion.loadtest;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
+
+// 장소 인기도가 Zipf 분포를 따른다고 보고 요청할 장소를 고른다 (exponent 가 클수록 소수 장소에 몰림).
+// 순위는 seed 로 섞어서 같은 seed 면 같은 장소가 인기 장소가 된다.
+final class ZipfAreaSampler {
+
+    private final String[] areasByRank;
+    private final double[] cumulative;
+
+    ZipfAreaSampler(List<String> areaNames, double exponent, long seed) {
+        List<String> shuffled = new ArrayList<>(areaNames);
+        Collections.shuffle(shuffled, new Random(seed));
+        this.areasByRank = shuffled.toArray(String[]::new);
+
+        this.cumulative = new double[areasByRank.length];
+        double total = 0;
+        for (int rank = 0; rank < areasByRank.length; rank++) {
+            total += 1 / Math.pow(rank + 1, exponent);
+            cumulative[rank] = total;
+        }
+        for (int rank = 0; rank < cumulative.length; rank++) {
+            cumulative[rank] /= total;
+        }
+    }
+
+    String next() {
+        int index = Arrays.binarySearch(cumulative, ThreadLocalRandom.current().nextDouble());
+        int rank = index >= 0 ? index : -index - 1;
+        return areasByRank[Math.min(rank, areasByRank.length - 1)];
+    }
+
+    // 상위 count 개 장소가 받는 요청 비율
+    double topShare(int count) {
+        return cumulative[Math.min(count, cumulative.length) - 1];
+    }
+
+    String areaAtRank(int rank) {
+        return areasByRank[rank];
+    }
+}
@@ -2,8 +2,10 @@ package com.example.seoulcongestion;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
+@EnableScheduling
 public class SeoulCongestionApplication {
 
     public static void main(String[] args) {
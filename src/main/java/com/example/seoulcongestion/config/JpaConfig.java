@@ -0,0 +1,19 @@
+package com.example.seoulcongestion.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class JpaConfig {
+
+    // 기록 저장 시 INSERT를 JDBC 배치로 묶어 전송
+    @Bean
+    public HibernatePropertiesCustomizer hibernateBatchingCustomizer(@Value("${seoul.history.batch-size:50}") int batchSize) {
+        return properties -> {
+            properties.putIfAbsent("hibernate.jdbc.batch_size", batchSize);
+            properties.putIfAbsent("hibernate.order_inserts", true);
+        };
+    }
+}
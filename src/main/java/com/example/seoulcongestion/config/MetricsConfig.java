@@ -0,0 +1,38 @@
+package com.example.seoulcongestion.config;
+
+import com.example.seoulcongestion.service.CongestionSnapshotService;
+import com.example.seoulcongestion.service.QuotaBudget;
+import com.example.seoulcongestion.service.SeoulApiService;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class MetricsConfig {
+
+    // 진행 중인 Seoul API 조회 수, 캐시 크기, 호출 한도 사용량
+    @Bean
+    public MeterBinder congestionGauges(SeoulApiService seoulApiService,
+                                       CongestionSnapshotService congestionSnapshotService,
+                                       QuotaBudget quotaBudget) {
+        return registry -> {
+            Gauge.builder("seoul.api.inflight", seoulApiService, SeoulApiService::getInFlightRequestCount)
+                    .description("Seoul API fetches currently in flight")
+                    .register(registry);
+            FunctionCounter.builder("seoul.api.coalesced", seoulApiService, SeoulApiService::getCoalescedRequestCount)
+                    .description("Requests that joined an in-flight fetch instead of calling the Seoul API")
+                    .register(registry);
+            Gauge.builder("congestion.cache.size", congestionSnapshotService, service -> service.getSnapshots().size())
+                    .description("Areas with a cached snapshot")
+                    .register(registry);
+            Gauge.builder("seoul.quota.used", quotaBudget, QuotaBudget::getUsedToday)
+                    .description("Seoul API calls made today")
+                    .register(registry);
+            Gauge.builder("seoul.quota.available", quotaBudget, QuotaBudget::getAvailableTokens)
+                    .description("Seoul API calls available in the token bucket")
+                    .register(registry);
+        };
+    }
+}
@@ -0,0 +1,43 @@
+package com.example.seoulcongestion.config;
+
+import com.example.seoulcongestion.exception.CustomErrorInfo;
+import com.example.seoulcongestion.exception.CustomException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Configuration
+public class ResilienceConfig {
+
+    // 최근 호출 중 실패 비율이 임계값을 넘으면 open-duration 동안 Seoul API를 호출하지 않는다
+    @Bean
+    public CircuitBreaker seoulApiCircuitBreaker(
+            @Value("${seoul.api.circuit-breaker.failure-rate-threshold:50}") float failureRateThreshold,
+            @Value("${seoul.api.circuit-breaker.sliding-window-size:20}") int slidingWindowSize,
+            @Value("${seoul.api.circuit-breaker.minimum-calls:10}") int minimumCalls,
+            @Value("${seoul.api.circuit-breaker.open-duration:PT30S}") Duration openDuration,
+            @Value("${seoul.api.circuit-breaker.half-open-calls:3}") int halfOpenCalls) {
+        CircuitBreakerConfig config = CircuitBreakerConfig.custom()
+                .slidingWindowType(CircuitBreakerConfig.SlidingWindowType.COUNT_BASED)
+                .slidingWindowSize(slidingWindowSize)
+                .minimumNumberOfCalls(minimumCalls)
+                .failureRateThreshold(failureRateThreshold)
+                .waitDurationInOpenState(openDuration)
+                .permittedNumberOfCallsInHalfOpenState(halfOpenCalls)
+                // Seoul API가 정상 응답으로 장소를 거부했거나 호출 한도 때문에 호출하지 않은 경우는 장애로 세지 않는다
+                .ignoreException(ResilienceConfig::isIgnored)
+                .build();
+        return CircuitBreaker.of("seoul-api", config);
+    }
+
+    private static boolean isIgnored(Throwable e) {
+        return e instanceof CustomException custom
+                && (custom.getCustomErrorInfo() == CustomErrorInfo.INVALID_AREA_NAME
+                || custom.getCustomErrorInfo() == CustomErrorInfo.INVALID_JSON_STRUCTURE
+                || custom.getCustomErrorInfo() == CustomErrorInfo.QUOTA_EXHAUSTED);
+    }
+}
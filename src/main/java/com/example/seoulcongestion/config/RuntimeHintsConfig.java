@@ -0,0 +1,48 @@
+package com.example.seoulcongestion.config;
+
+import com.example.seoulcongestion.domain.CongestionData;
+import com.example.seoulcongestion.dto.ApiResponse;
+import com.example.seoulcongestion.dto.AreaError;
+import com.example.seoulcongestion.dto.AreaResponse;
+import com.example.seoulcongestion.dto.CongestionChangeEvent;
+import com.example.seoulcongestion.dto.CongestionRankingResponse;
+import com.example.seoulcongestion.dto.ErrorResponse;
+import com.example.seoulcongestion.dto.NearbyAreaResponse;
+import com.example.seoulcongestion.dto.RefreshAllocationResponse;
+import com.example.seoulcongestion.dto.WeeklyProfileResponse;
+import org.springframework.aot.hint.BindingReflectionHintsRegistrar;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.ImportRuntimeHints;
+
+// 네이티브 이미지(./gradlew nativeCompile -Paot)에서 리플렉션으로 접근하는 타입과 리소스
+@Configuration
+@ImportRuntimeHints(RuntimeHintsConfig.CongestionRuntimeHints.class)
+public class RuntimeHintsConfig {
+
+    static class CongestionRuntimeHints implements RuntimeHintsRegistrar {
+
+        private final BindingReflectionHintsRegistrar bindingHints = new BindingReflectionHintsRegistrar();
+
+        @Override
+        public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+            // CongestionData는 ObjectMapper로 직접 직렬화하고(컨트롤러 반환형은 byte[]), 나머지는 SSE·오류 응답 등
+            // 반환형만으로는 AOT가 찾지 못하는 경로가 있어 응답 타입을 모두 등록 (하위 타입은 재귀적으로 등록됨)
+            bindingHints.registerReflectionHints(hints.reflection(),
+                    CongestionData.class,
+                    ApiResponse.class,
+                    AreaError.class,
+                    AreaResponse.class,
+                    CongestionChangeEvent.class,
+                    CongestionRankingResponse.class,
+                    ErrorResponse.class,
+                    NearbyAreaResponse.class,
+                    RefreshAllocationResponse.class,
+                    WeeklyProfileResponse.class);
+
+            // AreaRegistry가 시작할 때 읽는 장소 목록
+            hints.resources().registerPattern("areas.csv");
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.example.seoulcongestion.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+
+// Seoul API 호출용 HTTP 클라이언트 설정 (seoul.api.client.*)
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "seoul.api.client")
+public class SeoulApiClientProperties {
+
+    // 커넥션 풀 크기와 풀이 가득 찼을 때 대기할 수 있는 요청 수
+    private int maxConnections = 64;
+    private int pendingAcquireMaxCount = 1000;
+    private Duration pendingAcquireTimeout = Duration.ofSeconds(5);
+
+    // 유휴 커넥션 정리 (서버가 먼저 끊은 커넥션을 재사용하지 않도록 서버 keep-alive보다 짧게)
+    private Duration maxIdleTime = Duration.ofSeconds(20);
+    private Duration maxLifeTime = Duration.ofMinutes(5);
+    private Duration evictionInterval = Duration.ofSeconds(30);
+
+    private boolean keepAlive = true;
+
+    private Duration connectTimeout = Duration.ofSeconds(2);
+    // 요청마다 응답을 읽는 동안의 유휴 시간 제한 (seoul.api.call-timeout 이하여야 함, WebClientConfig 참고)
+    private Duration responseTimeout = Duration.ofSeconds(2);
+
+    // CITYDATA 응답은 기본값(256KB)을 넘을 수 있다.
+    // 집계 디코더의 메모리 제한이자, 스트리밍으로 파싱하는 응답 본문의 최대 크기 (SeoulApiService)
+    private DataSize maxInMemorySize = DataSize.ofMegabytes(2);
+
+    // Micrometer가 클래스패스에 있을 때만 풀 지표를 기록
+    private boolean metrics = true;
+}
@@ -1,10 +1,21 @@
 package com.example.seoulcongestion.config;
 
+import io.netty.channel.ChannelOption;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.util.ClassUtils;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.time.Duration;
 
 @Configuration
+@EnableConfigurationProperties(SeoulApiClientProperties.class)
 public class WebClientConfig {
 
     @Bean
@@ -12,4 +23,50 @@ public class WebClientConfig {
         return WebClient.builder();
     }
 
+    // 갱신이 몰려도 커넥션을 재사용하도록 Seoul API 전용 풀을 둔다
+    @Bean(destroyMethod = "dispose")
+    public ConnectionProvider seoulApiConnectionProvider(SeoulApiClientProperties properties) {
+        boolean metrics = properties.isMetrics()
+                && ClassUtils.isPresent("io.micrometer.core.instrument.Metrics", getClass().getClassLoader());
+
+        return ConnectionProvider.builder("seoul-api")
+                .maxConnections(properties.getMaxConnections())
+                .pendingAcquireMaxCount(properties.getPendingAcquireMaxCount())
+                .pendingAcquireTimeout(properties.getPendingAcquireTimeout())
+                .maxIdleTime(properties.getMaxIdleTime())
+                .maxLifeTime(properties.getMaxLifeTime())
+                .evictInBackground(properties.getEvictionInterval())
+                .metrics(metrics)
+                .build();
+    }
+
+    // 시간 제한은 두 단계다.
+    // - responseTimeout: 요청을 보낸 뒤 응답이 끝날 때까지 이만큼 아무것도 읽지 못하면 커넥션을 닫는다.
+    //   요청마다 걸었다가 응답이 끝나면 떼므로 풀에서 쉬는 커넥션에는 적용되지 않는다.
+    // - seoul.api.call-timeout: 풀 대기, 연결, 본문 수신까지 포함한 시도 한 번 전체의 상한 (SeoulApiService)
+    // call-timeout이 더 짧으면 responseTimeout은 절대 먼저 걸리지 않으므로 시작할 때 막는다
+    @Bean
+    public WebClient seoulApiWebClient(WebClient.Builder webClientBuilder,
+                                       @Qualifier("seoulApiConnectionProvider") ConnectionProvider connectionProvider,
+                                       SeoulApiClientProperties properties,
+                                       @Value("${seoul.api.base-url}") String baseUrl,
+                                       @Value("${seoul.api.call-timeout:PT3S}") Duration callTimeout) {
+        if (callTimeout.compareTo(properties.getResponseTimeout()) < 0) {
+            throw new IllegalArgumentException(
+                    "seoul.api.call-timeout must not be shorter than seoul.api.client.response-timeout");
+        }
+
+        HttpClient httpClient = HttpClient.create(connectionProvider)
+                .keepAlive(properties.isKeepAlive())
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) properties.getConnectTimeout().toMillis())
+                .responseTimeout(properties.getResponseTimeout());
+
+        // 공유 빌더를 복제해 다른 클라이언트 설정에 영향을 주지 않는다
+        return webClientBuilder.clone()
+                .baseUrl(baseUrl)
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .codecs(codecs -> codecs.defaultCodecs().maxInMemorySize((int) properties.getMaxInMemorySize().toBytes()))
+                .build();
+    }
+
 }
@@ -0,0 +1,85 @@
+package com.example.seoulcongestion.controller;
+
+import com.example.seoulcongestion.domain.Area;
+import com.example.seoulcongestion.domain.CongestionSnapshot;
+import com.example.seoulcongestion.dto.AreaResponse;
+import com.example.seoulcongestion.dto.NearbyAreaResponse;
+import com.example.seoulcongestion.dto.WeeklyProfileResponse;
+import com.example.seoulcongestion.exception.CustomErrorInfo;
+import com.example.seoulcongestion.exception.CustomException;
+import com.example.seoulcongestion.service.AreaRegistry;
+import com.example.seoulcongestion.service.AreaSpatialIndex;
+import com.example.seoulcongestion.service.CongestionSnapshotService;
+import com.example.seoulcongestion.service.WeeklyCongestionAggregator;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.Duration;
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/areas")
+public class AreaController {
+
+    private static final int MAX_NEARBY_LIMIT = 50;
+    private static final double MAX_NEARBY_RADIUS_METERS = 20_000;
+
+    private final AreaRegistry areaRegistry;
+    private final AreaSpatialIndex areaSpatialIndex;
+    private final CongestionSnapshotService congestionSnapshotService;
+    private final WeeklyCongestionAggregator weeklyCongestionAggregator;
+
+    // 장소 목록은 실행 중에 바뀌지 않으므로 응답 객체를 한 번만 만든다
+    private final List<AreaResponse> areas;
+
+    public AreaController(AreaRegistry areaRegistry, AreaSpatialIndex areaSpatialIndex,
+                          CongestionSnapshotService congestionSnapshotService,
+                          WeeklyCongestionAggregator weeklyCongestionAggregator) {
+        this.areaRegistry = areaRegistry;
+        this.areaSpatialIndex = areaSpatialIndex;
+        this.congestionSnapshotService = congestionSnapshotService;
+        this.weeklyCongestionAggregator = weeklyCongestionAggregator;
+        this.areas = areaRegistry.getAreas().stream().map(AreaResponse::new).toList();
+    }
+
+    @GetMapping
+    public ResponseEntity<List<AreaResponse>> getAreas() {
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.maxAge(Duration.ofHours(1)).cachePublic())
+                .body(areas);
+    }
+
+    // 주어진 위치에서 가까운 장소와 캐시된 혼잡도 (Seoul API는 호출하지 않음)
+    @GetMapping("/nearby")
+    public List<NearbyAreaResponse> getNearbyAreas(@RequestParam double lat,
+                                                   @RequestParam double lng,
+                                                   @RequestParam(defaultValue = "5") int k,
+                                                   @RequestParam(defaultValue = "2000") double radius) {
+        // NaN은 범위 비교를 모두 통과하므로 유한한 값인지 먼저 확인
+        if (!Double.isFinite(lat) || !Double.isFinite(lng) || lat < -90 || lat > 90 || lng < -180 || lng > 180
+                || k < 1 || k > MAX_NEARBY_LIMIT || !(radius > 0) || radius > MAX_NEARBY_RADIUS_METERS) {
+            throw new CustomException(CustomErrorInfo.INVALID_REQUEST_PARAMETER);
+        }
+
+        return areaSpatialIndex.findNearest(lat, lng, k, radius).stream()
+                .map(nearby -> new NearbyAreaResponse(nearby, congestionSnapshotService.find(nearby.getArea().getName())
+                        .map(CongestionSnapshot::toCongestionData)
+                        .orElse(null)))
+                .toList();
+    }
+
+    // 요일·시간대별 혼잡도 분포 (미리 누적된 카운터만 읽음)
+    @GetMapping("/{areaName}/weekly-profile")
+    public WeeklyProfileResponse getWeeklyProfile(@PathVariable String areaName) {
+        Area area = areaRegistry.get(areaName.trim());
+        if (area == null) {
+            throw new CustomException(CustomErrorInfo.INVALID_AREA_NAME);
+        }
+        return weeklyCongestionAggregator.getProfile(area);
+    }
+}
@@ -1,11 +1,25 @@
 package com.example.seoulcongestion.controller;
 
-import com.example.seoulcongestion.domain.CongestionData;
-import com.example.seoulcongestion.service.SeoulApiService;
+import com.example.seoulcongestion.dto.ApiResponse;
+import com.example.seoulcongestion.dto.CongestionChangeEvent;
+import com.example.seoulcongestion.service.CongestionBatchService;
+import com.example.seoulcongestion.service.CongestionCachePolicy;
+import com.example.seoulcongestion.service.CongestionChangeStream;
+import com.example.seoulcongestion.service.CongestionMetrics;
+import com.example.seoulcongestion.service.CongestionResponseEncoder;
+import com.example.seoulcongestion.service.CongestionSnapshotService;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.codec.ServerSentEvent;
 import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
 
 @RestController
 @RequestMapping("/api/congestion")
@@ -13,12 +27,44 @@ import org.springframework.web.bind.annotation.*;
 public class CongestionController {
 
     private static final Logger logger = LoggerFactory.getLogger(CongestionController.class);
-    private final SeoulApiService seoulApiService;
+    private final CongestionSnapshotService congestionSnapshotService;
+    private final CongestionBatchService congestionBatchService;
+    private final CongestionChangeStream congestionChangeStream;
+    private final CongestionCachePolicy congestionCachePolicy;
+    private final CongestionResponseEncoder congestionResponseEncoder;
+    private final CongestionMetrics congestionMetrics;
 
-    @GetMapping("/{areaName}")
-    public CongestionData getCongestion(@PathVariable String areaName) {
+    // 캐시된 스냅샷의 PPLTN_TIME이 클라이언트가 가진 것과 같으면 304 (Seoul API 호출 없음),
+    // 아니면 스냅샷별로 미리 직렬화·압축해 둔 바이트를 그대로 응답
+    @GetMapping(value = "/{areaName}", produces = MediaType.APPLICATION_JSON_VALUE)
+    public Mono<ResponseEntity<byte[]>> getCongestion(
+            @PathVariable String areaName,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            @RequestHeader(value = HttpHeaders.IF_MODIFIED_SINCE, required = false) String ifModifiedSince,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
         logger.info("Received GET request for congestion info with location: {}", areaName);
-        return seoulApiService.getCongestionInfo(areaName);
+        return congestionSnapshotService.getCongestion(areaName)
+                .map(snapshot -> congestionCachePolicy.toResponse(snapshot, ifNoneMatch, ifModifiedSince,
+                        builder -> congestionResponseEncoder.write(builder, snapshot, acceptEncoding)))
+                .transform(response -> congestionMetrics.timeRequest(areaName, response));
+
+    }
+
+    // 여러 장소(또는 "all")를 한 번의 요청으로 조회
+    @GetMapping
+    public Mono<ResponseEntity<ApiResponse>> getCongestions(
+            @RequestParam List<String> areas,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        logger.info("Received GET request for congestion info with {} locations", areas.size());
+        return congestionBatchService.getCongestions(areas)
+                .map(response -> congestionCachePolicy.toResponse(response, ifNoneMatch));
+    }
 
+    // 구독한 장소의 혼잡도가 바뀔 때만 이벤트를 보내는 SSE 스트림
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public Flux<ServerSentEvent<CongestionChangeEvent>> streamCongestions(
+            @RequestParam(defaultValue = "all") List<String> areas) {
+        logger.info("Received SSE subscription for {} locations", areas.size());
+        return congestionChangeStream.subscribe(areas);
     }
 }
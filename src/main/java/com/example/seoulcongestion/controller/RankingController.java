@@ -0,0 +1,38 @@
+package com.example.seoulcongestion.controller;
+
+import com.example.seoulcongestion.domain.AreaCategory;
+import com.example.seoulcongestion.dto.CongestionRankingResponse;
+import com.example.seoulcongestion.exception.CustomErrorInfo;
+import com.example.seoulcongestion.exception.CustomException;
+import com.example.seoulcongestion.service.CongestionRanking;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.Locale;
+
+@RestController
+@RequestMapping("/api/rankings")
+@RequiredArgsConstructor
+public class RankingController {
+
+    private final CongestionRanking congestionRanking;
+
+    // 지금 가장 붐비는 / 한산한 장소 (by=level|road, category=TOURIST_ZONE|STATION|PARK...)
+    @GetMapping
+    public CongestionRankingResponse getRanking(@RequestParam(defaultValue = "level") String by,
+                                                @RequestParam(required = false) String category) {
+        return congestionRanking.getRanking(parse(CongestionRanking.RankBy.class, by),
+                category == null || category.isBlank() ? null : parse(AreaCategory.class, category));
+    }
+
+    private static <E extends Enum<E>> E parse(Class<E> type, String value) {
+        try {
+            return Enum.valueOf(type, value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new CustomException(CustomErrorInfo.INVALID_REQUEST_PARAMETER);
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package com.example.seoulcongestion.controller;
+
+import com.example.seoulcongestion.dto.RefreshAllocationResponse;
+import com.example.seoulcongestion.service.RefreshAllocator;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/refresh")
+@RequiredArgsConstructor
+public class RefreshController {
+
+    private final RefreshAllocator refreshAllocator;
+
+    // 장소별 주기 갱신 간격과 호출 한도 사용 현황
+    @GetMapping("/allocation")
+    public RefreshAllocationResponse getAllocation() {
+        return refreshAllocator.getAllocation();
+    }
+}
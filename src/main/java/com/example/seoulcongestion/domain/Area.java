@@ -0,0 +1,28 @@
+package com.example.seoulcongestion.domain;
+
+import lombok.Getter;
+
+// 장소별로 하나의 인스턴스만 만들어 모든 스냅샷이 공유
+@Getter
+public class Area {
+
+    // areas.csv에서 부여한 1부터 시작하는 연속 번호
+    private final int id;
+    private final String name;
+    private final AreaCategory category;
+    private final double latitude;
+    private final double longitude;
+
+    public Area(int id, String name, AreaCategory category, double latitude, double longitude) {
+        this.id = id;
+        this.name = name;
+        this.category = category;
+        this.latitude = latitude;
+        this.longitude = longitude;
+    }
+
+    // 장소별 배열에서 사용할 0부터 시작하는 인덱스
+    public int index() {
+        return id - 1;
+    }
+}
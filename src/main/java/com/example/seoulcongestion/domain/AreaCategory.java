@@ -0,0 +1,19 @@
+package com.example.seoulcongestion.domain;
+
+import lombok.Getter;
+
+@Getter
+public enum AreaCategory {
+
+    TOURIST_ZONE("관광특구"),
+    HERITAGE("고궁·문화유산"),
+    STATION("인구밀집지역"),
+    COMMERCIAL("발달상권"),
+    PARK("공원");
+
+    private final String label;
+
+    AreaCategory(String label) {
+        this.label = label;
+    }
+}
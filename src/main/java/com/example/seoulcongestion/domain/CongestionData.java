@@ -1,27 +1,30 @@
 package com.example.seoulcongestion.domain;
 
+import lombok.Builder;
 import lombok.Getter;
-import lombok.Setter;
+import lombok.extern.jackson.Jacksonized;
 import java.util.List;
 
+// 캐시에 게시된 뒤 여러 요청이 공유하므로 생성 이후에는 변경할 수 없다
 @Getter
-@Setter
+@Builder(toBuilder = true)
+@Jacksonized
 public class CongestionData {
 
-    private String populationTime;
-    private String areaName;
+    private final String populationTime;
+    private final String areaName;
 
-    private String areaCongestLevel;
-    private String areaCongestMsg;
+    private final String areaCongestLevel;
+    private final String areaCongestMsg;
 
-    private List<String> forecastTimes;
-    private List<String> forecastCongestions;
+    private final List<String> forecastTimes;
+    private final List<String> forecastCongestions;
 
-    private String roadCongestMsg;
-    private String roadCongestIdx;
+    private final String roadCongestMsg;
+    private final String roadCongestIdx;
 
-    private double latitude;
-    private double longitude;
+    private final double latitude;
+    private final double longitude;
 
 
 }
@@ -0,0 +1,80 @@
+package com.example.seoulcongestion.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Entity
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "congestion_history",
+        uniqueConstraints = @UniqueConstraint(columnNames = {"area_id", "population_time"}),
+        indexes = @Index(columnList = "population_time"))
+public class CongestionHistory {
+
+    // IDENTITY는 JDBC 배치 삽입을 막으므로 시퀀스를 한 번에 여러 개씩 할당
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "congestion_history_seq")
+    @SequenceGenerator(name = "congestion_history_seq", sequenceName = "congestion_history_seq", allocationSize = 50)
+    private Long id;
+
+    @Column(name = "area_id", nullable = false)
+    private int areaId;
+
+    @Column(name = "population_time", nullable = false)
+    private LocalDateTime populationTime;
+
+    // 다운샘플링 시 같은 시간대의 관측을 묶는 기준 (1970-01-01 00:00 이후 시간 수)
+    @Column(name = "population_hour", nullable = false)
+    private int populationHour;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "congest_level", nullable = false, length = 20)
+    private CongestionLevel level;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "road_traffic_idx", length = 20)
+    private RoadTrafficIndex roadTrafficIndex;
+
+    // 예측 시각(하루 중 분, 2바이트씩)과 예측 혼잡도 코드(1바이트씩)
+    @Column(name = "forecast_minutes", length = 96)
+    private byte[] forecastMinutes;
+
+    @Column(name = "forecast_levels", length = 48)
+    private byte[] forecastLevels;
+
+    public static CongestionHistory of(CongestionSnapshot snapshot) {
+        int count = Math.min(snapshot.getForecastCount(), 48);
+        byte[] minutes = new byte[count * 2];
+        byte[] levels = new byte[count];
+        for (int i = 0; i < count; i++) {
+            int minute = snapshot.getForecastMinute(i);
+            minutes[i * 2] = (byte) (minute >>> 8);
+            minutes[i * 2 + 1] = (byte) minute;
+            levels[i] = snapshot.getForecastLevel(i).code();
+        }
+
+        CongestionHistory history = new CongestionHistory();
+        history.areaId = snapshot.getArea().getId();
+        history.populationTime = snapshot.getPopulationTime();
+        history.populationHour = snapshot.getPopulationMinute() / 60;
+        history.level = snapshot.getLevel();
+        history.roadTrafficIndex = snapshot.getRoadTrafficIndex();
+        history.forecastMinutes = minutes;
+        history.forecastLevels = levels;
+        return history;
+    }
+}
@@ -0,0 +1,43 @@
+package com.example.seoulcongestion.domain;
+
+import lombok.Getter;
+
+@Getter
+public enum CongestionLevel {
+
+    RELAXED("여유"),
+    NORMAL("보통"),
+    SLIGHTLY_CROWDED("약간 붐빔"),
+    CROWDED("붐빔"),
+    UNKNOWN("");
+
+    private static final CongestionLevel[] VALUES = values();
+
+    private final String label;
+
+    CongestionLevel(String label) {
+        this.label = label;
+    }
+
+    public static CongestionLevel fromLabel(String label) {
+        if (label == null) {
+            return UNKNOWN;
+        }
+        return switch (label) {
+            case "여유" -> RELAXED;
+            case "보통" -> NORMAL;
+            case "약간 붐빔" -> SLIGHTLY_CROWDED;
+            case "붐빔" -> CROWDED;
+            default -> UNKNOWN;
+        };
+    }
+
+    // 예측 데이터는 byte 배열에 ordinal로 저장
+    public static CongestionLevel fromCode(byte code) {
+        return VALUES[code];
+    }
+
+    public byte code() {
+        return (byte) ordinal();
+    }
+}
@@ -0,0 +1,43 @@
+package com.example.seoulcongestion.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 요일·시간대별 집계의 체크포인트 (장소당 한 행, 카운터 배열은 int 4바이트씩 직렬화)
+@Getter
+@Entity
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "congestion_rollup")
+public class CongestionRollup {
+
+    @Id
+    @Column(name = "area_id")
+    private int areaId;
+
+    // 마지막으로 집계에 반영한 PPLTN_TIME(분)
+    @Column(name = "last_population_minute", nullable = false)
+    private int lastPopulationMinute;
+
+    @Column(name = "level_counts", nullable = false, length = 4096)
+    private byte[] levelCounts;
+
+    @Column(name = "road_samples", nullable = false, length = 1024)
+    private byte[] roadSamples;
+
+    @Column(name = "road_index_sums", nullable = false, length = 1024)
+    private byte[] roadIndexSums;
+
+    public CongestionRollup(int areaId, int lastPopulationMinute,
+                            byte[] levelCounts, byte[] roadSamples, byte[] roadIndexSums) {
+        this.areaId = areaId;
+        this.lastPopulationMinute = lastPopulationMinute;
+        this.levelCounts = levelCounts;
+        this.roadSamples = roadSamples;
+        this.roadIndexSums = roadIndexSums;
+    }
+}
@@ -0,0 +1,149 @@
+package com.example.seoulcongestion.domain;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+// 캐시에 보관하는 내부용 혼잡도 스냅샷.
+// 응답 JSON 형태(CongestionData)로는 요청을 내보낼 때만 변환한다.
+public final class CongestionSnapshot {
+
+    public static final int NO_TIME = Integer.MIN_VALUE;
+
+    private static final DateTimeFormatter POPULATION_TIME_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm");
+    private static final int MINUTES_PER_DAY = 24 * 60;
+    private static final String[] MINUTE_LABELS = new String[MINUTES_PER_DAY];
+
+    // 안내 문구는 혼잡도 단계별로 거의 고정이라 같은 문자열을 공유
+    private static final int MAX_INTERNED_MESSAGES = 1024;
+    private static final ConcurrentMap<String, String> MESSAGES = new ConcurrentHashMap<>();
+
+    static {
+        for (int minute = 0; minute < MINUTES_PER_DAY; minute++) {
+            MINUTE_LABELS[minute] = LocalTime.ofSecondOfDay(minute * 60L).toString();
+        }
+    }
+
+    @Getter
+    private final Area area;
+
+    // PPLTN_TIME을 1970-01-01 00:00(서울 시각) 이후 분 단위로 저장
+    @Getter
+    private final int populationMinute;
+
+    @Getter
+    private final CongestionLevel level;
+
+    @Getter
+    private final String congestMessage;
+
+    // 예측 시각(하루 중 분)과 예측 혼잡도(CongestionLevel 코드)
+    private final short[] forecastMinutes;
+    private final byte[] forecastLevels;
+
+    @Getter
+    private final RoadTrafficIndex roadTrafficIndex;
+
+    @Getter
+    private final String roadMessage;
+
+    // Seoul API에서 받아 온 시각 (epoch ms, 응답의 Age 계산에 사용)
+    @Getter
+    private final long fetchedAt;
+
+    @Builder
+    private CongestionSnapshot(Area area, int populationMinute, CongestionLevel level, String congestMessage,
+                               short[] forecastMinutes, byte[] forecastLevels, int forecastCount,
+                               RoadTrafficIndex roadTrafficIndex, String roadMessage, long fetchedAt) {
+        this.area = area;
+        this.populationMinute = populationMinute;
+        this.level = level == null ? CongestionLevel.UNKNOWN : level;
+        this.congestMessage = intern(congestMessage);
+        this.forecastMinutes = forecastMinutes == null ? new short[0] : Arrays.copyOf(forecastMinutes, forecastCount);
+        this.forecastLevels = forecastLevels == null ? new byte[0] : Arrays.copyOf(forecastLevels, forecastCount);
+        this.roadTrafficIndex = roadTrafficIndex;
+        this.roadMessage = intern(roadMessage);
+        // 지정하지 않으면 지금 받아 온 것으로 본다
+        this.fetchedAt = fetchedAt > 0 ? fetchedAt : System.currentTimeMillis();
+    }
+
+    public String getAreaName() {
+        return area.getName();
+    }
+
+    public boolean hasPopulationTime() {
+        return populationMinute != NO_TIME;
+    }
+
+    public LocalDateTime getPopulationTime() {
+        return hasPopulationTime()
+                ? LocalDateTime.ofEpochSecond(populationMinute * 60L, 0, ZoneOffset.UTC)
+                : null;
+    }
+
+    public int getForecastCount() {
+        return forecastMinutes.length;
+    }
+
+    public int getForecastMinute(int index) {
+        return forecastMinutes[index];
+    }
+
+    public CongestionLevel getForecastLevel(int index) {
+        return CongestionLevel.fromCode(forecastLevels[index]);
+    }
+
+    public CongestionData toCongestionData() {
+        String[] forecastTimes = new String[forecastMinutes.length];
+        String[] forecastCongestions = new String[forecastLevels.length];
+        for (int i = 0; i < forecastMinutes.length; i++) {
+            forecastTimes[i] = MINUTE_LABELS[forecastMinutes[i]];
+            forecastCongestions[i] = CongestionLevel.fromCode(forecastLevels[i]).getLabel();
+        }
+
+        return CongestionData.builder()
+                .populationTime(hasPopulationTime() ? POPULATION_TIME_FORMAT.format(getPopulationTime()) : null)
+                .areaName(area.getName())
+                .areaCongestLevel(level.getLabel())
+                .areaCongestMsg(congestMessage)
+                .forecastTimes(List.of(forecastTimes))
+                .forecastCongestions(List.of(forecastCongestions))
+                .roadCongestMsg(roadMessage)
+                .roadCongestIdx(roadTrafficIndex == null ? null : roadTrafficIndex.getLabel())
+                .latitude(area.getLatitude())
+                .longitude(area.getLongitude())
+                .build();
+    }
+
+    // "yyyy-MM-dd HH:mm" 형식의 시각을 분 단위로 변환
+    public static int toPopulationMinute(String populationTime) {
+        if (populationTime == null || populationTime.isEmpty()) {
+            return NO_TIME;
+        }
+        LocalDateTime time = LocalDateTime.parse(populationTime, POPULATION_TIME_FORMAT);
+        return (int) (time.toEpochSecond(ZoneOffset.UTC) / 60);
+    }
+
+    private static String intern(String text) {
+        if (text == null) {
+            return null;
+        }
+        String interned = MESSAGES.get(text);
+        if (interned != null) {
+            return interned;
+        }
+        if (MESSAGES.size() >= MAX_INTERNED_MESSAGES) {
+            return text;
+        }
+        interned = MESSAGES.putIfAbsent(text, text);
+        return interned != null ? interned : text;
+    }
+}
@@ -0,0 +1,15 @@
+package com.example.seoulcongestion.domain;
+
+import lombok.Getter;
+
+@Getter
+public class NearbyArea {
+
+    private final Area area;
+    private final double distanceMeters;
+
+    public NearbyArea(Area area, double distanceMeters) {
+        this.area = area;
+        this.distanceMeters = distanceMeters;
+    }
+}
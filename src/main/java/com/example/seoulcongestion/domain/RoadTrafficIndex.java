@@ -0,0 +1,30 @@
+package com.example.seoulcongestion.domain;
+
+import lombok.Getter;
+
+@Getter
+public enum RoadTrafficIndex {
+
+    SMOOTH("원활"),
+    SLOW("서행"),
+    CONGESTED("정체"),
+    UNKNOWN("");
+
+    private final String label;
+
+    RoadTrafficIndex(String label) {
+        this.label = label;
+    }
+
+    public static RoadTrafficIndex fromLabel(String label) {
+        if (label == null) {
+            return null;
+        }
+        return switch (label) {
+            case "원활" -> SMOOTH;
+            case "서행" -> SLOW;
+            case "정체" -> CONGESTED;
+            default -> UNKNOWN;
+        };
+    }
+}
@@ -0,0 +1,99 @@
+package com.example.seoulcongestion.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 클러스터 모드에서 임대를 가진 노드가 게시하는 장소별 최신 스냅샷 (장소당 한 행)
+@Getter
+@Entity
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "shared_snapshot", indexes = @Index(columnList = "fetched_at"))
+public class SharedSnapshot {
+
+    @Id
+    @Column(name = "area_id")
+    private int areaId;
+
+    @Column(name = "population_minute", nullable = false)
+    private int populationMinute;
+
+    @Column(name = "congest_level", nullable = false)
+    private byte level;
+
+    @Column(name = "congest_msg", length = 500)
+    private String congestMessage;
+
+    // 예측 시각(하루 중 분, 2바이트씩)과 예측 혼잡도 코드(1바이트씩)
+    @Column(name = "forecast_minutes", length = 96)
+    private byte[] forecastMinutes;
+
+    @Column(name = "forecast_levels", length = 48)
+    private byte[] forecastLevels;
+
+    // 도로 소통 지수가 없으면 -1
+    @Column(name = "road_traffic_idx", nullable = false)
+    private byte roadTrafficIndex;
+
+    @Column(name = "road_msg", length = 500)
+    private String roadMessage;
+
+    @Column(name = "fetched_at", nullable = false)
+    private long fetchedAt;
+
+    // 게시한 노드 (장애 분석용)
+    @Column(name = "published_by", length = 100)
+    private String publishedBy;
+
+    public static SharedSnapshot of(CongestionSnapshot snapshot, String publishedBy) {
+        int count = Math.min(snapshot.getForecastCount(), 48);
+        byte[] minutes = new byte[count * 2];
+        byte[] levels = new byte[count];
+        for (int i = 0; i < count; i++) {
+            int minute = snapshot.getForecastMinute(i);
+            minutes[i * 2] = (byte) (minute >>> 8);
+            minutes[i * 2 + 1] = (byte) minute;
+            levels[i] = snapshot.getForecastLevel(i).code();
+        }
+
+        SharedSnapshot shared = new SharedSnapshot();
+        shared.areaId = snapshot.getArea().getId();
+        shared.populationMinute = snapshot.getPopulationMinute();
+        shared.level = snapshot.getLevel().code();
+        shared.congestMessage = snapshot.getCongestMessage();
+        shared.forecastMinutes = minutes;
+        shared.forecastLevels = levels;
+        shared.roadTrafficIndex = snapshot.getRoadTrafficIndex() == null
+                ? -1 : (byte) snapshot.getRoadTrafficIndex().ordinal();
+        shared.roadMessage = snapshot.getRoadMessage();
+        shared.fetchedAt = snapshot.getFetchedAt();
+        shared.publishedBy = publishedBy;
+        return shared;
+    }
+
+    public CongestionSnapshot toSnapshot(Area area) {
+        int count = forecastLevels == null ? 0 : forecastLevels.length;
+        short[] minutes = new short[count];
+        for (int i = 0; i < count; i++) {
+            minutes[i] = (short) (((forecastMinutes[i * 2] & 0xFF) << 8) | (forecastMinutes[i * 2 + 1] & 0xFF));
+        }
+
+        return CongestionSnapshot.builder()
+                .area(area)
+                .populationMinute(populationMinute)
+                .level(CongestionLevel.fromCode(level))
+                .congestMessage(congestMessage)
+                .forecastMinutes(minutes)
+                .forecastLevels(forecastLevels)
+                .forecastCount(count)
+                .roadTrafficIndex(roadTrafficIndex < 0 ? null : RoadTrafficIndex.values()[roadTrafficIndex])
+                .roadMessage(roadMessage)
+                .fetchedAt(fetchedAt)
+                .build();
+    }
+}
@@ -12,4 +12,7 @@ public class ApiResponse {
 
     private List<CongestionData> results;
 
+    // 조회에 실패한 장소별 오류 (일부 실패해도 나머지 결과는 반환)
+    private List<AreaError> errors;
+
 }
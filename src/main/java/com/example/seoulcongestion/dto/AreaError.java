@@ -0,0 +1,18 @@
+package com.example.seoulcongestion.dto;
+
+import com.example.seoulcongestion.exception.CustomErrorInfo;
+import lombok.Getter;
+
+@Getter
+public class AreaError {
+
+    private final String areaName;
+    private final int statusCode;
+    private final String message;
+
+    public AreaError(String areaName, CustomErrorInfo customErrorInfo) {
+        this.areaName = areaName;
+        this.statusCode = customErrorInfo.getStatusCode();
+        this.message = customErrorInfo.getMessage();
+    }
+}
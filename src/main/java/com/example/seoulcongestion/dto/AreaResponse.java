@@ -0,0 +1,22 @@
+package com.example.seoulcongestion.dto;
+
+import com.example.seoulcongestion.domain.Area;
+import lombok.Getter;
+
+@Getter
+public class AreaResponse {
+
+    private final int id;
+    private final String name;
+    private final String category;
+    private final double latitude;
+    private final double longitude;
+
+    public AreaResponse(Area area) {
+        this.id = area.getId();
+        this.name = area.getName();
+        this.category = area.getCategory().getLabel();
+        this.latitude = area.getLatitude();
+        this.longitude = area.getLongitude();
+    }
+}
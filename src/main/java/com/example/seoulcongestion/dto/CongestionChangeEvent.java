@@ -0,0 +1,23 @@
+package com.example.seoulcongestion.dto;
+
+import com.example.seoulcongestion.domain.CongestionData;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+public class CongestionChangeEvent {
+
+    private final String areaName;
+
+    // 직전에 보낸 값과 달라진 항목 (populationTime, level, roadTrafficIndex)
+    private final List<String> changes;
+
+    private final CongestionData congestion;
+
+    public CongestionChangeEvent(String areaName, List<String> changes, CongestionData congestion) {
+        this.areaName = areaName;
+        this.changes = changes;
+        this.congestion = congestion;
+    }
+}
@@ -0,0 +1,59 @@
+package com.example.seoulcongestion.dto;
+
+import com.example.seoulcongestion.domain.CongestionSnapshot;
+import lombok.Getter;
+
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+
+@Getter
+public class CongestionRankingResponse {
+
+    // "level"(AREA_CONGEST_LVL) 또는 "road"(ROAD_TRAFFIC_IDX)
+    private final String rankBy;
+
+    // 전체 장소 순위면 null
+    private final String category;
+
+    // 순위에 포함된 (값이 있는) 장소 수
+    private final int rankedAreas;
+
+    private final List<RankedArea> mostCrowded;
+    private final List<RankedArea> quietest;
+
+    public CongestionRankingResponse(String rankBy, String category, int rankedAreas,
+                                     List<RankedArea> mostCrowded, List<RankedArea> quietest) {
+        this.rankBy = rankBy;
+        this.category = category;
+        this.rankedAreas = rankedAreas;
+        this.mostCrowded = mostCrowded;
+        this.quietest = quietest;
+    }
+
+    @Getter
+    public static class RankedArea {
+
+        private static final DateTimeFormatter POPULATION_TIME_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm");
+
+        private final int rank;
+        private final String areaName;
+        private final String category;
+        private final String areaCongestLevel;
+        private final String roadCongestIdx;
+        private final String populationTime;
+        private final double latitude;
+        private final double longitude;
+
+        public RankedArea(int rank, CongestionSnapshot snapshot) {
+            this.rank = rank;
+            this.areaName = snapshot.getAreaName();
+            this.category = snapshot.getArea().getCategory().getLabel();
+            this.areaCongestLevel = snapshot.getLevel().getLabel();
+            this.roadCongestIdx = snapshot.getRoadTrafficIndex() == null ? null : snapshot.getRoadTrafficIndex().getLabel();
+            this.populationTime = snapshot.hasPopulationTime()
+                    ? POPULATION_TIME_FORMAT.format(snapshot.getPopulationTime()) : null;
+            this.latitude = snapshot.getArea().getLatitude();
+            this.longitude = snapshot.getArea().getLongitude();
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package com.example.seoulcongestion.dto;
+
+import com.example.seoulcongestion.exception.CustomErrorInfo;
+import lombok.Getter;
+
+@Getter
+public class ErrorResponse {
+
+    private final String code;
+    private final int statusCode;
+    private final String message;
+
+    public ErrorResponse(CustomErrorInfo customErrorInfo) {
+        this.code = customErrorInfo.name();
+        this.statusCode = customErrorInfo.getStatusCode();
+        this.message = customErrorInfo.getMessage();
+    }
+}
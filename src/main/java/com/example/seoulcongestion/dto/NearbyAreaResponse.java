@@ -0,0 +1,21 @@
+package com.example.seoulcongestion.dto;
+
+import com.example.seoulcongestion.domain.CongestionData;
+import com.example.seoulcongestion.domain.NearbyArea;
+import lombok.Getter;
+
+@Getter
+public class NearbyAreaResponse {
+
+    private final AreaResponse area;
+    private final long distanceMeters;
+
+    // 아직 캐시에 스냅샷이 없으면 null
+    private final CongestionData congestion;
+
+    public NearbyAreaResponse(NearbyArea nearbyArea, CongestionData congestion) {
+        this.area = new AreaResponse(nearbyArea.getArea());
+        this.distanceMeters = Math.round(nearbyArea.getDistanceMeters());
+        this.congestion = congestion;
+    }
+}
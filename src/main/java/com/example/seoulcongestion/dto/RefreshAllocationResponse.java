@@ -0,0 +1,44 @@
+package com.example.seoulcongestion.dto;
+
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+public class RefreshAllocationResponse {
+
+    private final long dailyLimit;
+    private final long usedToday;
+    private final long availableTokens;
+
+    // 현재 배분대로 하루 동안 주기 갱신에 쓰게 될 호출 수
+    private final long scheduledCallsPerDay;
+
+    // 인기 순
+    private final List<AreaAllocation> areas;
+
+    public RefreshAllocationResponse(long dailyLimit, long usedToday, long availableTokens, long scheduledCallsPerDay,
+                                     List<AreaAllocation> areas) {
+        this.dailyLimit = dailyLimit;
+        this.usedToday = usedToday;
+        this.availableTokens = availableTokens;
+        this.scheduledCallsPerDay = scheduledCallsPerDay;
+        this.areas = areas;
+    }
+
+    @Getter
+    public static class AreaAllocation {
+
+        private final String areaName;
+        private final double popularity;
+
+        // 주기 갱신 간격(초), 요청 시에만 조회하는 장소는 null
+        private final Long refreshIntervalSeconds;
+
+        public AreaAllocation(String areaName, double popularity, Long refreshIntervalSeconds) {
+            this.areaName = areaName;
+            this.popularity = popularity;
+            this.refreshIntervalSeconds = refreshIntervalSeconds;
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package com.example.seoulcongestion.dto;
+
+import lombok.Getter;
+
+import java.time.DayOfWeek;
+import java.util.List;
+
+@Getter
+public class WeeklyProfileResponse {
+
+    private final String areaName;
+
+    // 월요일 0시부터 일요일 23시까지 168개
+    private final List<HourProfile> hours;
+
+    public WeeklyProfileResponse(String areaName, List<HourProfile> hours) {
+        this.areaName = areaName;
+        this.hours = hours;
+    }
+
+    @Getter
+    public static class HourProfile {
+
+        private final DayOfWeek dayOfWeek;
+        private final int hour;
+        private final int samples;
+        private final int relaxed;
+        private final int normal;
+        private final int slightlyCrowded;
+        private final int crowded;
+
+        // 가장 많이 관측된 혼잡도, 관측이 없으면 null
+        private final String dominantLevel;
+
+        // 도로 소통 지수 평균 (원활 0, 서행 1, 정체 2), 관측이 없으면 null
+        private final Double meanRoadIndex;
+
+        public HourProfile(DayOfWeek dayOfWeek, int hour, int relaxed, int normal, int slightlyCrowded, int crowded,
+                           String dominantLevel, Double meanRoadIndex) {
+            this.dayOfWeek = dayOfWeek;
+            this.hour = hour;
+            this.samples = relaxed + normal + slightlyCrowded + crowded;
+            this.relaxed = relaxed;
+            this.normal = normal;
+            this.slightlyCrowded = slightlyCrowded;
+            this.crowded = crowded;
+            this.dominantLevel = dominantLevel;
+            this.meanRoadIndex = meanRoadIndex;
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package com.example.seoulcongestion.event;
+
+import com.example.seoulcongestion.domain.CongestionSnapshot;
+import lombok.Getter;
+
+// Seoul API에서 새 스냅샷을 받아올 때마다 발행 (같은 PPLTN_TIME이 반복될 수 있음)
+@Getter
+public class CongestionObservedEvent {
+
+    private final CongestionSnapshot snapshot;
+
+    public CongestionObservedEvent(CongestionSnapshot snapshot) {
+        this.snapshot = snapshot;
+    }
+}
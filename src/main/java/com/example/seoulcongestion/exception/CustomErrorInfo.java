@@ -8,10 +8,20 @@ public enum CustomErrorInfo {
     // 400 BAD_REQUEST
     FAILED_TO_FETCH_DATA(400,"Seoul API 호출 실패"),
     FAILED_TO_PARSE_DATA(400,"Seoul API 데이터 처리 실패"),
+    INVALID_REQUEST_PARAMETER(400, "유효하지 않은 요청 값입니다."),
 
     // 409 CONFLICT
     INVALID_AREA_NAME(409, "유효하지 않은 장소명입니다."),
-    INVALID_JSON_STRUCTURE(409,"유효하지 않은 json 데이터입니다.");
+    INVALID_JSON_STRUCTURE(409,"유효하지 않은 json 데이터입니다."),
+
+    // 429 TOO_MANY_REQUESTS
+    QUOTA_EXHAUSTED(429, "Seoul API 호출 한도를 모두 사용했습니다. 잠시 후 다시 시도해 주세요."),
+
+    // 503 SERVICE_UNAVAILABLE
+    UPSTREAM_UNAVAILABLE(503, "Seoul API 장애로 잠시 호출을 중단했습니다."),
+
+    // 504 GATEWAY_TIMEOUT
+    REQUEST_TIMEOUT(504, "Seoul API 응답 시간 초과");
 
     private final int statusCode;
     private final String message;
@@ -7,7 +7,8 @@ public class CustomException extends RuntimeException {
     private final CustomErrorInfo customErrorInfo;
 
     public CustomException(CustomErrorInfo customErrorInfo) {
-        super(customErrorInfo.getMessage());
+        // 오류 코드만으로 원인을 알 수 있으므로 스택 트레이스를 만들지 않는다
+        super(customErrorInfo.getMessage(), null, false, false);
         this.customErrorInfo = customErrorInfo;
     }
 }
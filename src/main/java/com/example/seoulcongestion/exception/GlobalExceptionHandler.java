@@ -0,0 +1,30 @@
+package com.example.seoulcongestion.exception;
+
+import com.example.seoulcongestion.dto.ErrorResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+@Slf4j
+@RestControllerAdvice
+public class GlobalExceptionHandler {
+
+    // 오류 응답은 CustomErrorInfo마다 고정이므로 미리 만들어 재사용
+    private static final Map<CustomErrorInfo, ResponseEntity<ErrorResponse>> RESPONSES = new EnumMap<>(CustomErrorInfo.class);
+
+    static {
+        for (CustomErrorInfo info : CustomErrorInfo.values()) {
+            RESPONSES.put(info, ResponseEntity.status(info.getStatusCode()).body(new ErrorResponse(info)));
+        }
+    }
+
+    @ExceptionHandler(CustomException.class)
+    public ResponseEntity<ErrorResponse> handleCustomException(CustomException e) {
+        log.debug("Request failed: {}", e.getCustomErrorInfo());
+        return RESPONSES.get(e.getCustomErrorInfo());
+    }
+}
@@ -0,0 +1,31 @@
+package com.example.seoulcongestion.repository;
+
+import com.example.seoulcongestion.domain.CongestionHistory;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface CongestionHistoryRepository extends JpaRepository<CongestionHistory, Long> {
+
+    // 장소별로 마지막으로 저장된 관측 시각 [areaId, populationTime]
+    @Query("select h.areaId, max(h.populationTime) from CongestionHistory h group by h.areaId")
+    List<Object[]> findLatestPopulationTimes();
+
+    @Transactional
+    @Modifying
+    @Query("delete from CongestionHistory h where h.populationTime < :cutoff")
+    int deleteOlderThan(@Param("cutoff") LocalDateTime cutoff);
+
+    // cutoff 이전 관측은 장소별로 한 시간에 가장 이른 관측 하나만 남긴다
+    @Transactional
+    @Modifying
+    @Query("delete from CongestionHistory h where h.populationTime < :cutoff and exists ("
+            + "select o.id from CongestionHistory o where o.areaId = h.areaId "
+            + "and o.populationHour = h.populationHour and o.populationTime < h.populationTime)")
+    int downsampleOlderThan(@Param("cutoff") LocalDateTime cutoff);
+}
@@ -0,0 +1,7 @@
+package com.example.seoulcongestion.repository;
+
+import com.example.seoulcongestion.domain.CongestionRollup;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface CongestionRollupRepository extends JpaRepository<CongestionRollup, Integer> {
+}
@@ -0,0 +1,11 @@
+package com.example.seoulcongestion.repository;
+
+import com.example.seoulcongestion.domain.SharedSnapshot;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.List;
+
+public interface SharedSnapshotRepository extends JpaRepository<SharedSnapshot, Integer> {
+
+    List<SharedSnapshot> findByFetchedAtGreaterThan(long fetchedAt);
+}
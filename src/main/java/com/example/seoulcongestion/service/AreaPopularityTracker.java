@@ -0,0 +1,40 @@
+package com.example.seoulcongestion.service;
+
+import com.example.seoulcongestion.domain.Area;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+// 장소별 조회 수를 지수 감쇠 점수로 누적 (요청 경로에서는 카운터만 올린다)
+@Component
+public class AreaPopularityTracker {
+
+    private final AreaRegistry areaRegistry;
+
+    // 마지막 감쇠 이후 들어온 조회 수
+    private final AtomicLongArray hits;
+
+    // 감쇠된 인기 점수 (reallocate 주기에만 갱신)
+    private final double[] scores;
+
+    public AreaPopularityTracker(AreaRegistry areaRegistry) {
+        this.areaRegistry = areaRegistry;
+        this.hits = new AtomicLongArray(areaRegistry.size());
+        this.scores = new double[areaRegistry.size()];
+    }
+
+    public void recordRequest(String areaName) {
+        Area area = areaName == null ? null : areaRegistry.get(areaName.trim());
+        if (area != null) {
+            hits.incrementAndGet(area.index());
+        }
+    }
+
+    // 기존 점수에 factor를 곱하고 새 조회 수를 더한 뒤 점수 배열의 복사본을 반환
+    public synchronized double[] decay(double factor) {
+        for (int i = 0; i < scores.length; i++) {
+            scores[i] = scores[i] * factor + hits.getAndSet(i, 0);
+        }
+        return scores.clone();
+    }
+}
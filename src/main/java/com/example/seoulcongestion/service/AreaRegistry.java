@@ -0,0 +1,87 @@
+package com.example.seoulcongestion.service;
+
+import com.example.seoulcongestion.domain.Area;
+import com.example.seoulcongestion.domain.AreaCategory;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// 서울 실시간 도시데이터가 제공하는 장소 목록. 시작할 때 한 번 읽고 이후에는 변경하지 않는다.
+@Slf4j
+@Component
+public class AreaRegistry {
+
+    private final List<Area> areas;
+    private final Map<String, Area> areasByName;
+
+    public AreaRegistry(@Value("${seoul.areas.location:classpath:areas.csv}") Resource location) throws IOException {
+        List<Area> loaded = new ArrayList<>();
+        Map<String, Area> byName = new HashMap<>();
+
+        try (BufferedReader reader = new BufferedReader(
+                new InputStreamReader(location.getInputStream(), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isBlank() || line.startsWith("#")) {
+                    continue;
+                }
+                Area area = parseLine(line.trim());
+                if (area.getId() != loaded.size() + 1) {
+                    throw new IllegalStateException("Area ids must be sequential from 1: " + line);
+                }
+                if (byName.putIfAbsent(area.getName(), area) != null) {
+                    throw new IllegalStateException("Duplicate area name: " + area.getName());
+                }
+                loaded.add(area);
+            }
+        }
+
+        this.areas = List.copyOf(loaded);
+        this.areasByName = Map.copyOf(byName);
+        log.info("Loaded {} areas from {}", areas.size(), location);
+    }
+
+    // 등록되지 않은 장소면 null
+    public Area get(String areaName) {
+        return areaName == null ? null : areasByName.get(areaName);
+    }
+
+    public boolean contains(String areaName) {
+        return get(areaName) != null;
+    }
+
+    public Area getById(int id) {
+        return areas.get(id - 1);
+    }
+
+    public List<Area> getAreas() {
+        return areas;
+    }
+
+    public int size() {
+        return areas.size();
+    }
+
+    private static Area parseLine(String line) {
+        String[] columns = line.split(",");
+        if (columns.length != 5) {
+            throw new IllegalStateException("Invalid area line: " + line);
+        }
+        return new Area(
+                Integer.parseInt(columns[0].trim()),
+                columns[1].trim(),
+                AreaCategory.valueOf(columns[2].trim()),
+                Double.parseDouble(columns[3].trim()),
+                Double.parseDouble(columns[4].trim()));
+    }
+}
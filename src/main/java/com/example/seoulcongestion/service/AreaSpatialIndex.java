@@ -0,0 +1,130 @@
+package com.example.seoulcongestion.service;
+
+import com.example.seoulcongestion.domain.Area;
+import com.example.seoulcongestion.domain.NearbyArea;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+// 장소 좌표를 일정 크기의 격자로 나눠 두고, 반경에 걸치는 칸만 확인해 가까운 장소를 찾는다
+@Component
+public class AreaSpatialIndex {
+
+    // 서울 위도에서 약 1.1km(위도) x 0.9km(경도)
+    private static final double CELL_DEGREES = 0.01;
+    private static final double EARTH_RADIUS_METERS = 6_371_000;
+
+    // 거리가 같으면 장소 번호 순으로 정렬해 결과가 항상 같도록 한다
+    private static final Comparator<NearbyArea> NEAREST_FIRST = Comparator
+            .comparingDouble(NearbyArea::getDistanceMeters)
+            .thenComparingInt(nearby -> nearby.getArea().getId());
+
+    private final List<Area> areas;
+    private final double minLatitude;
+    private final double minLongitude;
+    private final int rows;
+    private final int columns;
+
+    // 칸 번호 c에 속한 장소는 cellAreas[cellStart[c] .. cellStart[c + 1])
+    private final int[] cellStart;
+    private final int[] cellAreas;
+
+    public AreaSpatialIndex(AreaRegistry areaRegistry) {
+        this.areas = areaRegistry.getAreas();
+
+        double minLat = Double.MAX_VALUE, maxLat = -Double.MAX_VALUE;
+        double minLng = Double.MAX_VALUE, maxLng = -Double.MAX_VALUE;
+        for (Area area : areas) {
+            minLat = Math.min(minLat, area.getLatitude());
+            maxLat = Math.max(maxLat, area.getLatitude());
+            minLng = Math.min(minLng, area.getLongitude());
+            maxLng = Math.max(maxLng, area.getLongitude());
+        }
+        this.minLatitude = minLat;
+        this.minLongitude = minLng;
+        this.rows = (int) Math.floor((maxLat - minLat) / CELL_DEGREES) + 1;
+        this.columns = (int) Math.floor((maxLng - minLng) / CELL_DEGREES) + 1;
+
+        // 칸별 개수를 센 뒤 누적합으로 시작 위치를 정하고 장소 인덱스를 채운다
+        this.cellStart = new int[rows * columns + 1];
+        for (Area area : areas) {
+            cellStart[cellOf(area) + 1]++;
+        }
+        for (int cell = 0; cell < rows * columns; cell++) {
+            cellStart[cell + 1] += cellStart[cell];
+        }
+        this.cellAreas = new int[areas.size()];
+        int[] next = cellStart.clone();
+        for (int i = 0; i < areas.size(); i++) {
+            cellAreas[next[cellOf(areas.get(i))]++] = i;
+        }
+    }
+
+    // 반경 안에서 가까운 순서로 최대 limit개
+    public List<NearbyArea> findNearest(double latitude, double longitude, int limit, double radiusMeters) {
+        double latitudeDelta = Math.toDegrees(radiusMeters / EARTH_RADIUS_METERS);
+        double longitudeDelta = Math.toDegrees(radiusMeters / (EARTH_RADIUS_METERS * Math.cos(Math.toRadians(latitude))));
+
+        int firstRow = row(latitude - latitudeDelta);
+        int lastRow = row(latitude + latitudeDelta);
+        int firstColumn = column(longitude - longitudeDelta);
+        int lastColumn = column(longitude + longitudeDelta);
+        if (lastRow < 0 || firstRow >= rows || lastColumn < 0 || firstColumn >= columns) {
+            return List.of();
+        }
+        firstRow = Math.max(firstRow, 0);
+        lastRow = Math.min(lastRow, rows - 1);
+        firstColumn = Math.max(firstColumn, 0);
+        lastColumn = Math.min(lastColumn, columns - 1);
+
+        // 가장 먼 후보가 맨 앞에 오는 크기 limit의 힙
+        PriorityQueue<NearbyArea> nearest = new PriorityQueue<>(limit + 1, NEAREST_FIRST.reversed());
+        for (int row = firstRow; row <= lastRow; row++) {
+            for (int column = firstColumn; column <= lastColumn; column++) {
+                int cell = row * columns + column;
+                for (int i = cellStart[cell]; i < cellStart[cell + 1]; i++) {
+                    Area area = areas.get(cellAreas[i]);
+                    double distance = distanceMeters(latitude, longitude, area.getLatitude(), area.getLongitude());
+                    if (distance > radiusMeters) {
+                        continue;
+                    }
+                    NearbyArea candidate = new NearbyArea(area, distance);
+                    if (nearest.size() < limit) {
+                        nearest.add(candidate);
+                    } else if (NEAREST_FIRST.compare(candidate, nearest.peek()) < 0) {
+                        nearest.poll();
+                        nearest.add(candidate);
+                    }
+                }
+            }
+        }
+
+        List<NearbyArea> result = new ArrayList<>(nearest);
+        result.sort(NEAREST_FIRST);
+        return result;
+    }
+
+    // 하버사인 공식으로 구한 두 좌표 사이의 거리(m)
+    static double distanceMeters(double lat1, double lng1, double lat2, double lng2) {
+        double dLat = Math.toRadians(lat2 - lat1);
+        double dLng = Math.toRadians(lng2 - lng1);
+        double a = Math.sin(dLat / 2) * Math.sin(dLat / 2)
+                + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2)) * Math.sin(dLng / 2) * Math.sin(dLng / 2);
+        return 2 * EARTH_RADIUS_METERS * Math.asin(Math.min(1, Math.sqrt(a)));
+    }
+
+    private int cellOf(Area area) {
+        return row(area.getLatitude()) * columns + column(area.getLongitude());
+    }
+
+    private int row(double latitude) {
+        return (int) Math.floor((latitude - minLatitude) / CELL_DEGREES);
+    }
+
+    private int column(double longitude) {
+        return (int) Math.floor((longitude - minLongitude) / CELL_DEGREES);
+    }
+}
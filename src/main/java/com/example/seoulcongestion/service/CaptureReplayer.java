@@ -0,0 +1,193 @@
+package com.example.seoulcongestion.service;
+
+import com.example.seoulcongestion.domain.Area;
+import com.example.seoulcongestion.domain.CongestionSnapshot;
+import com.example.seoulcongestion.exception.CustomException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.Map;
+import java.util.TreeMap;
+
+// 보관한 원본 응답을 네트워크 없이 SeoulApiService와 같은 파싱 경로로 최대 속도로 재생한다.
+// 결과를 장소·시각별 한 줄씩 남기면 빌드 간 비교(회귀 확인)에, 요약은 파싱 처리량 측정에 쓴다.
+//
+//   --seoul.replay.enabled=true --spring.main.web-application-type=none --seoul.poller.enabled=false
+//   --seoul.replay.area=강남역 --seoul.replay.from="2025-01-06 09:00" --seoul.replay.output=replay.csv
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "seoul.replay.enabled", havingValue = "true")
+public class CaptureReplayer implements ApplicationRunner {
+
+    private static final ZoneId SEOUL = ZoneId.of("Asia/Seoul");
+    private static final DateTimeFormatter TIME_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm");
+    private static final String CORRUPT_RECORD = "CORRUPT_RECORD";
+    private static final String UNKNOWN_AREA = "UNKNOWN_AREA";
+
+    private final AreaRegistry areaRegistry;
+    private final ConfigurableApplicationContext context;
+    // 네트워크에서 받는 것처럼 나눠서 파서에 넣는다
+    private final int chunkSize;
+
+    @Value("${seoul.replay.directory:${seoul.capture.directory:./data/capture}}")
+    private Path directory;
+
+    @Value("${seoul.replay.area:}")
+    private String areaName;
+
+    @Value("${seoul.replay.from:}")
+    private String from;
+
+    @Value("${seoul.replay.to:}")
+    private String to;
+
+    @Value("${seoul.replay.output:}")
+    private String output;
+
+    @Value("${seoul.replay.failure-directory:}")
+    private String failureDirectory;
+
+    @Value("${seoul.replay.exit-on-completion:true}")
+    private boolean exitOnCompletion;
+
+    public record ReplayReport(int records, int failed, long bytes, Duration elapsed, Map<String, Integer> failures) {
+
+        public double recordsPerSecond() {
+            return elapsed.isZero() ? 0 : records * 1e9 / elapsed.toNanos();
+        }
+
+        public double megabytesPerSecond() {
+            return elapsed.isZero() ? 0 : bytes * 1e9 / elapsed.toNanos() / (1024 * 1024);
+        }
+    }
+
+    public CaptureReplayer(AreaRegistry areaRegistry, ConfigurableApplicationContext context,
+                           @Value("${seoul.replay.chunk-size:8192}") int chunkSize) {
+        this.areaRegistry = areaRegistry;
+        this.context = context;
+        this.chunkSize = chunkSize;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) throws IOException {
+        int areaId = 0;
+        if (!areaName.isBlank()) {
+            Area area = areaRegistry.get(areaName.trim());
+            if (area == null) {
+                throw new IllegalArgumentException("Unknown seoul.replay.area: " + areaName);
+            }
+            areaId = area.getId();
+        }
+
+        ReplayReport report = replay(directory, areaId, toEpochSecond(from, 0), toEpochSecond(to, Long.MAX_VALUE),
+                output.isBlank() ? null : Path.of(output),
+                failureDirectory.isBlank() ? null : Path.of(failureDirectory));
+        log.info("Replayed {} captured responses ({} failed {}) in {} ms: {} responses/s, {} MB/s",
+                report.records(), report.failed(), report.failures(), report.elapsed().toMillis(),
+                String.format("%.0f", report.recordsPerSecond()), String.format("%.1f", report.megabytesPerSecond()));
+
+        if (exitOnCompletion) {
+            System.exit(SpringApplication.exit(context, () -> report.failed() == 0 ? 0 : 1));
+        }
+    }
+
+    // areaId가 0이면 모든 장소, 시각은 epoch 초 [fromSecond, toSecond)
+    public ReplayReport replay(Path directory, int areaId, long fromSecond, long toSecond,
+                               Path output, Path failureDirectory) throws IOException {
+        Map<String, Integer> failures = new TreeMap<>();
+        int records = 0;
+        long bytes = 0;
+        long startedAt = System.nanoTime();
+
+        if (failureDirectory != null) {
+            Files.createDirectories(failureDirectory);
+        }
+        try (Writer writer = output == null ? Writer.nullWriter() : Files.newBufferedWriter(output, StandardCharsets.UTF_8)) {
+            for (Path path : CaptureSegmentReader.list(directory)) {
+                try (CaptureSegmentReader reader = CaptureSegmentReader.open(path)) {
+                    for (CaptureSegmentReader.Entry entry : reader.find(areaId, fromSecond, toSecond)) {
+                        records++;
+                        byte[] body;
+                        try {
+                            body = reader.read(entry);
+                        } catch (IOException e) {
+                            log.warn("Skipping unreadable capture: {}", e.getMessage());
+                            failures.merge(CORRUPT_RECORD, 1, Integer::sum);
+                            continue;
+                        }
+                        bytes += body.length;
+
+                        String failure = replayOne(entry, reader.capturedAtMillis(entry), body, writer);
+                        if (failure != null) {
+                            failures.merge(failure, 1, Integer::sum);
+                            if (failureDirectory != null) {
+                                Files.write(failureDirectory.resolve(
+                                        String.format("%d-%d.json", entry.areaId(), reader.capturedAtMillis(entry))), body);
+                            }
+                        }
+                    }
+                }
+            }
+        }
+
+        int failed = failures.values().stream().mapToInt(Integer::intValue).sum();
+        return new ReplayReport(records, failed, bytes, Duration.ofNanos(System.nanoTime() - startedAt), failures);
+    }
+
+    // 실패하면 오류 이름을, 성공하면 null
+    private String replayOne(CaptureSegmentReader.Entry entry, long capturedAt, byte[] body, Writer writer) throws IOException {
+        if (entry.areaId() < 1 || entry.areaId() > areaRegistry.size()) {
+            return UNKNOWN_AREA;
+        }
+        Area area = areaRegistry.getById(entry.areaId());
+        CongestionSnapshot snapshot;
+        try {
+            snapshot = SeoulApiService.parse(chunks(body))
+                    .map(parser -> parser.finish(area))
+                    .block();
+        } catch (CustomException e) {
+            return e.getCustomErrorInfo().name();
+        }
+        if (snapshot == null) {
+            return CORRUPT_RECORD;
+        }
+
+        writer.write(String.join(",", String.valueOf(capturedAt), area.getName(),
+                snapshot.hasPopulationTime() ? TIME_FORMAT.format(snapshot.getPopulationTime()) : "",
+                snapshot.getLevel().name(), String.valueOf(snapshot.getForecastCount()),
+                snapshot.getRoadTrafficIndex() == null ? "" : snapshot.getRoadTrafficIndex().name()));
+        writer.write('\n');
+        return null;
+    }
+
+    private Flux<DataBuffer> chunks(byte[] body) {
+        int count = Math.max(1, (body.length + chunkSize - 1) / chunkSize);
+        return Flux.range(0, count).map(i -> DefaultDataBufferFactory.sharedInstance.wrap(
+                ByteBuffer.wrap(body, i * chunkSize, Math.min(chunkSize, body.length - i * chunkSize))));
+    }
+
+    private static long toEpochSecond(String time, long defaultValue) {
+        return time == null || time.isBlank()
+                ? defaultValue
+                : LocalDateTime.parse(time.trim(), TIME_FORMAT).atZone(SEOUL).toEpochSecond();
+    }
+}
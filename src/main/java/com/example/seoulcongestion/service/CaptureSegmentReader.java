@@ -0,0 +1,193 @@
+package com.example.seoulcongestion.service;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+
+// 캡처 세그먼트를 메모리 매핑해 읽는다.
+//
+// 세그먼트 (capture-<생성 시각 ms>.seg)
+//   헤더   magic(4) version(4)
+//   레코드 원본 길이(4) 압축 길이(4) CRC32(4) 장소 id(2) 수집 시각 ms(8) + raw deflate 본문
+// 인덱스 (같은 이름의 .idx, 레코드당 10바이트)
+//   헤더   magic(4) version(4) 기준 시각 s(8)
+//   항목   장소 id(2) 기준 시각부터 초(4) 세그먼트 내 위치(4)
+//
+// 기록 중 종료되어 끝이 잘린 레코드·인덱스 항목은 무시하고, 인덱스가 없으면 세그먼트를 훑어 다시 만든다.
+public final class CaptureSegmentReader implements Closeable {
+
+    static final int SEGMENT_MAGIC = 0x53434150;
+    static final int INDEX_MAGIC = 0x53434958;
+    static final int VERSION = 1;
+    static final int SEGMENT_HEADER_BYTES = 8;
+    static final int INDEX_HEADER_BYTES = 16;
+    static final int RECORD_HEADER_BYTES = 22;
+    static final int INDEX_ENTRY_BYTES = 10;
+    static final String SEGMENT_PREFIX = "capture-";
+    static final String SEGMENT_SUFFIX = ".seg";
+    private static final String INDEX_SUFFIX = ".idx";
+
+    private final Path path;
+    private final FileChannel channel;
+    private final MappedByteBuffer segment;
+    private final List<Entry> entries;
+    private final Inflater inflater = new Inflater(true);
+    private final CRC32 crc = new CRC32();
+
+    public record Entry(int areaId, long capturedAtSecond, int offset) {
+    }
+
+    private CaptureSegmentReader(Path path) throws IOException {
+        this.path = path;
+        this.channel = FileChannel.open(path, StandardOpenOption.READ);
+        this.segment = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        if (segment.limit() < SEGMENT_HEADER_BYTES || segment.getInt(0) != SEGMENT_MAGIC) {
+            channel.close();
+            throw new IOException("Not a capture segment: " + path);
+        }
+        Path indexPath = indexPathOf(path);
+        this.entries = Files.exists(indexPath) ? readIndex(indexPath) : scan();
+    }
+
+    public static CaptureSegmentReader open(Path path) throws IOException {
+        return new CaptureSegmentReader(path);
+    }
+
+    // 디렉터리의 세그먼트를 생성 순서대로
+    public static List<Path> list(Path directory) throws IOException {
+        if (!Files.isDirectory(directory)) {
+            return List.of();
+        }
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(CaptureSegmentReader::isSegment).sorted().toList();
+        }
+    }
+
+    static boolean isSegment(Path path) {
+        String name = path.getFileName().toString();
+        return name.startsWith(SEGMENT_PREFIX) && name.endsWith(SEGMENT_SUFFIX);
+    }
+
+    static Path indexPathOf(Path segmentPath) {
+        String name = segmentPath.getFileName().toString();
+        return segmentPath.resolveSibling(name.substring(0, name.length() - SEGMENT_SUFFIX.length()) + INDEX_SUFFIX);
+    }
+
+    public Path getPath() {
+        return path;
+    }
+
+    public List<Entry> getEntries() {
+        return entries;
+    }
+
+    // 장소 id가 0이면 모든 장소, 시각은 epoch 초 [from, to)
+    public List<Entry> find(int areaId, long fromSecond, long toSecond) {
+        List<Entry> found = new ArrayList<>();
+        for (Entry entry : entries) {
+            if ((areaId == 0 || entry.areaId() == areaId)
+                    && entry.capturedAtSecond() >= fromSecond && entry.capturedAtSecond() < toSecond) {
+                found.add(entry);
+            }
+        }
+        return found;
+    }
+
+    public long capturedAtMillis(Entry entry) {
+        return segment.getLong(entry.offset() + 14);
+    }
+
+    // 매핑된 영역에서 바로 압축을 풀고 CRC로 손상 여부를 확인
+    public byte[] read(Entry entry) throws IOException {
+        int offset = entry.offset();
+        int rawLength = segment.getInt(offset);
+        int compressedLength = segment.getInt(offset + 4);
+        int expectedCrc = segment.getInt(offset + 8);
+
+        byte[] body = new byte[rawLength];
+        inflater.reset();
+        inflater.setInput(segment.slice(offset + RECORD_HEADER_BYTES, compressedLength));
+        try {
+            int length = 0;
+            while (length < rawLength && !inflater.finished()) {
+                int inflated = inflater.inflate(body, length, rawLength - length);
+                if (inflated == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    break;
+                }
+                length += inflated;
+            }
+            if (length != rawLength) {
+                throw new IOException("Truncated capture record at " + path + ":" + offset);
+            }
+        } catch (DataFormatException e) {
+            throw new IOException("Corrupt capture record at " + path + ":" + offset, e);
+        }
+
+        crc.reset();
+        crc.update(body);
+        if ((int) crc.getValue() != expectedCrc) {
+            throw new IOException("Checksum mismatch in capture record at " + path + ":" + offset);
+        }
+        return body;
+    }
+
+    @Override
+    public void close() throws IOException {
+        inflater.end();
+        channel.close();
+    }
+
+    private List<Entry> readIndex(Path indexPath) throws IOException {
+        try (FileChannel index = FileChannel.open(indexPath, StandardOpenOption.READ)) {
+            ByteBuffer buffer = index.map(FileChannel.MapMode.READ_ONLY, 0, index.size());
+            if (buffer.limit() < INDEX_HEADER_BYTES || buffer.getInt(0) != INDEX_MAGIC) {
+                return scan();
+            }
+            long baseEpochSecond = buffer.getLong(8);
+
+            int count = (buffer.limit() - INDEX_HEADER_BYTES) / INDEX_ENTRY_BYTES;
+            List<Entry> loaded = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                int position = INDEX_HEADER_BYTES + i * INDEX_ENTRY_BYTES;
+                Entry entry = new Entry(buffer.getShort(position), baseEpochSecond + buffer.getInt(position + 2),
+                        buffer.getInt(position + 6));
+                if (!isComplete(entry.offset())) {
+                    break;
+                }
+                loaded.add(entry);
+            }
+            return Collections.unmodifiableList(loaded);
+        }
+    }
+
+    // 인덱스가 없을 때 레코드 헤더를 따라가며 항목을 만든다
+    private List<Entry> scan() {
+        List<Entry> scanned = new ArrayList<>();
+        int offset = SEGMENT_HEADER_BYTES;
+        while (isComplete(offset)) {
+            scanned.add(new Entry(segment.getShort(offset + 12), segment.getLong(offset + 14) / 1000, offset));
+            offset += RECORD_HEADER_BYTES + segment.getInt(offset + 4);
+        }
+        return Collections.unmodifiableList(scanned);
+    }
+
+    private boolean isComplete(int offset) {
+        if (offset < SEGMENT_HEADER_BYTES || offset > segment.limit() - RECORD_HEADER_BYTES) {
+            return false;
+        }
+        int compressedLength = segment.getInt(offset + 4);
+        return compressedLength >= 0 && (long) offset + RECORD_HEADER_BYTES + compressedLength <= segment.limit();
+    }
+}
@@ -0,0 +1,117 @@
+package com.example.seoulcongestion.service;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+
+// 원본 응답을 압축해 세그먼트 파일 끝에 덧붙이고, 같은 순서로 인덱스 항목을 기록한다 (기존 내용은 수정하지 않음).
+// 레코드 형식은 CaptureSegmentReader 참고
+final class CaptureSegmentWriter implements Closeable {
+
+    private final Path segmentPath;
+    private final FileChannel segment;
+    private final FileChannel index;
+    private final long baseEpochSecond;
+    private final Deflater deflater;
+    private final CRC32 crc = new CRC32();
+    private final ByteBuffer recordHeader = ByteBuffer.allocate(CaptureSegmentReader.RECORD_HEADER_BYTES);
+    private final ByteBuffer indexEntry = ByteBuffer.allocate(CaptureSegmentReader.INDEX_ENTRY_BYTES);
+    private byte[] compressed = new byte[64 * 1024];
+    private long size;
+
+    private CaptureSegmentWriter(Path segmentPath, long createdAt, int compressionLevel) throws IOException {
+        this.segmentPath = segmentPath;
+        this.baseEpochSecond = createdAt / 1000;
+        this.deflater = new Deflater(compressionLevel, true);
+        this.segment = FileChannel.open(segmentPath, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE);
+        this.index = FileChannel.open(CaptureSegmentReader.indexPathOf(segmentPath),
+                StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE);
+
+        writeFully(segment, ByteBuffer.allocate(CaptureSegmentReader.SEGMENT_HEADER_BYTES)
+                .putInt(CaptureSegmentReader.SEGMENT_MAGIC)
+                .putInt(CaptureSegmentReader.VERSION)
+                .flip());
+        writeFully(index, ByteBuffer.allocate(CaptureSegmentReader.INDEX_HEADER_BYTES)
+                .putInt(CaptureSegmentReader.INDEX_MAGIC)
+                .putInt(CaptureSegmentReader.VERSION)
+                .putLong(baseEpochSecond)
+                .flip());
+        this.size = CaptureSegmentReader.SEGMENT_HEADER_BYTES;
+    }
+
+    // 파일 이름의 생성 시각 순서가 곧 세그먼트 순서
+    static CaptureSegmentWriter create(Path directory, long createdAt, int compressionLevel) throws IOException {
+        Path path = directory.resolve(String.format("%s%013d%s",
+                CaptureSegmentReader.SEGMENT_PREFIX, createdAt, CaptureSegmentReader.SEGMENT_SUFFIX));
+        return new CaptureSegmentWriter(path, createdAt, compressionLevel);
+    }
+
+    void append(int areaId, long capturedAt, byte[] body) throws IOException {
+        int compressedLength = deflate(body);
+        crc.reset();
+        crc.update(body);
+
+        long offset = size;
+        recordHeader.clear()
+                .putInt(body.length)
+                .putInt(compressedLength)
+                .putInt((int) crc.getValue())
+                .putShort((short) areaId)
+                .putLong(capturedAt)
+                .flip();
+        writeFully(segment, recordHeader);
+        writeFully(segment, ByteBuffer.wrap(compressed, 0, compressedLength));
+        size += CaptureSegmentReader.RECORD_HEADER_BYTES + compressedLength;
+
+        // 인덱스는 레코드를 다 쓴 뒤에 기록해 인덱스가 가리키는 레코드는 항상 완전하다
+        indexEntry.clear()
+                .putShort((short) areaId)
+                .putInt((int) (capturedAt / 1000 - baseEpochSecond))
+                .putInt((int) offset)
+                .flip();
+        writeFully(index, indexEntry);
+    }
+
+    long size() {
+        return size;
+    }
+
+    Path getSegmentPath() {
+        return segmentPath;
+    }
+
+    @Override
+    public void close() throws IOException {
+        deflater.end();
+        try (segment; index) {
+            segment.force(false);
+            index.force(false);
+        }
+    }
+
+    private int deflate(byte[] body) {
+        deflater.reset();
+        deflater.setInput(body);
+        deflater.finish();
+        int length = 0;
+        while (!deflater.finished()) {
+            if (length == compressed.length) {
+                compressed = Arrays.copyOf(compressed, compressed.length * 2);
+            }
+            length += deflater.deflate(compressed, length, compressed.length - length);
+        }
+        return length;
+    }
+
+    private static void writeFully(FileChannel channel, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+}
@@ -0,0 +1,319 @@
+package com.example.seoulcongestion.service;
+
+import com.example.seoulcongestion.domain.Area;
+import com.example.seoulcongestion.domain.CongestionLevel;
+import com.example.seoulcongestion.domain.CongestionSnapshot;
+import com.example.seoulcongestion.domain.RoadTrafficIndex;
+import com.example.seoulcongestion.exception.CustomErrorInfo;
+import com.example.seoulcongestion.exception.CustomException;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.async.ByteBufferFeeder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.time.format.DateTimeParseException;
+import java.util.Arrays;
+
+// CITYDATA 응답을 DataBuffer 단위로 받아 토큰을 읽으면서 CongestionSnapshot에 필요한 필드만 추출한다.
+// 날씨, 주차, 대중교통, 행사 등 사용하지 않는 하위 트리는 값을 만들지 않고 건너뛴다.
+@Slf4j
+public class CityDataParser {
+
+    private static final int INITIAL_FORECAST_CAPACITY = 16;
+
+    // 값을 읽어야 하는 컨테이너만 추적
+    private enum Section { ROOT, CITYDATA, LIVE_LIST, LIVE, FORECAST_LIST, FORECAST, ROAD, ROAD_AVG }
+
+    private final JsonParser parser;
+    private final ByteBufferFeeder feeder;
+    // 이보다 큰 응답 본문은 끝까지 받지 않고 중단 (스트리밍이라 WebClient 코덱의 메모리 제한이 적용되지 않음)
+    private final long maxBytes;
+
+    private final Section[] sections = new Section[Section.values().length];
+    private int depth;
+    // 건너뛰는 중인 하위 트리의 중첩 깊이 (0이면 건너뛰는 중이 아님)
+    private int skipDepth;
+    private String fieldName;
+    private long bytesRead;
+    private long parseNanos;
+
+    private boolean cityDataFound;
+    private String areaName;
+    private String populationTime;
+    private CongestionLevel level;
+    private String congestMessage;
+    private short[] forecastMinutes = new short[INITIAL_FORECAST_CAPACITY];
+    private byte[] forecastLevels = new byte[INITIAL_FORECAST_CAPACITY];
+    private int forecastCount;
+    private String forecastTime;
+    private CongestionLevel forecastLevel;
+    private String roadMessage;
+    private RoadTrafficIndex roadTrafficIndex;
+
+    public CityDataParser(JsonFactory jsonFactory) {
+        this(jsonFactory, Long.MAX_VALUE);
+    }
+
+    public CityDataParser(JsonFactory jsonFactory, long maxBytes) {
+        this.maxBytes = maxBytes;
+        try {
+            this.parser = jsonFactory.createNonBlockingByteBufferParser();
+        } catch (IOException e) {
+            throw new CustomException(CustomErrorInfo.FAILED_TO_PARSE_DATA);
+        }
+        this.feeder = (ByteBufferFeeder) parser.getNonBlockingInputFeeder();
+    }
+
+    public void feed(DataBuffer buffer) {
+        long startedAt = System.nanoTime();
+        try (DataBuffer.ByteBufferIterator iterator = buffer.readableByteBuffers()) {
+            while (iterator.hasNext()) {
+                ByteBuffer byteBuffer = iterator.next();
+                bytesRead += byteBuffer.remaining();
+                if (bytesRead > maxBytes) {
+                    log.warn("Seoul API response exceeded {} bytes, aborting", maxBytes);
+                    throw new CustomException(CustomErrorInfo.FAILED_TO_FETCH_DATA);
+                }
+                feeder.feedInput(byteBuffer);
+                drain();
+            }
+            parseNanos += System.nanoTime() - startedAt;
+        } catch (IOException e) {
+            log.error("Error processing JSON data: {}", e.getMessage());
+            close();
+            throw new CustomException(CustomErrorInfo.FAILED_TO_PARSE_DATA);
+        } catch (RuntimeException e) {
+            // 값 변환 중 실패(예: 잘못된 FCST_TIME)해도 파서는 닫는다
+            close();
+            throw e;
+        } finally {
+            DataBufferUtils.release(buffer);
+        }
+    }
+
+    public long getBytesRead() {
+        return bytesRead;
+    }
+
+    // 버퍼를 파싱하는 데 쓴 시간의 합 (응답을 기다린 시간은 제외)
+    public long getParseNanos() {
+        return parseNanos;
+    }
+
+    public CongestionSnapshot finish(Area area) {
+        try {
+            feeder.endOfInput();
+            drain();
+        } catch (IOException e) {
+            log.error("Error processing JSON data: {}", e.getMessage());
+            throw new CustomException(CustomErrorInfo.FAILED_TO_PARSE_DATA);
+        } finally {
+            close();
+        }
+
+        if (bytesRead == 0) {
+            log.error("Failed to fetch data from Seoul API");
+            throw new CustomException(CustomErrorInfo.FAILED_TO_FETCH_DATA);
+        }
+        if (!cityDataFound) {
+            log.error("Invalid JSON structure: Missing or invalid 'CITYDATA' field");
+            throw new CustomException(CustomErrorInfo.INVALID_JSON_STRUCTURE);
+        }
+        if (!areaName.equals(area.getName())) {
+            // Seoul API가 요청한 장소명을 인식하지 못함
+            log.warn("Seoul API returned {} for requested area {}", areaName, area.getName());
+            throw new CustomException(CustomErrorInfo.INVALID_AREA_NAME);
+        }
+
+        int populationMinute;
+        try {
+            populationMinute = CongestionSnapshot.toPopulationMinute(populationTime);
+        } catch (DateTimeParseException e) {
+            log.error("Invalid population time format: {}", populationTime);
+            throw new CustomException(CustomErrorInfo.FAILED_TO_PARSE_DATA);
+        }
+
+        return CongestionSnapshot.builder()
+                .area(area)
+                .populationMinute(populationMinute)
+                .level(level)
+                .congestMessage(congestMessage)
+                .forecastMinutes(forecastMinutes)
+                .forecastLevels(forecastLevels)
+                .forecastCount(forecastCount)
+                .roadTrafficIndex(roadTrafficIndex)
+                .roadMessage(roadMessage)
+                .build();
+    }
+
+    private void drain() throws IOException {
+        JsonToken token;
+        while ((token = parser.nextToken()) != null && token != JsonToken.NOT_AVAILABLE) {
+            if (skipDepth > 0) {
+                if (token.isStructStart()) {
+                    skipDepth++;
+                } else if (token.isStructEnd()) {
+                    skipDepth--;
+                }
+                continue;
+            }
+
+            switch (token) {
+                case FIELD_NAME -> fieldName = parser.currentName();
+                case START_OBJECT, START_ARRAY -> enter(token == JsonToken.START_OBJECT);
+                case END_OBJECT, END_ARRAY -> exit();
+                default -> value();
+            }
+        }
+    }
+
+    private void enter(boolean object) {
+        Section section = childOf(depth == 0 ? null : sections[depth - 1], object);
+        if (section == null) {
+            skipDepth = 1;
+            return;
+        }
+
+        switch (section) {
+            case CITYDATA -> {
+                cityDataFound = true;
+                areaName = "";
+            }
+            case LIVE -> {
+                populationTime = null;
+                level = CongestionLevel.UNKNOWN;
+                congestMessage = "";
+                forecastCount = 0;
+            }
+            case FORECAST -> {
+                forecastTime = null;
+                forecastLevel = CongestionLevel.UNKNOWN;
+            }
+            case ROAD_AVG -> {
+                roadMessage = "";
+                roadTrafficIndex = RoadTrafficIndex.UNKNOWN;
+            }
+            default -> {
+            }
+        }
+        sections[depth++] = section;
+    }
+
+    private Section childOf(Section parent, boolean object) {
+        if (parent == null) {
+            return object ? Section.ROOT : null;
+        }
+        return switch (parent) {
+            case ROOT -> object && "CITYDATA".equals(fieldName) ? Section.CITYDATA : null;
+            case CITYDATA -> {
+                if (!object && "LIVE_PPLTN_STTS".equals(fieldName)) {
+                    yield Section.LIVE_LIST;
+                }
+                yield object && "ROAD_TRAFFIC_STTS".equals(fieldName) ? Section.ROAD : null;
+            }
+            case LIVE_LIST -> object ? Section.LIVE : null;
+            case LIVE -> !object && "FCST_PPLTN".equals(fieldName) ? Section.FORECAST_LIST : null;
+            case FORECAST_LIST -> object ? Section.FORECAST : null;
+            case ROAD -> object && "AVG_ROAD_DATA".equals(fieldName) ? Section.ROAD_AVG : null;
+            default -> null;
+        };
+    }
+
+    private void exit() {
+        Section section = sections[--depth];
+        if (section == Section.FORECAST) {
+            addForecast();
+        }
+    }
+
+    private void addForecast() {
+        if (forecastTime == null || forecastTime.isEmpty()) {
+            log.warn("Invalid forecast time: {}", forecastTime);
+            return;
+        }
+        if (forecastCount == forecastMinutes.length) {
+            forecastMinutes = Arrays.copyOf(forecastMinutes, forecastCount * 2);
+            forecastLevels = Arrays.copyOf(forecastLevels, forecastCount * 2);
+        }
+        forecastMinutes[forecastCount] = (short) minuteOfDay(forecastTime);
+        forecastLevels[forecastCount] = forecastLevel.code();
+        forecastCount++;
+    }
+
+    // "yyyy-MM-dd HH:mm"에서 시각 부분만 읽어 하루 중 분으로 변환 (날짜 객체를 만들지 않음)
+    private static int minuteOfDay(String time) {
+        if (time.length() != 16 || time.charAt(10) != ' ' || time.charAt(13) != ':') {
+            log.error("Invalid forecast time format: {}", time);
+            throw new CustomException(CustomErrorInfo.FAILED_TO_PARSE_DATA);
+        }
+        int hour = digit(time, 11) * 10 + digit(time, 12);
+        int minute = digit(time, 14) * 10 + digit(time, 15);
+        if (hour > 23 || minute > 59) {
+            log.error("Invalid forecast time format: {}", time);
+            throw new CustomException(CustomErrorInfo.FAILED_TO_PARSE_DATA);
+        }
+        return hour * 60 + minute;
+    }
+
+    private static int digit(String text, int index) {
+        char c = text.charAt(index);
+        if (c < '0' || c > '9') {
+            log.error("Invalid forecast time format: {}", text);
+            throw new CustomException(CustomErrorInfo.FAILED_TO_PARSE_DATA);
+        }
+        return c - '0';
+    }
+
+    private void value() throws IOException {
+        if (depth == 0 || fieldName == null) {
+            return;
+        }
+        switch (sections[depth - 1]) {
+            case CITYDATA -> {
+                if ("AREA_NM".equals(fieldName)) {
+                    areaName = parser.getText();
+                }
+            }
+            case LIVE -> {
+                switch (fieldName) {
+                    case "PPLTN_TIME" -> populationTime = parser.getText();
+                    case "AREA_CONGEST_LVL" -> level = CongestionLevel.fromLabel(parser.getText());
+                    case "AREA_CONGEST_MSG" -> congestMessage = parser.getText();
+                    default -> {
+                    }
+                }
+            }
+            case FORECAST -> {
+                switch (fieldName) {
+                    case "FCST_TIME" -> forecastTime = parser.getText();
+                    case "FCST_CONGEST_LVL" -> forecastLevel = CongestionLevel.fromLabel(parser.getText());
+                    default -> {
+                    }
+                }
+            }
+            case ROAD_AVG -> {
+                switch (fieldName) {
+                    case "ROAD_MSG" -> roadMessage = parser.getText();
+                    case "ROAD_TRAFFIC_IDX" -> roadTrafficIndex = RoadTrafficIndex.fromLabel(parser.getText());
+                    default -> {
+                    }
+                }
+            }
+            default -> {
+            }
+        }
+    }
+
+    private void close() {
+        try {
+            parser.close();
+        } catch (IOException e) {
+            log.debug("Failed to close JSON parser: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,260 @@
+package com.example.seoulcongestion.service;
+
+import com.example.seoulcongestion.domain.Area;
+import jakarta.annotation.PreDestroy;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+// 여러 인스턴스가 같은 장소를 중복 조회하지 않도록 공유 DB 테이블로 장소 샤드(장소 id % 샤드 수)의 임대를 나눠 가진다.
+// 임대는 lease-duration 동안만 유효하고 renew-interval마다 연장하므로, 노드가 죽으면
+// 늦어도 lease-duration + renew-interval 안에 다른 노드가 넘겨받는다.
+// 비활성화되어 있으면 모든 장소를 직접 조회한다.
+@Slf4j
+@Component
+public class ClusterLeaseManager {
+
+    private static final String CREATE_LEASE_TABLE = """
+            CREATE TABLE IF NOT EXISTS area_lease (
+                shard INT PRIMARY KEY,
+                owner_id VARCHAR(100),
+                expires_at BIGINT NOT NULL,
+                lease_version BIGINT NOT NULL
+            )""";
+    private static final String CREATE_MEMBER_TABLE = """
+            CREATE TABLE IF NOT EXISTS cluster_member (
+                node_id VARCHAR(100) PRIMARY KEY,
+                heartbeat_until BIGINT NOT NULL
+            )""";
+
+    @Getter
+    private final boolean enabled;
+    @Getter
+    private final String nodeId;
+    private final JdbcTemplate jdbcTemplate;
+    private final int shards;
+    private final long leaseMillis;
+    private final Clock clock;
+    // 죽은 노드의 임대를 다른 노드가 넘겨받기까지 걸릴 수 있는 최대 시간
+    @Getter
+    private final Duration failoverBound;
+
+    // 샤드 -> 이 노드가 가진 임대의 만료 시각 (epoch ms, 없으면 0)
+    private final AtomicLongArray ownedUntil;
+    private volatile boolean schemaReady;
+    // 마지막 갱신 때 본 살아 있는 노드 수 (호출 한도를 나눠 쓰는 데 사용, 비활성화면 1)
+    @Getter
+    private volatile int liveMembers = 1;
+
+    @Autowired
+    public ClusterLeaseManager(JdbcTemplate jdbcTemplate,
+                               @Value("${seoul.cluster.enabled:false}") boolean enabled,
+                               @Value("${seoul.cluster.node-id:}") String nodeId,
+                               @Value("${seoul.cluster.shards:16}") int shards,
+                               @Value("${seoul.cluster.lease-duration:PT30S}") Duration leaseDuration,
+                               @Value("${seoul.cluster.renew-interval:PT10S}") Duration renewInterval,
+                               @Value("${seoul.api.update-interval:PT5M}") Duration updateInterval) {
+        this(jdbcTemplate, enabled, nodeId, shards, leaseDuration, renewInterval, updateInterval, Clock.systemUTC());
+    }
+
+    ClusterLeaseManager(JdbcTemplate jdbcTemplate, boolean enabled, String nodeId, int shards,
+                        Duration leaseDuration, Duration renewInterval, Duration updateInterval, Clock clock) {
+        if (shards <= 0) {
+            throw new IllegalArgumentException("seoul.cluster.shards must be positive");
+        }
+        if (renewInterval.compareTo(leaseDuration) >= 0) {
+            throw new IllegalArgumentException("seoul.cluster.renew-interval must be shorter than lease-duration");
+        }
+        // 죽은 노드의 샤드를 한 번의 갱신 주기 안에 넘겨받을 수 있어야 한다
+        if (enabled && leaseDuration.plus(renewInterval).compareTo(updateInterval) > 0) {
+            throw new IllegalArgumentException(
+                    "seoul.cluster.lease-duration + renew-interval must not exceed seoul.api.update-interval");
+        }
+        this.jdbcTemplate = jdbcTemplate;
+        this.enabled = enabled;
+        this.nodeId = nodeId == null || nodeId.isBlank() ? defaultNodeId() : nodeId;
+        this.shards = shards;
+        this.leaseMillis = leaseDuration.toMillis();
+        this.clock = clock;
+        this.failoverBound = leaseDuration.plus(renewInterval);
+        this.ownedUntil = new AtomicLongArray(shards);
+    }
+
+    public boolean owns(Area area) {
+        return !enabled || clock.millis() < ownedUntil.get(shardOf(area));
+    }
+
+    // 장소 단위가 아닌 공유 작업(기록 정리 등)은 0번 샤드 임대를 가진 노드 하나만 한다
+    public boolean isCoordinator() {
+        return !enabled || clock.millis() < ownedUntil.get(0);
+    }
+
+    public int shardOf(Area area) {
+        return area.getId() % shards;
+    }
+
+    public int getOwnedShardCount() {
+        long now = clock.millis();
+        int count = 0;
+        for (int shard = 0; shard < shards; shard++) {
+            if (now < ownedUntil.get(shard)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    // 살아 있는 노드 수로 샤드를 고르게 나눠, 몫보다 많으면 내려놓고 적으면 만료된 샤드를 가져온다
+    @Scheduled(fixedDelayString = "${seoul.cluster.renew-interval:PT10S}")
+    public void renew() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            ensureSchema();
+
+            long now = clock.millis();
+            long until = now + leaseMillis;
+            heartbeat(until);
+
+            Integer members = jdbcTemplate.queryForObject(
+                    "SELECT COUNT(*) FROM cluster_member WHERE heartbeat_until > ?", Integer.class, now);
+            int live = Math.max(1, members == null ? 0 : members);
+            liveMembers = live;
+            int target = (shards + live - 1) / live;
+
+            // 갖고 있던 임대는 소유자가 그대로일 때만 연장된다 (그 사이 넘어갔으면 0건)
+            List<Integer> kept = new ArrayList<>();
+            for (int shard = 0; shard < shards; shard++) {
+                if (ownedUntil.get(shard) == 0) {
+                    continue;
+                }
+                int updated = jdbcTemplate.update(
+                        "UPDATE area_lease SET expires_at = ? WHERE shard = ? AND owner_id = ? AND expires_at > ?",
+                        until, shard, nodeId, now);
+                if (updated == 1) {
+                    kept.add(shard);
+                } else {
+                    ownedUntil.set(shard, 0);
+                    log.info("Lost lease on shard {}", shard);
+                }
+            }
+
+            while (kept.size() > target) {
+                int shard = kept.remove(kept.size() - 1);
+                release(shard);
+                log.info("Released lease on shard {} to rebalance across {} nodes", shard, live);
+            }
+
+            if (kept.size() < target) {
+                List<Integer> expired = jdbcTemplate.queryForList(
+                        "SELECT shard FROM area_lease WHERE expires_at <= ? AND shard < ? ORDER BY shard",
+                        Integer.class, now, shards);
+                for (int shard : expired) {
+                    if (kept.size() >= target) {
+                        break;
+                    }
+                    int updated = jdbcTemplate.update(
+                            "UPDATE area_lease SET owner_id = ?, expires_at = ?, lease_version = lease_version + 1 "
+                                    + "WHERE shard = ? AND expires_at <= ?",
+                            nodeId, until, shard, now);
+                    if (updated == 1) {
+                        kept.add(shard);
+                        log.info("Acquired lease on shard {}", shard);
+                    }
+                }
+            }
+
+            for (int shard : kept) {
+                ownedUntil.set(shard, until);
+            }
+        } catch (DataAccessException e) {
+            // 연장하지 못한 임대는 기존 만료 시각이 지나면 스스로 놓은 것으로 본다
+            log.warn("Failed to renew cluster leases: {}", e.getMessage());
+        }
+    }
+
+    // 종료할 때 임대를 바로 풀어 다른 노드가 만료를 기다리지 않게 한다
+    @PreDestroy
+    public void shutdown() {
+        if (!enabled || !schemaReady) {
+            return;
+        }
+        try {
+            for (int shard = 0; shard < shards; shard++) {
+                if (ownedUntil.get(shard) != 0) {
+                    release(shard);
+                }
+            }
+            jdbcTemplate.update("DELETE FROM cluster_member WHERE node_id = ?", nodeId);
+        } catch (DataAccessException e) {
+            log.warn("Failed to release cluster leases: {}", e.getMessage());
+        }
+    }
+
+    private void release(int shard) {
+        ownedUntil.set(shard, 0);
+        jdbcTemplate.update("UPDATE area_lease SET owner_id = NULL, expires_at = 0 WHERE shard = ? AND owner_id = ?",
+                shard, nodeId);
+    }
+
+    private void heartbeat(long until) {
+        int updated = jdbcTemplate.update("UPDATE cluster_member SET heartbeat_until = ? WHERE node_id = ?",
+                until, nodeId);
+        if (updated == 0) {
+            insertIgnoringDuplicate("INSERT INTO cluster_member (node_id, heartbeat_until) VALUES (?, ?)",
+                    nodeId, until);
+        }
+    }
+
+    private void ensureSchema() {
+        if (schemaReady) {
+            return;
+        }
+        jdbcTemplate.execute(CREATE_LEASE_TABLE);
+        jdbcTemplate.execute(CREATE_MEMBER_TABLE);
+        List<Integer> existing = jdbcTemplate.queryForList("SELECT shard FROM area_lease", Integer.class);
+        for (int shard = 0; shard < shards; shard++) {
+            if (!existing.contains(shard)) {
+                insertIgnoringDuplicate(
+                        "INSERT INTO area_lease (shard, owner_id, expires_at, lease_version) VALUES (?, NULL, 0, 0)",
+                        shard);
+            }
+        }
+        schemaReady = true;
+    }
+
+    // 여러 노드가 동시에 시작하면 같은 행을 넣으려 할 수 있다
+    private void insertIgnoringDuplicate(String sql, Object... args) {
+        try {
+            jdbcTemplate.update(sql, args);
+        } catch (DuplicateKeyException e) {
+            log.debug("Row already inserted by another node: {}", e.getMessage());
+        }
+    }
+
+    private static String defaultNodeId() {
+        String host;
+        try {
+            host = InetAddress.getLocalHost().getHostName();
+        } catch (UnknownHostException e) {
+            host = "node";
+        }
+        return host + "-" + UUID.randomUUID().toString().substring(0, 8);
+    }
+}
@@ -0,0 +1,112 @@
+package com.example.seoulcongestion.service;
+
+import com.example.seoulcongestion.domain.CongestionData;
+import com.example.seoulcongestion.domain.CongestionSnapshot;
+import com.example.seoulcongestion.dto.ApiResponse;
+import com.example.seoulcongestion.dto.AreaError;
+import com.example.seoulcongestion.exception.CustomErrorInfo;
+import com.example.seoulcongestion.exception.CustomException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CongestionBatchService {
+
+    private static final String ALL_AREAS = "all";
+
+    private final CongestionSnapshotService congestionSnapshotService;
+    private final AreaRegistry areaRegistry;
+
+    // 한 배치에서 동시에 조회하는 최대 장소 수
+    @Value("${seoul.batch.concurrency:16}")
+    private int concurrency;
+
+    // 배치 전체에 허용하는 최대 응답 시간
+    @Value("${seoul.batch.deadline:PT3S}")
+    private Duration deadline;
+
+    public Mono<ApiResponse> getCongestions(List<String> areaNames) {
+        Set<String> requested = new HashSet<>();
+        List<String> names = resolveAreaNames(areaNames, requested);
+
+        // 조회 수는 직접 지정한 장소만 배치당 한 번씩 센다 ("all"로 펼친 장소까지 세면 인기도 차이가 사라짐)
+        return Flux.fromIterable(names)
+                .flatMap(areaName -> congestionSnapshotService.getCongestion(areaName, requested.contains(areaName))
+                        .map(snapshot -> new AreaOutcome(areaName, snapshot, null))
+                        .onErrorResume(e -> Mono.just(new AreaOutcome(areaName, null, errorInfoOf(areaName, e)))),
+                        concurrency)
+                // 마감 시간이 지나면 남은 조회는 취소하고 받은 결과만으로 응답
+                .take(deadline)
+                .collectMap(AreaOutcome::areaName, Function.identity())
+                .map(outcomes -> toResponse(names, outcomes));
+    }
+
+    // 중복을 제거한 조회 대상 목록을 반환하고, 직접 지정한 장소명은 requested에 담는다
+    private List<String> resolveAreaNames(List<String> areaNames, Set<String> requested) {
+        Set<String> names = new LinkedHashSet<>();
+        for (String areaName : areaNames) {
+            String trimmed = areaName.trim();
+            if (ALL_AREAS.equalsIgnoreCase(trimmed)) {
+                areaRegistry.getAreas().forEach(area -> names.add(area.getName()));
+            } else if (!trimmed.isEmpty()) {
+                names.add(trimmed);
+                requested.add(trimmed);
+            }
+        }
+        return List.copyOf(names);
+    }
+
+    private ApiResponse toResponse(List<String> names, Map<String, AreaOutcome> outcomes) {
+        List<CongestionData> results = new ArrayList<>(outcomes.size());
+        List<AreaError> errors = new ArrayList<>();
+
+        // 요청한 순서대로 결과를 담고, 마감 전에 끝나지 않은 장소는 시간 초과로 표시
+        for (String areaName : names) {
+            AreaOutcome outcome = outcomes.get(areaName);
+            if (outcome == null) {
+                errors.add(new AreaError(areaName, CustomErrorInfo.REQUEST_TIMEOUT));
+            } else if (outcome.snapshot() != null) {
+                results.add(outcome.snapshot().toCongestionData());
+            } else {
+                errors.add(new AreaError(areaName, outcome.error()));
+            }
+        }
+
+        if (!errors.isEmpty()) {
+            log.warn("Batch congestion request returned {} of {} areas, failed: {}", results.size(), names.size(),
+                    errors.stream().map(AreaError::getAreaName).collect(Collectors.joining(", ")));
+        }
+
+        ApiResponse response = new ApiResponse();
+        response.setResults(results);
+        response.setErrors(errors);
+        return response;
+    }
+
+    private CustomErrorInfo errorInfoOf(String areaName, Throwable e) {
+        if (e instanceof CustomException customException) {
+            return customException.getCustomErrorInfo();
+        }
+        log.warn("Unexpected error while fetching {}: {}", areaName, e.getMessage());
+        return CustomErrorInfo.FAILED_TO_FETCH_DATA;
+    }
+
+    private record AreaOutcome(String areaName, CongestionSnapshot snapshot, CustomErrorInfo error) {
+    }
+}
@@ -0,0 +1,186 @@
+package com.example.seoulcongestion.service;
+
+import com.example.seoulcongestion.domain.CongestionData;
+import com.example.seoulcongestion.domain.CongestionSnapshot;
+import com.example.seoulcongestion.dto.ApiResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.DateTimeException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.function.Function;
+
+// PPLTN_TIME을 기준으로 ETag·Last-Modified·Cache-Control을 만들고 조건부 요청을 판단한다.
+// 같은 장소의 같은 PPLTN_TIME이면 응답 내용이 같으므로 본문을 만들지 않고 비교할 수 있다.
+@Component
+public class CongestionCachePolicy {
+
+    private static final ZoneId SEOUL = ZoneId.of("Asia/Seoul");
+    private static final String STALE_HEADER = "X-Congestion-Stale";
+
+    // Seoul API가 PPLTN_TIME을 갱신하는 주기
+    private final Duration updateInterval;
+
+    // 이보다 오래 전에 받아 온 스냅샷은 X-Congestion-Stale로 표시
+    private final Duration staleAfter;
+
+    private final Clock clock;
+
+    @Autowired
+    public CongestionCachePolicy(@Value("${seoul.api.update-interval:PT5M}") Duration updateInterval,
+                                 @Value("${seoul.api.stale-after:PT10M}") Duration staleAfter) {
+        this(updateInterval, staleAfter, Clock.systemUTC());
+    }
+
+    CongestionCachePolicy(Duration updateInterval, Duration staleAfter, Clock clock) {
+        this.updateInterval = updateInterval;
+        this.staleAfter = staleAfter;
+        this.clock = clock;
+    }
+
+    // 본문은 200일 때만 body 함수로 만든다 (304에는 본문이 없으므로 변환·직렬화를 건너뜀)
+    public <T> ResponseEntity<T> toResponse(CongestionSnapshot snapshot, String ifNoneMatch, String ifModifiedSince,
+                                            Function<ResponseEntity.BodyBuilder, ResponseEntity<T>> body) {
+        // 캐시에 보관된 시간(Age)과 오래된 스냅샷 여부를 함께 알린다
+        long age = Math.max(0, Duration.ofMillis(clock.millis() - snapshot.getFetchedAt()).toSeconds());
+        boolean stale = age > staleAfter.toSeconds();
+
+        if (!snapshot.hasPopulationTime()) {
+            return body.apply(withAge(ResponseEntity.ok(), age, stale)
+                    .cacheControl(CacheControl.noCache())
+                    .varyBy(HttpHeaders.ACCEPT_ENCODING));
+        }
+
+        // identity, gzip, br 본문이 같은 값을 공유하므로 약한 검증자 (바이트가 같다고 보장하지 않음)
+        String etag = "W/\"" + snapshot.getArea().getId() + "-" + snapshot.getPopulationMinute() + "\"";
+        Instant lastModified = toInstant(snapshot.getPopulationMinute());
+        CacheControl cacheControl = cacheControlFor(snapshot.getPopulationMinute(), age);
+
+        if (isNotModified(etag, lastModified, ifNoneMatch, ifModifiedSince)) {
+            return withAge(ResponseEntity.status(HttpStatus.NOT_MODIFIED), age, stale)
+                    .eTag(etag)
+                    .lastModified(lastModified)
+                    .cacheControl(cacheControl)
+                    .varyBy(HttpHeaders.ACCEPT_ENCODING)
+                    .build();
+        }
+        return body.apply(withAge(ResponseEntity.ok(), age, stale)
+                .eTag(etag)
+                .lastModified(lastModified)
+                .cacheControl(cacheControl)
+                .varyBy(HttpHeaders.ACCEPT_ENCODING));
+    }
+
+    public ResponseEntity<ApiResponse> toResponse(ApiResponse response, String ifNoneMatch) {
+        // 일부 장소가 실패한 결과는 캐시하지 않는다
+        if (response.getErrors() != null && !response.getErrors().isEmpty()) {
+            return ResponseEntity.ok()
+                    .cacheControl(CacheControl.noCache())
+                    .body(response);
+        }
+
+        // 장소 순서와 PPLTN_TIME이 같으면 같은 응답 (JSON 직렬화 없이 문자열 해시로 비교)
+        long hash = 1125899906842597L;
+        int earliestMinute = Integer.MAX_VALUE;
+        for (CongestionData data : response.getResults()) {
+            hash = 31 * hash + data.getAreaName().hashCode();
+            String populationTime = data.getPopulationTime();
+            hash = 31 * hash + (populationTime == null ? 0 : populationTime.hashCode());
+            earliestMinute = Math.min(earliestMinute, populationTime == null
+                    ? CongestionSnapshot.NO_TIME
+                    : CongestionSnapshot.toPopulationMinute(populationTime));
+        }
+
+        String etag = "W/\"" + Long.toHexString(hash) + "\"";
+        CacheControl cacheControl = earliestMinute == Integer.MAX_VALUE || earliestMinute == CongestionSnapshot.NO_TIME
+                ? CacheControl.noCache()
+                : cacheControlFor(earliestMinute, 0);
+
+        if (matches(etag, ifNoneMatch)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(etag)
+                    .cacheControl(cacheControl)
+                    .build();
+        }
+        return ResponseEntity.ok()
+                .eTag(etag)
+                .cacheControl(cacheControl)
+                .body(response);
+    }
+
+    // 다음 PPLTN_TIME 갱신 예정 시각까지만 캐시 (이미 지났으면 매번 재검증).
+    // 받는 쪽 캐시는 max-age에서 Age를 빼므로 그만큼 더해 둔다.
+    CacheControl cacheControlFor(int populationMinute, long ageSeconds) {
+        Instant nextUpdate = toInstant(populationMinute).plus(updateInterval);
+        long seconds = Duration.between(clock.instant(), nextUpdate).toSeconds();
+        if (seconds <= 0) {
+            return CacheControl.maxAge(Duration.ZERO).cachePublic().mustRevalidate();
+        }
+        return CacheControl.maxAge(Duration.ofSeconds(Math.min(seconds, updateInterval.toSeconds()) + ageSeconds))
+                .cachePublic();
+    }
+
+    private static <B extends ResponseEntity.HeadersBuilder<B>> B withAge(B builder, long age, boolean stale) {
+        builder.header(HttpHeaders.AGE, Long.toString(age));
+        if (stale) {
+            builder.header(STALE_HEADER, "true");
+        }
+        return builder;
+    }
+
+    private static boolean isNotModified(String etag, Instant lastModified, String ifNoneMatch, String ifModifiedSince) {
+        // If-None-Match가 있으면 If-Modified-Since는 보지 않는다 (RFC 9110)
+        if (ifNoneMatch != null) {
+            return matches(etag, ifNoneMatch);
+        }
+        if (ifModifiedSince != null) {
+            try {
+                Instant since = ZonedDateTime.parse(ifModifiedSince, DateTimeFormatter.RFC_1123_DATE_TIME).toInstant();
+                return !lastModified.isAfter(since);
+            } catch (DateTimeException e) {
+                return false;
+            }
+        }
+        return false;
+    }
+
+    // GET 요청이므로 약한 비교 (W/ 접두사는 무시)
+    private static boolean matches(String etag, String ifNoneMatch) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        String opaque = etag.startsWith("W/") ? etag.substring(2) : etag;
+        for (String candidate : ifNoneMatch.split(",")) {
+            String trimmed = candidate.trim();
+            if (trimmed.equals("*")) {
+                return true;
+            }
+            if (trimmed.startsWith("W/")) {
+                trimmed = trimmed.substring(2);
+            }
+            if (trimmed.equals(opaque)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // 분 단위 PPLTN_TIME은 서울 시각이므로 실제 시각으로 변환
+    private static Instant toInstant(int populationMinute) {
+        return LocalDateTime.ofEpochSecond(populationMinute * 60L, 0, ZoneOffset.UTC)
+                .atZone(SEOUL)
+                .toInstant();
+    }
+}
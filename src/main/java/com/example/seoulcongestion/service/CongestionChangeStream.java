@@ -0,0 +1,164 @@
+package com.example.seoulcongestion.service;
+
+import com.example.seoulcongestion.domain.Area;
+import com.example.seoulcongestion.domain.CongestionSnapshot;
+import com.example.seoulcongestion.dto.CongestionChangeEvent;
+import com.example.seoulcongestion.event.CongestionObservedEvent;
+import com.example.seoulcongestion.exception.CustomErrorInfo;
+import com.example.seoulcongestion.exception.CustomException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.BufferOverflowStrategy;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Sinks;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+// 장소별 혼잡도가 실제로 바뀐 경우에만 구독자에게 알리는 SSE 스트림.
+// 조회는 폴러/API 호출이 한 번만 하고, 모든 구독자는 같은 변경 이벤트를 나눠 받는다.
+@Slf4j
+@Component
+public class CongestionChangeStream {
+
+    private static final String ALL_AREAS = "all";
+    private static final String EVENT_NAME = "congestion";
+    private static final List<String> ALL_FIELDS = List.of("populationTime", "level", "roadTrafficIndex");
+
+    private final AreaRegistry areaRegistry;
+    private final Duration heartbeatInterval;
+    private final Duration maxDuration;
+    private final int bufferSize;
+
+    // 구독자가 없으면 버리고, 느린 구독자가 다른 구독자를 막지 않도록 각자 버퍼를 둔다
+    private final Sinks.Many<Change> sink = Sinks.many().multicast().directBestEffort();
+
+    // 장소 인덱스 -> 마지막으로 내보낸 변경 (새 구독자의 초기 상태로도 사용)
+    private final AtomicReferenceArray<Change> lastEmitted;
+
+    private long sequence;
+
+    public CongestionChangeStream(AreaRegistry areaRegistry,
+                                  @Value("${seoul.stream.heartbeat-interval:PT15S}") Duration heartbeatInterval,
+                                  @Value("${seoul.stream.max-duration:PT1H}") Duration maxDuration,
+                                  @Value("${seoul.stream.buffer-size:256}") int bufferSize) {
+        this.areaRegistry = areaRegistry;
+        this.heartbeatInterval = heartbeatInterval;
+        this.maxDuration = maxDuration;
+        this.bufferSize = bufferSize;
+        this.lastEmitted = new AtomicReferenceArray<>(areaRegistry.size());
+    }
+
+    @EventListener
+    public void onCongestionObserved(CongestionObservedEvent event) {
+        publish(event.getSnapshot());
+    }
+
+    public synchronized void publish(CongestionSnapshot snapshot) {
+        int index = snapshot.getArea().index();
+        Change previous = lastEmitted.get(index);
+
+        List<String> changes;
+        if (previous == null) {
+            changes = ALL_FIELDS;
+        } else {
+            CongestionSnapshot last = previous.snapshot();
+            // 늦게 도착한 이전 시각의 관측은 무시
+            if (snapshot.getPopulationMinute() < last.getPopulationMinute()) {
+                return;
+            }
+            changes = new ArrayList<>(3);
+            if (snapshot.getPopulationMinute() != last.getPopulationMinute()) {
+                changes.add("populationTime");
+            }
+            if (snapshot.getLevel() != last.getLevel()) {
+                changes.add("level");
+            }
+            if (!Objects.equals(snapshot.getRoadTrafficIndex(), last.getRoadTrafficIndex())) {
+                changes.add("roadTrafficIndex");
+            }
+            if (changes.isEmpty()) {
+                return;
+            }
+        }
+
+        Change change = new Change(++sequence, snapshot, List.copyOf(changes));
+        lastEmitted.set(index, change);
+        sink.tryEmitNext(change);
+    }
+
+    public Flux<ServerSentEvent<CongestionChangeEvent>> subscribe(List<String> areaNames) {
+        BitSet selected = resolveAreas(areaNames);
+
+        Flux<ServerSentEvent<CongestionChangeEvent>> changes = Flux.defer(() -> {
+            // 구독자별로 이미 보낸 변경 번호 (초기 상태와 실시간 변경이 겹치면 한 번만 보낸다)
+            long[] sent = new long[lastEmitted.length()];
+            Flux<Change> live = sink.asFlux().filter(change -> selected.get(change.snapshot().getArea().index()));
+            Flux<Change> current = Flux.defer(() -> Flux.fromStream(selected.stream()
+                    .mapToObj(lastEmitted::get)
+                    .filter(Objects::nonNull)));
+
+            // 실시간 변경을 먼저 구독한 뒤 현재 상태를 읽어야 사이에 들어온 변경을 놓치지 않는다
+            return Flux.merge(live, current)
+                    .filter(change -> {
+                        int index = change.snapshot().getArea().index();
+                        if (change.sequence() <= sent[index]) {
+                            return false;
+                        }
+                        sent[index] = change.sequence();
+                        return true;
+                    });
+        })
+                .onBackpressureBuffer(bufferSize,
+                        change -> log.debug("Dropped change for {} on a slow subscriber", change.snapshot().getAreaName()),
+                        BufferOverflowStrategy.DROP_OLDEST)
+                .map(CongestionChangeStream::toEvent);
+
+        Flux<ServerSentEvent<CongestionChangeEvent>> heartbeats = Flux.interval(heartbeatInterval)
+                .map(tick -> ServerSentEvent.<CongestionChangeEvent>builder().comment("heartbeat").build())
+                .onBackpressureDrop();
+
+        // 스트리밍 응답에는 MVC 비동기 요청 시간 제한이 걸리지 않으므로 연결 수명은 여기서 제한한다
+        // (끊긴 클라이언트는 하트비트 쓰기 실패로 정리되고, EventSource는 종료 후 자동으로 다시 연결)
+        return Flux.merge(changes, heartbeats).take(maxDuration);
+    }
+
+    private BitSet resolveAreas(List<String> areaNames) {
+        BitSet selected = new BitSet(areaRegistry.size());
+        for (String areaName : areaNames) {
+            String trimmed = areaName.trim();
+            if (ALL_AREAS.equalsIgnoreCase(trimmed)) {
+                selected.set(0, areaRegistry.size());
+            } else if (!trimmed.isEmpty()) {
+                Area area = areaRegistry.get(trimmed);
+                if (area == null) {
+                    throw new CustomException(CustomErrorInfo.INVALID_AREA_NAME);
+                }
+                selected.set(area.index());
+            }
+        }
+        if (selected.isEmpty()) {
+            throw new CustomException(CustomErrorInfo.INVALID_REQUEST_PARAMETER);
+        }
+        return selected;
+    }
+
+    private static ServerSentEvent<CongestionChangeEvent> toEvent(Change change) {
+        CongestionSnapshot snapshot = change.snapshot();
+        return ServerSentEvent.builder(new CongestionChangeEvent(snapshot.getAreaName(), change.changes(),
+                        snapshot.toCongestionData()))
+                .id(Long.toString(change.sequence()))
+                .event(EVENT_NAME)
+                .build();
+    }
+
+    private record Change(long sequence, CongestionSnapshot snapshot, List<String> changes) {
+    }
+}
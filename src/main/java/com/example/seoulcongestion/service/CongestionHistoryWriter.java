@@ -0,0 +1,150 @@
+package com.example.seoulcongestion.service;
+
+import com.example.seoulcongestion.domain.CongestionHistory;
+import com.example.seoulcongestion.domain.CongestionSnapshot;
+import com.example.seoulcongestion.event.CongestionObservedEvent;
+import com.example.seoulcongestion.repository.CongestionHistoryRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.LongAdder;
+
+// 관측된 스냅샷을 큐에 모아 두었다가 별도 스레드에서 배치로 저장 (요청 처리 경로에서는 큐에 넣기만 함)
+// 클러스터 모드에서는 장소의 임대를 가진 노드만 저장한다 (다른 노드가 게시한 스냅샷도 같은 이벤트로 들어옴)
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "seoul.history.enabled", havingValue = "true", matchIfMissing = true)
+public class CongestionHistoryWriter {
+
+    private static final ZoneId SEOUL = ZoneId.of("Asia/Seoul");
+
+    private final CongestionHistoryRepository congestionHistoryRepository;
+    private final ClusterLeaseManager leaseManager;
+    private final BlockingQueue<CongestionSnapshot> queue;
+    // 장소 인덱스 -> 마지막으로 큐에 넣은 PPLTN_TIME(분)
+    private final AtomicIntegerArray lastQueuedMinutes;
+    private final LongAdder dropped = new LongAdder();
+    private final int batchSize;
+    private final Duration retention;
+    private final Duration downsampleAfter;
+
+    public CongestionHistoryWriter(CongestionHistoryRepository congestionHistoryRepository,
+                                   AreaRegistry areaRegistry,
+                                   ClusterLeaseManager leaseManager,
+                                   @Value("${seoul.history.queue-capacity:10000}") int queueCapacity,
+                                   @Value("${seoul.history.batch-size:50}") int batchSize,
+                                   @Value("${seoul.history.retention:P30D}") Duration retention,
+                                   @Value("${seoul.history.downsample-after:P2D}") Duration downsampleAfter) {
+        this.congestionHistoryRepository = congestionHistoryRepository;
+        this.leaseManager = leaseManager;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.lastQueuedMinutes = new AtomicIntegerArray(areaRegistry.size());
+        this.batchSize = batchSize;
+        this.retention = retention;
+        this.downsampleAfter = downsampleAfter;
+    }
+
+    // 재시작 후에도 이미 저장된 관측을 다시 넣지 않도록 장소별 마지막 시각을 불러온다
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadLatestPopulationTimes() {
+        for (Object[] row : congestionHistoryRepository.findLatestPopulationTimes()) {
+            int index = ((Number) row[0]).intValue() - 1;
+            int minute = (int) (((LocalDateTime) row[1]).toEpochSecond(ZoneOffset.UTC) / 60);
+            if (index >= 0 && index < lastQueuedMinutes.length()) {
+                lastQueuedMinutes.accumulateAndGet(index, minute, Math::max);
+            }
+        }
+    }
+
+    @EventListener
+    public void onCongestionObserved(CongestionObservedEvent event) {
+        CongestionSnapshot snapshot = event.getSnapshot();
+        if (!snapshot.hasPopulationTime()) {
+            return;
+        }
+
+        // 같은 PPLTN_TIME의 관측은 한 번만 저장
+        int index = snapshot.getArea().index();
+        int minute = snapshot.getPopulationMinute();
+        int previous;
+        do {
+            previous = lastQueuedMinutes.get(index);
+            if (minute <= previous) {
+                return;
+            }
+        } while (!lastQueuedMinutes.compareAndSet(index, previous, minute));
+
+        // 임대가 없는 장소도 시각은 기록해 두어, 임대를 넘겨받은 뒤 이미 저장된 관측을 다시 넣지 않는다
+        if (!leaseManager.owns(snapshot.getArea())) {
+            return;
+        }
+
+        // 큐가 가득 차면 기다리지 않고 버린다
+        if (!queue.offer(snapshot)) {
+            dropped.increment();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${seoul.history.flush-interval:PT5S}")
+    public void flush() {
+        List<CongestionSnapshot> drained = new ArrayList<>(batchSize);
+        while (queue.drainTo(drained, batchSize) > 0) {
+            write(drained);
+            drained.clear();
+        }
+
+        long droppedCount = dropped.sumThenReset();
+        if (droppedCount > 0) {
+            log.warn("History queue was full, dropped {} observations", droppedCount);
+        }
+    }
+
+    @Scheduled(cron = "${seoul.history.maintenance-cron:0 17 * * * *}", zone = "Asia/Seoul")
+    public void maintain() {
+        // 전체 테이블 대상이므로 클러스터에서는 한 노드만
+        if (!leaseManager.isCoordinator()) {
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now(SEOUL);
+        int deleted = congestionHistoryRepository.deleteOlderThan(now.minus(retention));
+        int downsampled = congestionHistoryRepository.downsampleOlderThan(now.minus(downsampleAfter));
+        log.info("History maintenance removed {} expired and {} downsampled rows", deleted, downsampled);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flush();
+    }
+
+    private void write(List<CongestionSnapshot> snapshots) {
+        try {
+            congestionHistoryRepository.saveAll(snapshots.stream().map(CongestionHistory::of).toList());
+        } catch (DataIntegrityViolationException e) {
+            // 다른 인스턴스가 먼저 저장한 관측이 섞여 있으면 한 건씩 저장하면서 중복만 건너뛴다
+            log.debug("Batch insert hit a duplicate observation, retrying one by one");
+            for (CongestionSnapshot snapshot : snapshots) {
+                try {
+                    congestionHistoryRepository.save(CongestionHistory.of(snapshot));
+                } catch (DataIntegrityViolationException duplicate) {
+                    log.debug("Skipping duplicate observation for {}", snapshot.getAreaName());
+                }
+            }
+        }
+    }
+}
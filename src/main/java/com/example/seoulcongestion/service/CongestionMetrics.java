@@ -0,0 +1,217 @@
+package com.example.seoulcongestion.service;
+
+import com.example.seoulcongestion.domain.Area;
+import com.example.seoulcongestion.exception.CustomErrorInfo;
+import com.example.seoulcongestion.exception.CustomException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.IntFunction;
+
+// 조회 -> 파싱 -> 장소 정보 연결 -> 응답 각 단계의 시간과 크기를 장소·결과별로 기록.
+// 태그 값이 무한히 늘지 않도록 장소는 등록된 이름만, 결과는 CustomErrorInfo 코드만 사용한다.
+// 미터는 (장소, 결과)마다 처음 기록할 때 한 번만 등록하고, 이후에는 배열에서 꺼내 쓴다.
+@Component
+public class CongestionMetrics {
+
+    private static final String UNKNOWN_AREA = "unknown";
+    private static final String SUCCESS = "SUCCESS";
+    private static final String CANCELLED = "CANCELLED";
+    private static final String UNEXPECTED = "UNEXPECTED";
+
+    // 결과 슬롯: SUCCESS, CANCELLED, UNEXPECTED, 그 뒤로 CustomErrorInfo 순서대로
+    private static final int SUCCESS_SLOT = 0;
+    private static final int CANCELLED_SLOT = 1;
+    private static final int UNEXPECTED_SLOT = 2;
+    private static final CustomErrorInfo[] ERRORS = CustomErrorInfo.values();
+    private static final int OUTCOMES = UNEXPECTED_SLOT + 1 + ERRORS.length;
+
+    private final MeterRegistry meterRegistry;
+    private final AreaRegistry areaRegistry;
+
+    // 장소 태그가 없는 결과별 타이머에만 켜는 히스토그램 (Prometheus 버킷 시계열 수 = 결과 수 x 버킷 수)
+    private final boolean histogram;
+    // 장소별 미터의 히스토그램 (장소 수 x 결과 수 x 버킷 수만큼 시계열이 생기므로 기본은 끔)
+    private final boolean areaHistogram;
+
+    private final Counter cacheHits;
+    private final Counter cacheMisses;
+    private final Counter cacheStaleHits;
+
+    private final MeterCache<Timer> upstreamTimers;
+    private final Timer upstreamOverall;
+    private final MeterCache<DistributionSummary> responseSizes;
+    private final MeterCache<Timer> parseTimers;
+    private final MeterCache<Timer> enrichTimers;
+    private final OutcomeTimers fetchTimers;
+    private final OutcomeTimers requestTimers;
+
+    public CongestionMetrics(MeterRegistry meterRegistry, AreaRegistry areaRegistry,
+                             @Value("${seoul.metrics.histogram:true}") boolean histogram,
+                             @Value("${seoul.metrics.area-histogram:false}") boolean areaHistogram) {
+        this.meterRegistry = meterRegistry;
+        this.areaRegistry = areaRegistry;
+        this.histogram = histogram;
+        this.areaHistogram = areaHistogram;
+        this.cacheHits = cacheCounter(meterRegistry, "hit");
+        this.cacheMisses = cacheCounter(meterRegistry, "miss");
+        this.cacheStaleHits = cacheCounter(meterRegistry, "stale");
+
+        int areaSlots = areaRegistry.size() + 1;
+        this.upstreamTimers = new MeterCache<>(areaSlots, slot ->
+                areaTimer("seoul.api.upstream", "Seoul API response time per attempt", slot));
+        this.upstreamOverall = Timer.builder("seoul.api.upstream.all")
+                .description("Seoul API response time per attempt across all areas")
+                .publishPercentileHistogram(histogram)
+                .register(meterRegistry);
+        this.responseSizes = new MeterCache<>(areaSlots, slot -> DistributionSummary.builder("seoul.api.response.size")
+                .description("CITYDATA response body size")
+                .baseUnit("bytes")
+                .tag("area", areaName(slot))
+                .publishPercentileHistogram(areaHistogram)
+                .register(meterRegistry));
+        this.parseTimers = new MeterCache<>(areaSlots, slot ->
+                areaTimer("seoul.api.parse", "CPU time spent parsing CITYDATA buffers", slot));
+        this.enrichTimers = new MeterCache<>(areaSlots, slot ->
+                areaTimer("seoul.api.enrich", "Time to validate and build a snapshot with area metadata", slot));
+        this.fetchTimers = new OutcomeTimers("seoul.api.fetch", "Seoul API fetch including retries", areaSlots);
+        this.requestTimers = new OutcomeTimers("congestion.request", "End-to-end congestion request latency",
+                areaSlots);
+    }
+
+    // 요청부터 응답 본문이 모두 도착할 때까지 (스트리밍 파싱 시간 포함)
+    public void recordUpstream(Area area, long latencyNanos, long bodyBytes, long parseNanos) {
+        int slot = area.index();
+        upstreamTimers.get(slot).record(latencyNanos, TimeUnit.NANOSECONDS);
+        upstreamOverall.record(latencyNanos, TimeUnit.NANOSECONDS);
+        responseSizes.get(slot).record(bodyBytes);
+        parseTimers.get(slot).record(parseNanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void recordEnrichment(Area area, long nanos) {
+        enrichTimers.get(area.index()).record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void recordCacheHit(boolean stale) {
+        (stale ? cacheStaleHits : cacheHits).increment();
+    }
+
+    public void recordCacheMiss() {
+        cacheMisses.increment();
+    }
+
+    // 재시도와 회로 차단기를 포함한 Seoul API 조회 한 번
+    public <T> Mono<T> timeFetch(Area area, Mono<T> fetch) {
+        return time(fetchTimers, area.index(), fetch);
+    }
+
+    // 컨트롤러에서 응답을 만들 때까지
+    public <T> Mono<T> timeRequest(String areaName, Mono<T> request) {
+        return time(requestTimers, areaSlot(areaName), request);
+    }
+
+    private <T> Mono<T> time(OutcomeTimers timers, int slot, Mono<T> mono) {
+        return Mono.defer(() -> {
+            long startedAt = System.nanoTime();
+            return mono
+                    .doOnSuccess(value -> timers.record(slot, SUCCESS_SLOT, startedAt))
+                    .doOnError(e -> timers.record(slot, outcomeOf(e), startedAt))
+                    .doOnCancel(() -> timers.record(slot, CANCELLED_SLOT, startedAt));
+        });
+    }
+
+    private Timer areaTimer(String name, String description, int slot) {
+        return Timer.builder(name)
+                .description(description)
+                .tag("area", areaName(slot))
+                .publishPercentileHistogram(areaHistogram)
+                .register(meterRegistry);
+    }
+
+    // 등록되지 않은 장소는 마지막 슬롯(unknown)
+    private int areaSlot(String areaName) {
+        Area area = areaName == null ? null : areaRegistry.get(areaName.trim());
+        return area == null ? areaRegistry.size() : area.index();
+    }
+
+    private String areaName(int slot) {
+        return slot < areaRegistry.size() ? areaRegistry.getAreas().get(slot).getName() : UNKNOWN_AREA;
+    }
+
+    private static int outcomeOf(Throwable e) {
+        return e instanceof CustomException custom
+                ? UNEXPECTED_SLOT + 1 + custom.getCustomErrorInfo().ordinal()
+                : UNEXPECTED_SLOT;
+    }
+
+    private static String outcomeName(int outcome) {
+        return switch (outcome) {
+            case SUCCESS_SLOT -> SUCCESS;
+            case CANCELLED_SLOT -> CANCELLED;
+            case UNEXPECTED_SLOT -> UNEXPECTED;
+            default -> ERRORS[outcome - UNEXPECTED_SLOT - 1].name();
+        };
+    }
+
+    private static Counter cacheCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("congestion.cache.requests")
+                .description("Snapshot cache lookups")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    // 장소·결과별 타이머와, 같은 구간을 장소 구분 없이 결과별로 모은 "<name>.all" 타이머(히스토그램은 여기에만)
+    private final class OutcomeTimers {
+
+        private final MeterCache<Timer> byAreaAndOutcome;
+        private final MeterCache<Timer> byOutcome;
+
+        OutcomeTimers(String name, String description, int areaSlots) {
+            this.byAreaAndOutcome = new MeterCache<>(areaSlots * OUTCOMES, key -> Timer.builder(name)
+                    .description(description)
+                    .tag("area", areaName(key / OUTCOMES))
+                    .tag("outcome", outcomeName(key % OUTCOMES))
+                    .publishPercentileHistogram(areaHistogram)
+                    .register(meterRegistry));
+            this.byOutcome = new MeterCache<>(OUTCOMES, outcome -> Timer.builder(name + ".all")
+                    .description(description + " across all areas")
+                    .tag("outcome", outcomeName(outcome))
+                    .publishPercentileHistogram(histogram)
+                    .register(meterRegistry));
+        }
+
+        void record(int slot, int outcome, long startedAt) {
+            long elapsed = System.nanoTime() - startedAt;
+            byAreaAndOutcome.get(slot * OUTCOMES + outcome).record(elapsed, TimeUnit.NANOSECONDS);
+            byOutcome.get(outcome).record(elapsed, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    // 처음 쓸 때 등록한 미터를 보관 (동시에 등록해도 레지스트리가 같은 미터를 돌려주므로 하나로 모인다)
+    private static final class MeterCache<M> {
+
+        private final AtomicReferenceArray<M> meters;
+        private final IntFunction<M> register;
+
+        MeterCache(int size, IntFunction<M> register) {
+            this.meters = new AtomicReferenceArray<>(size);
+            this.register = register;
+        }
+
+        M get(int key) {
+            M meter = meters.get(key);
+            if (meter == null) {
+                meter = register.apply(key);
+                meters.set(key, meter);
+            }
+            return meter;
+        }
+    }
+}
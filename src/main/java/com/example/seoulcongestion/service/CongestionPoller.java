@@ -0,0 +1,60 @@
+package com.example.seoulcongestion.service;
+
+import com.example.seoulcongestion.domain.Area;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// RefreshAllocator가 배분한 간격에 따라 갱신할 때가 된 장소만 조회 (호출 한도의 예비분은 남겨 둔다)
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "seoul.poller.enabled", havingValue = "true", matchIfMissing = true)
+public class CongestionPoller {
+
+    private final CongestionSnapshotService snapshotService;
+    private final RefreshAllocator refreshAllocator;
+    private final QuotaBudget quotaBudget;
+    private final ClusterLeaseManager leaseManager;
+
+    // 동시에 Seoul API를 호출하는 최대 장소 수
+    @Value("${seoul.poller.concurrency:8}")
+    private int concurrency;
+
+    @Scheduled(initialDelayString = "${seoul.poller.initial-delay:PT0S}",
+            fixedDelayString = "${seoul.poller.tick:PT10S}")
+    public void refreshDue() {
+        // 클러스터 모드에서는 임대를 가진 샤드의 장소만 조회 (나머지는 다른 노드가 게시한 스냅샷을 읽는다)
+        List<Area> due = refreshAllocator.takeDueAreas(System.nanoTime(), quotaBudget.getScheduledHeadroom(),
+                leaseManager::owns);
+        if (due.isEmpty()) {
+            return;
+        }
+
+        long startedAt = System.nanoTime();
+        AtomicInteger failures = new AtomicInteger();
+
+        Long refreshed = Flux.fromIterable(due)
+                .map(Area::getName)
+                .flatMap(areaName -> snapshotService.refresh(areaName)
+                        .onErrorResume(e -> {
+                            failures.incrementAndGet();
+                            log.warn("Failed to refresh snapshot for {}: {}", areaName, e.getMessage());
+                            return Mono.empty();
+                        }), concurrency)
+                .count()
+                .block();
+
+        log.info("Refreshed {} area snapshots ({} failed) in {} ms",
+                refreshed, failures.get(), Duration.ofNanos(System.nanoTime() - startedAt).toMillis());
+    }
+}
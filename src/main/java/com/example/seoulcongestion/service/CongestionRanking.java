@@ -0,0 +1,133 @@
+package com.example.seoulcongestion.service;
+
+import com.example.seoulcongestion.domain.AreaCategory;
+import com.example.seoulcongestion.domain.CongestionLevel;
+import com.example.seoulcongestion.domain.CongestionSnapshot;
+import com.example.seoulcongestion.domain.RoadTrafficIndex;
+import com.example.seoulcongestion.dto.CongestionRankingResponse;
+import com.example.seoulcongestion.dto.CongestionRankingResponse.RankedArea;
+import com.example.seoulcongestion.event.CongestionObservedEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.TreeSet;
+
+// 장소의 스냅샷이 바뀔 때마다 정렬 집합에서 해당 장소만 빼고 다시 넣은 뒤, 바뀐 범위(전체, 해당 분류)의
+// 상위·하위 K개 응답만 다시 만들어 게시한다. 조회는 게시된 응답을 그대로 돌려주므로 장소 수와 무관하다.
+@Component
+public class CongestionRanking {
+
+    public enum RankBy { LEVEL, ROAD }
+
+    private static final RankBy[] RANK_BY = RankBy.values();
+    private static final AreaCategory[] CATEGORIES = AreaCategory.values();
+
+    // 붐비는 순서 (같으면 다른 지표가 나쁜 순, 그래도 같으면 장소 id 순)
+    private static final Comparator<CongestionSnapshot> BY_AREA_ID = Comparator.comparingInt(s -> s.getArea().getId());
+    private static final Comparator<CongestionSnapshot> BY_LEVEL = Comparator
+            .comparingInt((CongestionSnapshot s) -> -s.getLevel().ordinal())
+            .thenComparingInt(s -> -roadRank(s))
+            .thenComparing(BY_AREA_ID);
+    private static final Comparator<CongestionSnapshot> BY_ROAD = Comparator
+            .comparingInt((CongestionSnapshot s) -> -roadRank(s))
+            .thenComparingInt(s -> -s.getLevel().ordinal())
+            .thenComparing(BY_AREA_ID);
+
+    private final int topK;
+
+    // 장소 인덱스 -> 순위에 반영된 스냅샷
+    private final CongestionSnapshot[] current;
+
+    // [기준][범위] 범위 0은 전체, 1부터는 AreaCategory 순서
+    private final List<List<TreeSet<CongestionSnapshot>>> rankings = new ArrayList<>();
+
+    // 조회용으로 미리 만든 응답 (갱신 시 배열을 복사해 통째로 교체)
+    private volatile CongestionRankingResponse[][] published;
+
+    public CongestionRanking(AreaRegistry areaRegistry, @Value("${seoul.ranking.top-k:10}") int topK) {
+        this.topK = topK;
+        this.current = new CongestionSnapshot[areaRegistry.size()];
+
+        CongestionRankingResponse[][] initial = new CongestionRankingResponse[RANK_BY.length][CATEGORIES.length + 1];
+        for (RankBy rankBy : RANK_BY) {
+            List<TreeSet<CongestionSnapshot>> scopes = new ArrayList<>();
+            for (int scope = 0; scope <= CATEGORIES.length; scope++) {
+                scopes.add(new TreeSet<>(rankBy == RankBy.LEVEL ? BY_LEVEL : BY_ROAD));
+                initial[rankBy.ordinal()][scope] = build(rankBy, scope, scopes.get(scope));
+            }
+            rankings.add(scopes);
+        }
+        this.published = initial;
+    }
+
+    @EventListener
+    public void onCongestionObserved(CongestionObservedEvent event) {
+        update(event.getSnapshot());
+    }
+
+    synchronized void update(CongestionSnapshot snapshot) {
+        int index = snapshot.getArea().index();
+        CongestionSnapshot previous = current[index];
+        // 늦게 도착한 이전 시각의 관측은 무시
+        if (previous != null && snapshot.getPopulationMinute() < previous.getPopulationMinute()) {
+            return;
+        }
+        current[index] = snapshot;
+
+        CongestionRankingResponse[][] next = published.clone();
+        int[] scopes = {0, snapshot.getArea().getCategory().ordinal() + 1};
+        for (RankBy rankBy : RANK_BY) {
+            next[rankBy.ordinal()] = next[rankBy.ordinal()].clone();
+            for (int scope : scopes) {
+                TreeSet<CongestionSnapshot> ranking = rankings.get(rankBy.ordinal()).get(scope);
+                if (previous != null) {
+                    ranking.remove(previous);
+                }
+                if (isRanked(rankBy, snapshot)) {
+                    ranking.add(snapshot);
+                }
+                next[rankBy.ordinal()][scope] = build(rankBy, scope, ranking);
+            }
+        }
+        published = next;
+    }
+
+    // category가 null이면 전체 장소 순위
+    public CongestionRankingResponse getRanking(RankBy rankBy, AreaCategory category) {
+        return published[rankBy.ordinal()][category == null ? 0 : category.ordinal() + 1];
+    }
+
+    private CongestionRankingResponse build(RankBy rankBy, int scope, TreeSet<CongestionSnapshot> ranking) {
+        return new CongestionRankingResponse(rankBy.name().toLowerCase(Locale.ROOT),
+                scope == 0 ? null : CATEGORIES[scope - 1].getLabel(),
+                ranking.size(),
+                top(ranking.iterator()),
+                top(ranking.descendingIterator()));
+    }
+
+    private List<RankedArea> top(Iterator<CongestionSnapshot> iterator) {
+        List<RankedArea> top = new ArrayList<>(topK);
+        while (iterator.hasNext() && top.size() < topK) {
+            top.add(new RankedArea(top.size() + 1, iterator.next()));
+        }
+        return List.copyOf(top);
+    }
+
+    // 값이 없는 지표로는 순위를 매기지 않는다
+    private static boolean isRanked(RankBy rankBy, CongestionSnapshot snapshot) {
+        return rankBy == RankBy.LEVEL
+                ? snapshot.getLevel() != CongestionLevel.UNKNOWN
+                : roadRank(snapshot) >= 0;
+    }
+
+    private static int roadRank(CongestionSnapshot snapshot) {
+        RoadTrafficIndex road = snapshot.getRoadTrafficIndex();
+        return road == null || road == RoadTrafficIndex.UNKNOWN ? -1 : road.ordinal();
+    }
+}
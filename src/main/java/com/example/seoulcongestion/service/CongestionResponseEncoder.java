@@ -0,0 +1,155 @@
+package com.example.seoulcongestion.service;
+
+import com.aayushatharva.brotli4j.Brotli4jLoader;
+import com.aayushatharva.brotli4j.encoder.Encoder;
+import com.example.seoulcongestion.domain.CongestionSnapshot;
+import com.example.seoulcongestion.event.CongestionObservedEvent;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.zip.GZIPOutputStream;
+
+// 스냅샷은 다음 갱신 전까지 바뀌지 않으므로 JSON 직렬화와 압축을 스냅샷을 게시할 때 한 번만 한다.
+// 요청마다 Accept-Encoding에 맞는 바이트 배열을 그대로 응답에 쓴다.
+@Slf4j
+@Component
+public class CongestionResponseEncoder {
+
+    private static final String BROTLI = "br";
+    private static final String GZIP = "gzip";
+
+    private final ObjectMapper objectMapper;
+    private final int brotliQuality;
+
+    // brotli 네이티브 라이브러리가 없는 플랫폼에서는 gzip까지만 제공
+    private final boolean brotliAvailable;
+
+    // 장소 인덱스 -> 가장 최근 스냅샷의 인코딩 결과
+    private final AtomicReferenceArray<Encoded> encoded;
+
+    public CongestionResponseEncoder(ObjectMapper objectMapper, AreaRegistry areaRegistry,
+                                     @Value("${seoul.response.brotli-quality:11}") int brotliQuality) {
+        this.objectMapper = objectMapper;
+        this.brotliQuality = brotliQuality;
+        this.brotliAvailable = isBrotliAvailable();
+        this.encoded = new AtomicReferenceArray<>(areaRegistry.size());
+    }
+
+    public ResponseEntity<byte[]> write(ResponseEntity.BodyBuilder builder, CongestionSnapshot snapshot,
+                                        String acceptEncoding) {
+        Encoded body = encode(snapshot);
+        builder.contentType(MediaType.APPLICATION_JSON);
+
+        if (body.brotli() != null && accepts(acceptEncoding, BROTLI)) {
+            return builder.header(HttpHeaders.CONTENT_ENCODING, BROTLI).body(body.brotli());
+        }
+        if (accepts(acceptEncoding, GZIP)) {
+            return builder.header(HttpHeaders.CONTENT_ENCODING, GZIP).body(body.gzip());
+        }
+        return builder.body(body.identity());
+    }
+
+    // 새 스냅샷을 받아 오거나 공유 저장소에서 가져오면 게시하는 시점에 바로 직렬화·압축해 둔다.
+    // 이 이벤트는 조회 한 번(동시 요청이 합류한 조회 포함)에 한 번만 발행되므로 같은 스냅샷을 여러 번 압축하지 않는다
+    @EventListener
+    public void onCongestionObserved(CongestionObservedEvent event) {
+        store(create(event.getSnapshot()));
+    }
+
+    Encoded encode(CongestionSnapshot snapshot) {
+        Encoded current = encoded.get(snapshot.getArea().index());
+        if (current != null && current.snapshot() == snapshot) {
+            return current;
+        }
+        // 이벤트 없이 캐시에 들어온 스냅샷만 요청 경로에서 인코딩
+        return store(create(snapshot));
+    }
+
+    private Encoded create(CongestionSnapshot snapshot) {
+        byte[] identity = serialize(snapshot);
+        return new Encoded(snapshot, identity, gzip(identity), brotliAvailable ? brotli(identity) : null);
+    }
+
+    // 늦게 끝난 이전 조회의 결과가 더 새 스냅샷의 인코딩을 덮어쓰지 않게 한다
+    private Encoded store(Encoded created) {
+        encoded.accumulateAndGet(created.snapshot().getArea().index(), created,
+                (current, next) -> current == null
+                        || next.snapshot().getFetchedAt() >= current.snapshot().getFetchedAt() ? next : current);
+        return created;
+    }
+
+    private byte[] serialize(CongestionSnapshot snapshot) {
+        try {
+            return objectMapper.writeValueAsBytes(snapshot.toCongestionData());
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static byte[] gzip(byte[] identity) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(identity.length / 2 + 32);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(identity);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+
+    private byte[] brotli(byte[] identity) {
+        try {
+            return Encoder.compress(identity, new Encoder.Parameters().setQuality(brotliQuality));
+        } catch (IOException e) {
+            log.warn("Brotli compression failed, serving gzip only: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    // q=0으로 명시적으로 거부한 인코딩은 제외
+    static boolean accepts(String acceptEncoding, String coding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String token : acceptEncoding.split(",")) {
+            String[] parts = token.split(";");
+            if (!parts[0].trim().toLowerCase(Locale.ROOT).equals(coding)) {
+                continue;
+            }
+            for (int i = 1; i < parts.length; i++) {
+                String parameter = parts[i].trim();
+                if (parameter.startsWith("q=")) {
+                    try {
+                        return Double.parseDouble(parameter.substring(2)) > 0;
+                    } catch (NumberFormatException e) {
+                        return false;
+                    }
+                }
+            }
+            return true;
+        }
+        return false;
+    }
+
+    private static boolean isBrotliAvailable() {
+        try {
+            return Brotli4jLoader.isAvailable();
+        } catch (LinkageError e) {
+            return false;
+        }
+    }
+
+    record Encoded(CongestionSnapshot snapshot, byte[] identity, byte[] gzip, byte[] brotli) {
+    }
+}
@@ -0,0 +1,113 @@
+package com.example.seoulcongestion.service;
+
+import com.example.seoulcongestion.domain.CongestionSnapshot;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CongestionSnapshotService {
+
+    private final SeoulApiService seoulApiService;
+    private final AreaPopularityTracker popularityTracker;
+    private final CongestionMetrics congestionMetrics;
+    private final ClusterLeaseManager leaseManager;
+
+    // 장소명 -> 가장 최근에 게시된 불변 스냅샷
+    private final ConcurrentMap<String, CongestionSnapshot> snapshots = new ConcurrentHashMap<>();
+
+    // 이 시간보다 오래 전에 받아 온 스냅샷은 응답하면서 다시 조회
+    @Value("${seoul.api.stale-after:PT10M}")
+    private Duration staleAfter;
+
+    // 캐시 미스 때 Seoul API보다 먼저 보는 곳 (클러스터 모드에서 SharedSnapshotStore가 공유 테이블 조회를 등록)
+    private volatile Function<String, Mono<CongestionSnapshot>> sharedLoader = areaName -> Mono.empty();
+
+    public Mono<CongestionSnapshot> getCongestion(String areaName) {
+        return getCongestion(areaName, true);
+    }
+
+    // recordPopularity가 false면 조회 수를 세지 않는다 (전체 장소 일괄 조회처럼 사용자가 고르지 않은 장소)
+    public Mono<CongestionSnapshot> getCongestion(String areaName, boolean recordPopularity) {
+
+        // 주기 갱신 배분에 쓰도록 캐시 적중 여부와 관계없이 조회 수를 센다
+        if (recordPopularity) {
+            popularityTracker.recordRequest(areaName);
+        }
+
+        if (areaName != null) {
+            CongestionSnapshot cached = snapshots.get(areaName.trim());
+            if (cached != null) {
+                // 오래된 스냅샷도 바로 응답하고 갱신은 백그라운드에서 (Seoul API 장애 중에도 마지막 정상 값 제공)
+                boolean stale = isStale(cached);
+                congestionMetrics.recordCacheHit(stale);
+                // 클러스터 모드에서는 임대를 가진 노드만 다시 조회하고 나머지는 공유 저장소 동기화를 기다린다.
+                // 임대 노드에서 드물게 조회되는 장소는 그 노드의 갱신 주기가 길 수 있으므로, 임대가 넘어갈 시간까지
+                // 지나도 갱신되지 않았으면 이 노드가 직접 조회한다
+                if (stale && (leaseManager.owns(cached.getArea()) || isOrphaned(cached))) {
+                    revalidate(cached.getAreaName());
+                }
+                return Mono.just(cached);
+            }
+        }
+        congestionMetrics.recordCacheMiss();
+
+        // 아직 폴러가 채우지 못한 장소는 한 번 직접 조회해 캐시에 게시
+        // (클러스터 모드에서 임대가 없는 장소는 다른 노드가 이미 게시했으면 그것을 쓴다)
+        log.debug("Snapshot cache miss: {}", areaName);
+        return sharedLoader.apply(areaName)
+                .switchIfEmpty(Mono.defer(() -> refresh(areaName)));
+    }
+
+    public void setSharedLoader(Function<String, Mono<CongestionSnapshot>> sharedLoader) {
+        this.sharedLoader = sharedLoader;
+    }
+
+    public Mono<CongestionSnapshot> refresh(String areaName) {
+        return seoulApiService.fetchCongestionInfo(areaName)
+                .doOnNext(snapshot -> snapshots.put(snapshot.getAreaName(), snapshot));
+    }
+
+    // 다른 노드가 공유 저장소에 게시한 스냅샷은 로컬 캐시보다 새로울 때만 반영
+    public boolean accept(CongestionSnapshot snapshot) {
+        CongestionSnapshot current = snapshots.merge(snapshot.getAreaName(), snapshot,
+                (previous, next) -> next.getFetchedAt() > previous.getFetchedAt() ? next : previous);
+        return current == snapshot;
+    }
+
+    public boolean isStale(CongestionSnapshot snapshot) {
+        return System.currentTimeMillis() - snapshot.getFetchedAt() > staleAfter.toMillis();
+    }
+
+    private boolean isOrphaned(CongestionSnapshot snapshot) {
+        return System.currentTimeMillis() - snapshot.getFetchedAt()
+                > staleAfter.plus(leaseManager.getFailoverBound()).toMillis();
+    }
+
+    // 진행 중인 조회가 있으면 합류하고, 실패하면 기존 스냅샷을 그대로 둔다
+    private void revalidate(String areaName) {
+        refresh(areaName).subscribe(
+                snapshot -> log.debug("Revalidated stale snapshot: {}", areaName),
+                e -> log.debug("Background refresh failed for {}: {}", areaName, e.getMessage()));
+    }
+
+    public Optional<CongestionSnapshot> find(String areaName) {
+        return Optional.ofNullable(snapshots.get(areaName));
+    }
+
+    public Map<String, CongestionSnapshot> getSnapshots() {
+        return Collections.unmodifiableMap(snapshots);
+    }
+}
@@ -0,0 +1,114 @@
+package com.example.seoulcongestion.service;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.function.IntSupplier;
+
+// Seoul API 일일 호출 한도를 토큰 버킷으로 나눠 쓴다.
+// 모든 실제 호출(재시도 포함)이 토큰을 하나씩 쓰고, 하루 사용량이 한도에 닿으면 더 이상 호출하지 않는다.
+// 한도는 같은 API 키를 쓰는 클러스터 전체의 것이므로, 살아 있는 노드 수로 나눈 몫만 이 노드가 쓴다.
+@Component
+public class QuotaBudget {
+
+    private static final ZoneId SEOUL = ZoneId.of("Asia/Seoul");
+    private static final double SECONDS_PER_DAY = Duration.ofDays(1).toSeconds();
+
+    private final long dailyLimit;
+    private final double refillPerNano;
+    private final double capacity;
+
+    // 주기 갱신이 남겨 두어야 하는 토큰 (요청 시점 조회용)
+    private final double reserve;
+    private final double scheduledRatePerSecond;
+
+    // 한도를 나눠 쓰는 노드 수 (클러스터 모드가 아니면 1)
+    private final IntSupplier liveMembers;
+
+    private double tokens;
+    private long refilledAt;
+    private LocalDate day;
+    private long usedToday;
+
+    @Autowired
+    public QuotaBudget(@Value("${seoul.quota.daily-limit:20000}") long dailyLimit,
+                       @Value("${seoul.quota.scheduled-share:0.8}") double scheduledShare,
+                       @Value("${seoul.quota.burst:PT10M}") Duration burst,
+                       ClusterLeaseManager leaseManager) {
+        this(dailyLimit, scheduledShare, burst, leaseManager::getLiveMembers);
+    }
+
+    QuotaBudget(long dailyLimit, double scheduledShare, Duration burst, IntSupplier liveMembers) {
+        this.dailyLimit = dailyLimit;
+        this.refillPerNano = dailyLimit / SECONDS_PER_DAY / 1e9;
+        this.capacity = Math.max(1, dailyLimit * burst.toSeconds() / SECONDS_PER_DAY);
+        this.reserve = capacity * (1 - scheduledShare);
+        this.scheduledRatePerSecond = dailyLimit * scheduledShare / SECONDS_PER_DAY;
+        this.liveMembers = liveMembers;
+        this.tokens = nodeCapacity(members());
+        this.refilledAt = System.nanoTime();
+        this.day = LocalDate.now(SEOUL);
+    }
+
+    public synchronized boolean tryAcquire() {
+        refill();
+        if (tokens < 1 || usedToday >= getDailyLimit()) {
+            return false;
+        }
+        tokens -= 1;
+        usedToday++;
+        return true;
+    }
+
+    // 예비분을 남기고 주기 갱신에 지금 쓸 수 있는 호출 수
+    public synchronized int getScheduledHeadroom() {
+        refill();
+        long remainingToday = getDailyLimit() - usedToday;
+        return (int) Math.max(0, Math.min(Math.floor(tokens - reserve / members()), remainingToday));
+    }
+
+    // 클러스터 전체의 주기 갱신 속도 (각 노드는 임대를 가진 장소만 조회하므로 합치면 이 속도가 된다)
+    public double getScheduledRatePerSecond() {
+        return scheduledRatePerSecond;
+    }
+
+    // 이 노드의 몫 (노드가 늘면 이미 쓴 양이 새 몫을 넘을 수 있고, 그러면 다음 날까지 호출하지 않는다)
+    public long getDailyLimit() {
+        return (long) (dailyLimit / members());
+    }
+
+    public synchronized long getUsedToday() {
+        refill();
+        return usedToday;
+    }
+
+    public synchronized long getAvailableTokens() {
+        refill();
+        return (long) tokens;
+    }
+
+    private void refill() {
+        long now = System.nanoTime();
+        double members = members();
+        tokens = Math.min(nodeCapacity(members), tokens + (now - refilledAt) * refillPerNano / members);
+        refilledAt = now;
+
+        LocalDate today = LocalDate.now(SEOUL);
+        if (!today.equals(day)) {
+            day = today;
+            usedToday = 0;
+        }
+    }
+
+    private double nodeCapacity(double members) {
+        return Math.max(1, capacity / members);
+    }
+
+    private double members() {
+        return Math.max(1, liveMembers.getAsInt());
+    }
+}
@@ -0,0 +1,198 @@
+package com.example.seoulcongestion.service;
+
+import com.example.seoulcongestion.domain.Area;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+// Seoul API 원본 응답 본문을 압축 세그먼트 파일에 보관한다 (파싱 오류나 이상한 값을 나중에 재현하기 위함).
+// 응답 경로에서는 받은 바이트를 복사해 큐에 넣기만 하고, 압축과 파일 쓰기는 스케줄러 스레드에서 한다.
+@Slf4j
+@Component
+public class RawResponseCapture {
+
+    private final boolean enabled;
+    private final Path directory;
+    private final long segmentSize;
+    private final long maxTotalSize;
+    private final int compressionLevel;
+    private final BlockingQueue<CapturedBody> queue;
+    private final LongAdder dropped = new LongAdder();
+    // 파일 쓰기는 락을 잡은 채 블로킹하므로 synchronized 대신 사용 (가상 스레드 고정 방지)
+    private final ReentrantLock writeLock = new ReentrantLock();
+    private CaptureSegmentWriter writer;
+
+    record CapturedBody(int areaId, long capturedAt, byte[] body) {
+    }
+
+    public RawResponseCapture(@Value("${seoul.capture.enabled:false}") boolean enabled,
+                              @Value("${seoul.capture.directory:./data/capture}") Path directory,
+                              @Value("${seoul.capture.segment-size:64MB}") DataSize segmentSize,
+                              @Value("${seoul.capture.max-total-size:2GB}") DataSize maxTotalSize,
+                              @Value("${seoul.capture.compression-level:6}") int compressionLevel,
+                              @Value("${seoul.capture.queue-capacity:1000}") int queueCapacity) {
+        if (segmentSize.toBytes() > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("seoul.capture.segment-size must be below 2GB: " + segmentSize);
+        }
+        this.enabled = enabled;
+        this.directory = directory;
+        this.segmentSize = segmentSize.toBytes();
+        this.maxTotalSize = maxTotalSize.toBytes();
+        this.compressionLevel = compressionLevel;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    // 응답 하나를 받는 동안 사용할 기록기 (캡처를 끄면 아무것도 하지 않음)
+    public Recorder start(Area area) {
+        return enabled ? new Recorder(this, area) : Recorder.NONE;
+    }
+
+    @Scheduled(fixedDelayString = "${seoul.capture.flush-interval:PT1S}")
+    public void flush() {
+        if (queue.isEmpty()) {
+            return;
+        }
+        List<CapturedBody> drained = new ArrayList<>(queue.size());
+        queue.drainTo(drained);
+
+        writeLock.lock();
+        try {
+            for (CapturedBody captured : drained) {
+                if (writer == null || writer.size() >= segmentSize) {
+                    roll();
+                }
+                writer.append(captured.areaId(), captured.capturedAt(), captured.body());
+            }
+        } catch (IOException e) {
+            log.warn("Failed to write captured responses to {}: {}", directory, e.getMessage());
+            closeWriter();
+        } finally {
+            writeLock.unlock();
+        }
+
+        long droppedCount = dropped.sumThenReset();
+        if (droppedCount > 0) {
+            log.warn("Capture queue was full, dropped {} responses", droppedCount);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flush();
+        writeLock.lock();
+        try {
+            closeWriter();
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    private void enqueue(CapturedBody captured) {
+        if (!queue.offer(captured)) {
+            dropped.increment();
+        }
+    }
+
+    // 새 세그먼트를 열고, 전체 크기가 한도를 넘으면 오래된 세그먼트부터 지운다
+    private void roll() throws IOException {
+        closeWriter();
+        Files.createDirectories(directory);
+        writer = CaptureSegmentWriter.create(directory, System.currentTimeMillis(), compressionLevel);
+        log.info("Capturing Seoul API responses to {}", writer.getSegmentPath());
+
+        List<Path> segments = CaptureSegmentReader.list(directory);
+        long total = 0;
+        for (Path segment : segments) {
+            total += Files.size(segment) + sizeIfExists(CaptureSegmentReader.indexPathOf(segment));
+        }
+        for (Path segment : segments) {
+            if (total <= maxTotalSize || segment.equals(writer.getSegmentPath())) {
+                break;
+            }
+            Path index = CaptureSegmentReader.indexPathOf(segment);
+            total -= Files.size(segment) + sizeIfExists(index);
+            Files.delete(segment);
+            Files.deleteIfExists(index);
+            log.info("Deleted capture segment {} to stay under {} bytes", segment, maxTotalSize);
+        }
+    }
+
+    private void closeWriter() {
+        if (writer == null) {
+            return;
+        }
+        try {
+            writer.close();
+        } catch (IOException e) {
+            log.warn("Failed to close capture segment {}: {}", writer.getSegmentPath(), e.getMessage());
+        }
+        writer = null;
+    }
+
+    private static long sizeIfExists(Path path) throws IOException {
+        return Files.exists(path) ? Files.size(path) : 0;
+    }
+
+    // DataBuffer가 파서에서 해제되기 전에 읽을 수 있는 바이트만 복사해 둔다 (버퍼 위치는 바꾸지 않음)
+    public static final class Recorder {
+
+        static final Recorder NONE = new Recorder(null, null);
+
+        private final RawResponseCapture capture;
+        private final Area area;
+        private byte[] bytes;
+        private int length;
+
+        private Recorder(RawResponseCapture capture, Area area) {
+            this.capture = capture;
+            this.area = area;
+        }
+
+        public void write(DataBuffer buffer) {
+            if (capture == null) {
+                return;
+            }
+            if (bytes == null) {
+                bytes = new byte[Math.max(16 * 1024, buffer.readableByteCount())];
+            }
+            try (DataBuffer.ByteBufferIterator iterator = buffer.readableByteBuffers()) {
+                while (iterator.hasNext()) {
+                    ByteBuffer chunk = iterator.next();
+                    int remaining = chunk.remaining();
+                    if (length + remaining > bytes.length) {
+                        bytes = Arrays.copyOf(bytes, Math.max(bytes.length * 2, length + remaining));
+                    }
+                    chunk.get(bytes, length, remaining);
+                    length += remaining;
+                }
+            }
+        }
+
+        // 파싱 성공 여부와 관계없이 받은 본문을 남긴다
+        public void complete() {
+            if (capture != null && length > 0) {
+                capture.enqueue(new CapturedBody(area.getId(), System.currentTimeMillis(), Arrays.copyOf(bytes, length)));
+            }
+        }
+    }
+}
@@ -0,0 +1,189 @@
+package com.example.seoulcongestion.service;
+
+import com.example.seoulcongestion.domain.Area;
+import com.example.seoulcongestion.dto.RefreshAllocationResponse;
+import com.example.seoulcongestion.dto.RefreshAllocationResponse.AreaAllocation;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Predicate;
+import java.util.stream.IntStream;
+
+// 주기 갱신에 쓸 수 있는 호출 수를 장소 인기에 따라 나눈다.
+// 요청이 들어올 때 스냅샷이 오래됐을 확률을 최소화하도록 갱신 빈도를 인기의 제곱근에 비례해 배분한다.
+@Slf4j
+@Component
+public class RefreshAllocator {
+
+    private final AreaRegistry areaRegistry;
+    private final AreaPopularityTracker popularityTracker;
+    private final QuotaBudget quotaBudget;
+
+    private final Duration allocationInterval;
+    private final Duration popularityHalfLife;
+
+    // 이보다 덜 조회되는 장소는 인기에 따른 배분 없이 기본 빈도로만 갱신
+    private final double minPopularity;
+
+    // 아무도 조회하지 않은 장소도 순위표·주변 장소·SSE에 값이 있도록 모든 장소에 먼저 나눠 주는 빈도
+    private final double baselineRate;
+
+    // Seoul API 갱신 주기보다 자주 조회해도 새 값이 없으므로 장소당 최대 빈도를 제한
+    private final double maxRatePerArea;
+
+    private volatile Allocation allocation;
+
+    // 장소 인덱스 -> 다음 갱신 예정 시각(System.nanoTime), 0이면 즉시
+    private final long[] nextDue;
+
+    public RefreshAllocator(AreaRegistry areaRegistry, AreaPopularityTracker popularityTracker, QuotaBudget quotaBudget,
+                            @Value("${seoul.poller.allocation-interval:PT1M}") Duration allocationInterval,
+                            @Value("${seoul.poller.popularity-half-life:PT1H}") Duration popularityHalfLife,
+                            @Value("${seoul.poller.min-popularity:0.5}") double minPopularity,
+                            @Value("${seoul.poller.baseline-interval:PT30M}") Duration baselineInterval,
+                            @Value("${seoul.api.update-interval:PT5M}") Duration updateInterval) {
+        this.areaRegistry = areaRegistry;
+        this.popularityTracker = popularityTracker;
+        this.quotaBudget = quotaBudget;
+        this.allocationInterval = allocationInterval;
+        this.popularityHalfLife = popularityHalfLife;
+        this.minPopularity = minPopularity;
+        this.maxRatePerArea = 1.0 / updateInterval.toSeconds();
+        // 0이면 기본 빈도 없이 인기에 따라서만 배분
+        this.baselineRate = baselineInterval.isZero() ? 0 : 1.0 / baselineInterval.toSeconds();
+        this.nextDue = new long[areaRegistry.size()];
+        // 인기 기록이 쌓이기 전(시작 직후)에도 모든 장소를 기본 빈도로 갱신
+        double[] popularity = new double[areaRegistry.size()];
+        this.allocation = Allocation.of(popularity, allocateRates(popularity, quotaBudget.getScheduledRatePerSecond(),
+                maxRatePerArea, minPopularity, baselineRate));
+    }
+
+    @Scheduled(fixedDelayString = "${seoul.poller.allocation-interval:PT1M}")
+    public void reallocate() {
+        double factor = Math.pow(0.5, (double) allocationInterval.toMillis() / popularityHalfLife.toMillis());
+        double[] popularity = popularityTracker.decay(factor);
+        double[] rates = allocateRates(popularity, quotaBudget.getScheduledRatePerSecond(), maxRatePerArea,
+                minPopularity, baselineRate);
+        allocation = Allocation.of(popularity, rates);
+    }
+
+    // 인기 순으로 갱신할 때가 된 장소를 최대 limit개 고르고 다음 갱신 시각을 예약
+    public List<Area> takeDueAreas(long now, int limit) {
+        return takeDueAreas(now, limit, area -> true);
+    }
+
+    // eligible이 아닌 장소는 한도를 쓰지 않고 건너뛰며, 다음 예정 시각도 그대로 둔다 (맡게 되면 바로 조회)
+    public synchronized List<Area> takeDueAreas(long now, int limit, Predicate<Area> eligible) {
+        Allocation current = allocation;
+        List<Area> due = new ArrayList<>();
+        for (int index : current.order()) {
+            if (due.size() >= limit) {
+                break;
+            }
+            double rate = current.rates()[index];
+            if (rate <= 0 || nextDue[index] - now > 0) {
+                continue;
+            }
+            Area area = areaRegistry.getById(index + 1);
+            if (!eligible.test(area)) {
+                continue;
+            }
+            due.add(area);
+            nextDue[index] = now + (long) (1e9 / rate);
+        }
+        return due;
+    }
+
+    public RefreshAllocationResponse getAllocation() {
+        Allocation current = allocation;
+        List<AreaAllocation> areas = new ArrayList<>(current.order().length);
+        double scheduledPerSecond = 0;
+        for (int index : current.order()) {
+            double rate = current.rates()[index];
+            scheduledPerSecond += rate;
+            areas.add(new AreaAllocation(areaRegistry.getById(index + 1).getName(), current.popularity()[index],
+                    rate > 0 ? Math.round(1 / rate) : null));
+        }
+        return new RefreshAllocationResponse(quotaBudget.getDailyLimit(), quotaBudget.getUsedToday(),
+                quotaBudget.getAvailableTokens(), Math.round(scheduledPerSecond * Duration.ofDays(1).toSeconds()), areas);
+    }
+
+    static double[] allocateRates(double[] popularity, double totalRate, double maxRate, double minPopularity) {
+        return allocateRates(popularity, totalRate, maxRate, minPopularity, 0);
+    }
+
+    // 모든 장소에 baselineRate를 먼저 주고(예산이 모자라면 균등하게), 나머지를 인기 p_i가 minPopularity 이상인 장소에
+    // sqrt(p_i) / Σsqrt(p_j) 비율로 더 배분하되 장소당 maxRate를 넘는 몫은 나머지 장소에 다시 나눈다
+    static double[] allocateRates(double[] popularity, double totalRate, double maxRate, double minPopularity,
+                                  double baselineRate) {
+        double[] rates = new double[popularity.length];
+        if (popularity.length == 0) {
+            return rates;
+        }
+        double baseline = Math.min(Math.min(baselineRate, maxRate), totalRate / popularity.length);
+        Arrays.fill(rates, baseline);
+        // 장소당 기본 빈도 위에 더 줄 수 있는 몫
+        double headroom = maxRate - baseline;
+
+        boolean[] active = new boolean[popularity.length];
+        int activeCount = 0;
+        for (int i = 0; i < popularity.length; i++) {
+            if (popularity[i] >= minPopularity && popularity[i] > 0) {
+                active[i] = true;
+                activeCount++;
+            }
+        }
+
+        double remaining = totalRate - baseline * popularity.length;
+        while (activeCount > 0 && remaining > 0 && headroom > 0) {
+            double sumSqrt = 0;
+            for (int i = 0; i < popularity.length; i++) {
+                if (active[i]) {
+                    sumSqrt += Math.sqrt(popularity[i]);
+                }
+            }
+
+            boolean capped = false;
+            double share = remaining;
+            for (int i = 0; i < popularity.length; i++) {
+                if (active[i] && share * Math.sqrt(popularity[i]) / sumSqrt >= headroom) {
+                    rates[i] = maxRate;
+                    remaining -= headroom;
+                    active[i] = false;
+                    activeCount--;
+                    capped = true;
+                }
+            }
+            if (capped) {
+                continue;
+            }
+
+            for (int i = 0; i < popularity.length; i++) {
+                if (active[i]) {
+                    rates[i] = baseline + remaining * Math.sqrt(popularity[i]) / sumSqrt;
+                }
+            }
+            break;
+        }
+        return rates;
+    }
+
+    private record Allocation(double[] popularity, double[] rates, int[] order) {
+
+        static Allocation of(double[] popularity, double[] rates) {
+            int[] order = IntStream.range(0, popularity.length)
+                    .boxed()
+                    .sorted(Comparator.<Integer>comparingDouble(i -> popularity[i]).reversed())
+                    .mapToInt(Integer::intValue)
+                    .toArray();
+            return new Allocation(popularity, rates, order);
+        }
+    }
+}
@@ -0,0 +1,168 @@
+package com.example.seoulcongestion.service;
+
+import com.example.seoulcongestion.domain.Area;
+import com.example.seoulcongestion.domain.CongestionSnapshot;
+import com.example.seoulcongestion.domain.SharedSnapshot;
+import com.example.seoulcongestion.event.CongestionObservedEvent;
+import com.example.seoulcongestion.repository.SharedSnapshotRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+// 클러스터 모드에서 임대를 가진 장소의 스냅샷은 공유 테이블에 게시하고,
+// 다른 노드가 게시한 스냅샷은 주기적으로 읽어 로컬 캐시에 반영한다 (Seoul API 호출은 임대를 가진 노드만)
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "seoul.cluster.enabled", havingValue = "true")
+public class SharedSnapshotStore {
+
+    private final SharedSnapshotRepository sharedSnapshotRepository;
+    private final ClusterLeaseManager leaseManager;
+    private final CongestionSnapshotService snapshotService;
+    private final AreaRegistry areaRegistry;
+    private final ApplicationEventPublisher eventPublisher;
+
+    // 장소 인덱스 -> 아직 게시하지 않은 최신 스냅샷 (요청 처리 경로에서는 자리만 바꿔 둔다)
+    private final AtomicReferenceArray<CongestionSnapshot> pending;
+    // 장소 인덱스 -> 공유 테이블과 주고받은 마지막 스냅샷의 fetchedAt
+    private final AtomicLongArray sharedFetchedAt;
+    // 노드 간 시계 차이로 늦게 보이는 행을 놓치지 않도록 이만큼 겹쳐서 읽는다
+    private final long syncOverlapMillis;
+    private long lastSyncedFetchedAt;
+
+    public SharedSnapshotStore(SharedSnapshotRepository sharedSnapshotRepository,
+                               ClusterLeaseManager leaseManager,
+                               CongestionSnapshotService snapshotService,
+                               AreaRegistry areaRegistry,
+                               ApplicationEventPublisher eventPublisher,
+                               @Value("${seoul.cluster.sync-overlap:PT10S}") Duration syncOverlap) {
+        this.sharedSnapshotRepository = sharedSnapshotRepository;
+        this.leaseManager = leaseManager;
+        this.snapshotService = snapshotService;
+        this.areaRegistry = areaRegistry;
+        this.eventPublisher = eventPublisher;
+        this.pending = new AtomicReferenceArray<>(areaRegistry.size());
+        this.sharedFetchedAt = new AtomicLongArray(areaRegistry.size());
+        this.syncOverlapMillis = syncOverlap.toMillis();
+        snapshotService.setSharedLoader(this::load);
+    }
+
+    @EventListener
+    public void onCongestionObserved(CongestionObservedEvent event) {
+        CongestionSnapshot snapshot = event.getSnapshot();
+        int index = snapshot.getArea().index();
+        // 공유 테이블에서 읽어 온 스냅샷이나 임대가 없는 장소는 다시 게시하지 않는다
+        if (snapshot.getFetchedAt() <= sharedFetchedAt.get(index) || !leaseManager.owns(snapshot.getArea())) {
+            return;
+        }
+        pending.accumulateAndGet(index, snapshot,
+                (previous, next) -> previous == null || next.getFetchedAt() >= previous.getFetchedAt() ? next : previous);
+    }
+
+    @Scheduled(fixedDelayString = "${seoul.cluster.publish-interval:PT1S}")
+    public void publish() {
+        List<CongestionSnapshot> drained = new ArrayList<>();
+        for (int i = 0; i < pending.length(); i++) {
+            CongestionSnapshot snapshot = pending.getAndSet(i, null);
+            if (snapshot != null) {
+                drained.add(snapshot);
+            }
+        }
+        if (drained.isEmpty()) {
+            return;
+        }
+
+        try {
+            sharedSnapshotRepository.saveAll(drained.stream()
+                    .map(snapshot -> SharedSnapshot.of(snapshot, leaseManager.getNodeId()))
+                    .toList());
+            for (CongestionSnapshot snapshot : drained) {
+                sharedFetchedAt.accumulateAndGet(snapshot.getArea().index(), snapshot.getFetchedAt(), Math::max);
+            }
+        } catch (DataAccessException e) {
+            // 다음 게시 때 다시 시도 (그 사이 더 새 스냅샷이 들어왔으면 그것을 게시)
+            for (CongestionSnapshot snapshot : drained) {
+                pending.compareAndSet(snapshot.getArea().index(), null, snapshot);
+            }
+            log.warn("Failed to publish {} shared snapshots: {}", drained.size(), e.getMessage());
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${seoul.cluster.sync-interval:PT2S}")
+    public void sync() {
+        List<SharedSnapshot> rows;
+        try {
+            rows = sharedSnapshotRepository.findByFetchedAtGreaterThan(lastSyncedFetchedAt - syncOverlapMillis);
+        } catch (DataAccessException e) {
+            log.warn("Failed to read shared snapshots: {}", e.getMessage());
+            return;
+        }
+
+        int imported = 0;
+        for (SharedSnapshot row : rows) {
+            lastSyncedFetchedAt = Math.max(lastSyncedFetchedAt, row.getFetchedAt());
+            if (row.getAreaId() < 1 || row.getAreaId() > areaRegistry.size()) {
+                continue;
+            }
+            if (importRow(areaRegistry.getById(row.getAreaId()), row)) {
+                imported++;
+            }
+        }
+        if (imported > 0) {
+            log.debug("Imported {} shared snapshots", imported);
+        }
+    }
+
+    // 임대가 없는 장소의 캐시 미스: 다음 동기화를 기다리지 않고 그 장소의 행만 바로 읽는다.
+    // 아직 아무 노드도 게시하지 않았거나 DB를 읽지 못하면 비어 있는 Mono (호출한 쪽이 직접 조회)
+    Mono<CongestionSnapshot> load(String areaName) {
+        Area area = areaName == null ? null : areaRegistry.get(areaName.trim());
+        if (area == null || leaseManager.owns(area)) {
+            return Mono.empty();
+        }
+        return Mono.fromCallable(() -> sharedSnapshotRepository.findById(area.getId()))
+                .subscribeOn(Schedulers.boundedElastic())
+                .flatMap(row -> {
+                    row.ifPresent(shared -> importRow(area, shared));
+                    return Mono.justOrEmpty(snapshotService.find(area.getName()));
+                })
+                .onErrorResume(DataAccessException.class, e -> {
+                    log.warn("Failed to read shared snapshot for {}: {}", area.getName(), e.getMessage());
+                    return Mono.empty();
+                });
+    }
+
+    private boolean importRow(Area area, SharedSnapshot row) {
+        long previous = sharedFetchedAt.getAndAccumulate(area.index(), row.getFetchedAt(), Math::max);
+        if (row.getFetchedAt() <= previous) {
+            return false;
+        }
+
+        CongestionSnapshot snapshot = row.toSnapshot(area);
+        if (!snapshotService.accept(snapshot)) {
+            return false;
+        }
+        // 순위표, SSE 스트림, 응답 인코딩도 직접 조회한 것과 같이 갱신 (기록 저장은 임대를 가진 노드만)
+        eventPublisher.publishEvent(new CongestionObservedEvent(snapshot));
+        return true;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        publish();
+    }
+}
@@ -0,0 +1,48 @@
+package com.example.seoulcongestion.service;
+
+import reactor.core.publisher.Mono;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+// 같은 키에 대한 동시 호출을 하나의 진행 중인 작업으로 합친다
+public class SingleFlight<K, V> {
+
+    private final ConcurrentMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+    private final LongAdder coalesced = new LongAdder();
+
+    public Mono<V> execute(K key, Function<K, Mono<V>> loader) {
+        return Mono.defer(() -> {
+            CompletableFuture<V> created = new CompletableFuture<>();
+            CompletableFuture<V> existing = inFlight.putIfAbsent(key, created);
+            if (existing != null) {
+                coalesced.increment();
+                return Mono.fromFuture(existing, true);
+            }
+
+            // 작업이 끝나면 다음 호출이 새로 조회하도록 키를 비운다
+            created.whenComplete((value, error) -> inFlight.remove(key, created));
+            try {
+                loader.apply(key).subscribe(
+                        created::complete,
+                        created::completeExceptionally,
+                        () -> created.complete(null));
+            } catch (RuntimeException e) {
+                created.completeExceptionally(e);
+            }
+            // 한 호출자의 취소가 공유 중인 다른 호출자의 작업을 취소하지 않도록 한다
+            return Mono.fromFuture(created, true);
+        });
+    }
+
+    public long getCoalescedCount() {
+        return coalesced.sum();
+    }
+
+    public int getInFlightCount() {
+        return inFlight.size();
+    }
+}
@@ -0,0 +1,182 @@
+package com.example.seoulcongestion.service;
+
+import com.example.seoulcongestion.domain.Area;
+import com.example.seoulcongestion.domain.CongestionLevel;
+import com.example.seoulcongestion.domain.CongestionRollup;
+import com.example.seoulcongestion.domain.CongestionSnapshot;
+import com.example.seoulcongestion.domain.RoadTrafficIndex;
+import com.example.seoulcongestion.dto.WeeklyProfileResponse;
+import com.example.seoulcongestion.dto.WeeklyProfileResponse.HourProfile;
+import com.example.seoulcongestion.event.CongestionObservedEvent;
+import com.example.seoulcongestion.repository.CongestionRollupRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.ByteBuffer;
+import java.time.DayOfWeek;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+
+// 관측이 들어올 때마다 장소별 요일·시간대(168칸) 카운터에 누적한다.
+// 조회 시에는 이 카운터만 읽으므로 기록 테이블을 스캔하지 않는다.
+// 클러스터 모드에서는 모든 노드가 같은 관측을 누적하되, 체크포인트는 장소의 임대를 가진 노드만 쓴다.
+@Slf4j
+@Component
+public class WeeklyCongestionAggregator {
+
+    static final int HOURS_PER_WEEK = 7 * 24;
+
+    // UNKNOWN을 제외한 혼잡도 단계 수 (RELAXED..CROWDED의 ordinal 순서)
+    private static final int LEVELS = CongestionLevel.UNKNOWN.ordinal();
+    private static final CongestionLevel[] LEVEL_VALUES = CongestionLevel.values();
+    private static final DayOfWeek[] DAYS = DayOfWeek.values();
+
+    private final CongestionRollupRepository congestionRollupRepository;
+    private final ClusterLeaseManager leaseManager;
+
+    // [장소 인덱스 * 168 + 시간대] 단위로 펼친 카운터
+    private final int[] levelCounts;
+    private final int[] roadSamples;
+    private final int[] roadIndexSums;
+    private final int[] lastPopulationMinutes;
+
+    // 마지막 체크포인트 이후 바뀐 장소
+    private final BitSet dirtyAreas;
+
+    public WeeklyCongestionAggregator(CongestionRollupRepository congestionRollupRepository, AreaRegistry areaRegistry,
+                                      ClusterLeaseManager leaseManager) {
+        this.congestionRollupRepository = congestionRollupRepository;
+        this.leaseManager = leaseManager;
+        int areas = areaRegistry.size();
+        this.levelCounts = new int[areas * HOURS_PER_WEEK * LEVELS];
+        this.roadSamples = new int[areas * HOURS_PER_WEEK];
+        this.roadIndexSums = new int[areas * HOURS_PER_WEEK];
+        this.lastPopulationMinutes = new int[areas];
+        this.dirtyAreas = new BitSet(areas);
+    }
+
+    // DB 조회는 모니터 밖에서 한다 (synchronized 안에서 블로킹하면 가상 스레드가 캐리어 스레드에 고정됨)
+    @PostConstruct
+    public void restore() {
+        List<CongestionRollup> rollups = congestionRollupRepository.findAll();
+        synchronized (this) {
+            for (CongestionRollup rollup : rollups) {
+                int index = rollup.getAreaId() - 1;
+                if (index < 0 || index >= lastPopulationMinutes.length) {
+                    continue;
+                }
+                int slots = index * HOURS_PER_WEEK;
+                decode(rollup.getLevelCounts(), levelCounts, slots * LEVELS, HOURS_PER_WEEK * LEVELS);
+                decode(rollup.getRoadSamples(), roadSamples, slots, HOURS_PER_WEEK);
+                decode(rollup.getRoadIndexSums(), roadIndexSums, slots, HOURS_PER_WEEK);
+                lastPopulationMinutes[index] = rollup.getLastPopulationMinute();
+            }
+        }
+    }
+
+    @EventListener
+    public void onCongestionObserved(CongestionObservedEvent event) {
+        fold(event.getSnapshot());
+    }
+
+    synchronized void fold(CongestionSnapshot snapshot) {
+        if (!snapshot.hasPopulationTime()) {
+            return;
+        }
+
+        // 같은 PPLTN_TIME의 관측(캐시 갱신·중복 조회)은 한 번만 센다
+        int index = snapshot.getArea().index();
+        int minute = snapshot.getPopulationMinute();
+        if (minute <= lastPopulationMinutes[index]) {
+            return;
+        }
+        lastPopulationMinutes[index] = minute;
+
+        int slot = index * HOURS_PER_WEEK + hourOfWeek(minute);
+        CongestionLevel level = snapshot.getLevel();
+        if (level != CongestionLevel.UNKNOWN) {
+            levelCounts[slot * LEVELS + level.ordinal()]++;
+        }
+        RoadTrafficIndex road = snapshot.getRoadTrafficIndex();
+        if (road != null && road != RoadTrafficIndex.UNKNOWN) {
+            roadSamples[slot]++;
+            roadIndexSums[slot] += road.ordinal();
+        }
+        if (leaseManager.owns(snapshot.getArea())) {
+            dirtyAreas.set(index);
+        }
+    }
+
+    public synchronized WeeklyProfileResponse getProfile(Area area) {
+        int base = area.index() * HOURS_PER_WEEK;
+        List<HourProfile> hours = new ArrayList<>(HOURS_PER_WEEK);
+        for (int hourOfWeek = 0; hourOfWeek < HOURS_PER_WEEK; hourOfWeek++) {
+            int slot = base + hourOfWeek;
+            int counts = slot * LEVELS;
+
+            int dominant = -1;
+            for (int level = 0; level < LEVELS; level++) {
+                if (levelCounts[counts + level] > 0
+                        && (dominant < 0 || levelCounts[counts + level] > levelCounts[counts + dominant])) {
+                    dominant = level;
+                }
+            }
+
+            hours.add(new HourProfile(DAYS[hourOfWeek / 24], hourOfWeek % 24,
+                    levelCounts[counts], levelCounts[counts + 1], levelCounts[counts + 2], levelCounts[counts + 3],
+                    dominant < 0 ? null : LEVEL_VALUES[dominant].getLabel(),
+                    roadSamples[slot] == 0 ? null : (double) roadIndexSums[slot] / roadSamples[slot]));
+        }
+        return new WeeklyProfileResponse(area.getName(), hours);
+    }
+
+    @Scheduled(fixedDelayString = "${seoul.rollup.checkpoint-interval:PT10M}")
+    public void checkpoint() {
+        List<CongestionRollup> rollups = new ArrayList<>();
+        synchronized (this) {
+            for (int index = dirtyAreas.nextSetBit(0); index >= 0; index = dirtyAreas.nextSetBit(index + 1)) {
+                int slots = index * HOURS_PER_WEEK;
+                rollups.add(new CongestionRollup(index + 1, lastPopulationMinutes[index],
+                        encode(levelCounts, slots * LEVELS, HOURS_PER_WEEK * LEVELS),
+                        encode(roadSamples, slots, HOURS_PER_WEEK),
+                        encode(roadIndexSums, slots, HOURS_PER_WEEK)));
+            }
+            dirtyAreas.clear();
+        }
+
+        if (!rollups.isEmpty()) {
+            congestionRollupRepository.saveAll(rollups);
+            log.debug("Checkpointed weekly rollups for {} areas", rollups.size());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        checkpoint();
+    }
+
+    // 분 단위 시각(서울 시각 기준)을 월요일 0시부터의 시간대로 변환 (1970-01-01은 목요일)
+    static int hourOfWeek(int populationMinute) {
+        int day = Math.floorDiv(populationMinute, 24 * 60);
+        int dayOfWeek = Math.floorMod(day + 3, 7);
+        int hour = Math.floorMod(populationMinute, 24 * 60) / 60;
+        return dayOfWeek * 24 + hour;
+    }
+
+    private static byte[] encode(int[] source, int offset, int length) {
+        ByteBuffer buffer = ByteBuffer.allocate(length * Integer.BYTES);
+        buffer.asIntBuffer().put(source, offset, length);
+        return buffer.array();
+    }
+
+    private static void decode(byte[] source, int[] target, int offset, int length) {
+        if (source != null && source.length == length * Integer.BYTES) {
+            ByteBuffer.wrap(source).asIntBuffer().get(target, offset, length);
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.example.seoulcongestion.config;
+
+import com.example.seoulcongestion.domain.CongestionData;
+import com.example.seoulcongestion.dto.CongestionRankingResponse;
+import org.junit.jupiter.api.Test;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.predicate.RuntimeHintsPredicates;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RuntimeHintsConfigTest {
+
+    private final RuntimeHints hints = new RuntimeHints();
+
+    @Test
+    void registersResponseTypesAndAreaList() {
+        new RuntimeHintsConfig.CongestionRuntimeHints().registerHints(hints, getClass().getClassLoader());
+
+        assertThat(RuntimeHintsPredicates.reflection().onType(CongestionData.class)
+                .withMemberCategory(MemberCategory.INVOKE_DECLARED_CONSTRUCTORS)).accepts(hints);
+        // 중첩 타입도 함께 등록
+        assertThat(RuntimeHintsPredicates.reflection().onType(CongestionRankingResponse.RankedArea.class)).accepts(hints);
+        assertThat(RuntimeHintsPredicates.resource().forResource("areas.csv")).accepts(hints);
+    }
+}
@@ -0,0 +1,102 @@
+package com.example.seoulcongestion.config;
+
+import io.netty.handler.timeout.ReadTimeoutException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.server.HttpServer;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class WebClientConfigTest {
+
+    private static final String LARGE_BODY = "\"" + "a".repeat(512 * 1024) + "\"";
+    private static final Duration RESPONSE_TIMEOUT = Duration.ofMillis(200);
+
+    private final AtomicInteger connections = new AtomicInteger();
+    private final WebClientConfig config = new WebClientConfig();
+    private DisposableServer server;
+    private ConnectionProvider provider;
+    private WebClient client;
+
+    @BeforeEach
+    void setUp() {
+        server = HttpServer.create()
+                .port(0)
+                .doOnConnection(connection -> connections.incrementAndGet())
+                .route(routes -> routes
+                        .get("/small", (request, response) -> response.sendString(Mono.just("{}")))
+                        .get("/large", (request, response) -> response.sendString(Mono.just(LARGE_BODY)))
+                        .get("/stall", (request, response) -> Mono.never()))
+                .bindNow();
+
+        SeoulApiClientProperties properties = new SeoulApiClientProperties();
+        properties.setResponseTimeout(RESPONSE_TIMEOUT);
+        provider = config.seoulApiConnectionProvider(properties);
+        client = config.seoulApiWebClient(WebClient.builder(), provider, properties, "http://localhost:" + server.port(),
+                Duration.ofSeconds(3));
+    }
+
+    @AfterEach
+    void tearDown() {
+        provider.dispose();
+        server.disposeNow();
+    }
+
+    @Test
+    void reusesPooledConnectionsAcrossRequests() {
+        Flux.range(0, 50)
+                .concatMap(i -> client.get().uri("/small").retrieve().bodyToMono(String.class))
+                .blockLast(Duration.ofSeconds(10));
+
+        assertThat(connections.get()).isEqualTo(1);
+    }
+
+    @Test
+    void acceptsBodiesLargerThanDefaultCodecLimit() {
+        String body = client.get().uri("/large").retrieve().bodyToMono(String.class).block(Duration.ofSeconds(10));
+
+        assertThat(body).hasSize(LARGE_BODY.length());
+    }
+
+    @Test
+    void keepsIdleConnectionPooledBeyondResponseTimeout() throws InterruptedException {
+        client.get().uri("/small").retrieve().bodyToMono(String.class).block(Duration.ofSeconds(5));
+        // 응답 시간 제한은 요청 중에만 걸리므로 풀에서 쉬는 동안에는 커넥션을 닫지 않는다
+        Thread.sleep(RESPONSE_TIMEOUT.multipliedBy(3).toMillis());
+        client.get().uri("/small").retrieve().bodyToMono(String.class).block(Duration.ofSeconds(5));
+
+        assertThat(connections.get()).isEqualTo(1);
+    }
+
+    @Test
+    void failsStalledResponseAfterResponseTimeout() {
+        long startedAt = System.nanoTime();
+
+        assertThatThrownBy(() -> client.get().uri("/stall").retrieve().bodyToMono(String.class)
+                .block(Duration.ofSeconds(5)))
+                .isInstanceOf(WebClientRequestException.class)
+                .hasCauseInstanceOf(ReadTimeoutException.class);
+        assertThat(Duration.ofNanos(System.nanoTime() - startedAt)).isLessThan(Duration.ofSeconds(2));
+    }
+
+    @Test
+    void rejectsCallTimeoutShorterThanResponseTimeout() {
+        SeoulApiClientProperties properties = new SeoulApiClientProperties();
+        properties.setResponseTimeout(Duration.ofSeconds(5));
+
+        assertThatThrownBy(() -> config.seoulApiWebClient(WebClient.builder(), provider, properties,
+                "http://localhost:" + server.port(), Duration.ofSeconds(3)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
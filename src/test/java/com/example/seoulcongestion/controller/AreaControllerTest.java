@@ -0,0 +1,44 @@
+package com.example.seoulcongestion.controller;
+
+import com.example.seoulcongestion.exception.GlobalExceptionHandler;
+import com.example.seoulcongestion.service.AreaRegistry;
+import com.example.seoulcongestion.service.AreaSpatialIndex;
+import com.example.seoulcongestion.service.CongestionSnapshotService;
+import com.example.seoulcongestion.service.WeeklyCongestionAggregator;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.util.List;
+
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+class AreaControllerTest {
+
+    private final AreaRegistry areaRegistry = mock(AreaRegistry.class);
+    private final AreaSpatialIndex areaSpatialIndex = mock(AreaSpatialIndex.class);
+    private final MockMvc mockMvc;
+
+    AreaControllerTest() {
+        given(areaRegistry.getAreas()).willReturn(List.of());
+        AreaController controller = new AreaController(areaRegistry, areaSpatialIndex,
+                mock(CongestionSnapshotService.class), mock(WeeklyCongestionAggregator.class));
+        mockMvc = MockMvcBuilders.standaloneSetup(controller)
+                .setControllerAdvice(new GlobalExceptionHandler())
+                .build();
+    }
+
+    @ParameterizedTest
+    @CsvSource({"NaN, 127.0", "37.5, NaN", "Infinity, 127.0", "37.5, -Infinity", "91, 127.0", "37.5, 181"})
+    void rejectsNonFiniteOrOutOfRangeCoordinates(String lat, String lng) throws Exception {
+        mockMvc.perform(get("/api/areas/nearby").param("lat", lat).param("lng", lng))
+                .andExpect(status().isBadRequest());
+
+        verifyNoInteractions(areaSpatialIndex);
+    }
+}
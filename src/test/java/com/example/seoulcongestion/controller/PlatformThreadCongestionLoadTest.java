@@ -0,0 +1,28 @@
+package com.example.seoulcongestion.controller;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 플랫폼 스레드 모드: 조회 경로가 Mono를 돌려주므로 업스트림을 기다리는 동안 Tomcat 작업 스레드를 붙잡지 않는다
+@Tag("load")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "spring.main.web-application-type=servlet",
+        "spring.threads.virtual.enabled=false",
+        "server.tomcat.threads.max=" + SlowUpstreamLoadTest.TOMCAT_MAX_THREADS})
+class PlatformThreadCongestionLoadTest extends SlowUpstreamLoadTest {
+
+    @Test
+    void slowUpstreamDoesNotHoldWorkerThreads() {
+        Result result = run("servlet/platform");
+
+        assertThat(result.succeeded()).isEqualTo(CONCURRENT_REQUESTS);
+        // 같은 장소에 대한 동시 캐시 미스는 업스트림 호출 하나로 합쳐진다
+        assertThat(result.upstreamRequests()).isEqualTo(result.areas());
+        // 요청마다 작업 스레드가 1초씩 묶였다면 200개씩 최소 10번의 대기가 직렬로 필요했다
+        assertThat(result.elapsed())
+                .isLessThan(UPSTREAM_LATENCY.multipliedBy(CONCURRENT_REQUESTS / TOMCAT_MAX_THREADS / 2));
+    }
+}
@@ -0,0 +1,90 @@
+package com.example.seoulcongestion.controller;
+
+import com.example.seoulcongestion.domain.Area;
+import com.example.seoulcongestion.domain.AreaCategory;
+import com.example.seoulcongestion.domain.CongestionData;
+import com.example.seoulcongestion.domain.CongestionLevel;
+import com.example.seoulcongestion.domain.CongestionSnapshot;
+import com.example.seoulcongestion.service.CongestionSnapshotService;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.lang.management.ThreadMXBean;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+
+// 업스트림이 느릴 때 Netty 모드가 Tomcat 기본 스레드 수(200)보다 많은 요청을 동시에 붙잡을 수 있는지 확인
+@Tag("load")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = "spring.main.web-application-type=reactive")
+class ReactiveCongestionLoadTest {
+
+    private static final int CONCURRENT_REQUESTS = 2000;
+    private static final Duration UPSTREAM_LATENCY = Duration.ofSeconds(1);
+
+    @LocalServerPort
+    private int port;
+
+    @MockitoBean
+    private CongestionSnapshotService congestionSnapshotService;
+
+    @Test
+    void holdsManyMoreSlowRequestsThanServletThreads() {
+        CongestionSnapshot sample = CongestionSnapshot.builder()
+                .area(new Area(14, "강남역", AreaCategory.STATION, 37.4979, 127.0276))
+                .populationMinute(CongestionSnapshot.toPopulationMinute("2024-12-30 14:35"))
+                .level(CongestionLevel.NORMAL)
+                .build();
+        // 캐시 미스마다 느린 업스트림을 기다리는 상황을 흉내낸다
+        given(congestionSnapshotService.getCongestion(anyString()))
+                .willAnswer(invocation -> Mono.delay(UPSTREAM_LATENCY).thenReturn(sample));
+
+        ConnectionProvider provider = ConnectionProvider.builder("load-test")
+                .maxConnections(CONCURRENT_REQUESTS)
+                .pendingAcquireMaxCount(-1)
+                .build();
+        WebClient client = WebClient.builder()
+                .baseUrl("http://localhost:" + port)
+                .clientConnector(new ReactorClientHttpConnector(HttpClient.create(provider)))
+                .build();
+
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        threads.resetPeakThreadCount();
+        long heapBefore = memory.getHeapMemoryUsage().getUsed();
+        long startedAt = System.nanoTime();
+
+        Long succeeded = Flux.range(0, CONCURRENT_REQUESTS)
+                .flatMap(i -> client.get().uri("/api/congestion/{areaName}", "강남역")
+                        .retrieve()
+                        .bodyToMono(CongestionData.class), CONCURRENT_REQUESTS)
+                .count()
+                .block(Duration.ofSeconds(30));
+
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - startedAt);
+        long heapAfter = memory.getHeapMemoryUsage().getUsed();
+        System.out.printf("reactive: %d requests in %d ms, peak threads %d, heap delta %d KB%n",
+                succeeded, elapsed.toMillis(), threads.getPeakThreadCount(), (heapAfter - heapBefore) / 1024);
+
+        provider.disposeLater().block();
+
+        assertThat(succeeded).isEqualTo(CONCURRENT_REQUESTS);
+        // 200개 스레드 풀이었다면 최소 10번의 1초 대기가 직렬로 필요하다
+        assertThat(elapsed).isLessThan(UPSTREAM_LATENCY.multipliedBy(CONCURRENT_REQUESTS / 200 / 2));
+        assertThat(threads.getPeakThreadCount()).isLessThan(200);
+    }
+}
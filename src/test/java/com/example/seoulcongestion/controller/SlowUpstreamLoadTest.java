@@ -0,0 +1,166 @@
+package com.example.seoulcongestion.controller;
+
+import com.example.seoulcongestion.domain.Area;
+import com.example.seoulcongestion.domain.CongestionData;
+import com.example.seoulcongestion.service.AreaRegistry;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+import org.junit.jupiter.api.AfterAll;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.http.server.HttpServer;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.lang.management.ThreadMXBean;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+// 응답이 느린 로컬 Seoul API 스텁에 실제 조회 경로(CongestionSnapshotService -> SeoulApiService)를 붙여
+// 서블릿 모드에서 요청 처리 시간, 플랫폼 스레드 수, 요청당 메모리를 잰다.
+// 플랫폼 스레드 모드와 가상 스레드 모드(spring.threads.virtual.enabled)를 같은 조건으로 비교하고,
+// 같은 구간에서 JFR jdk.VirtualThreadPinned 이벤트로 애플리케이션 코드의 캐리어 스레드 고정을 모은다
+abstract class SlowUpstreamLoadTest {
+
+    static final int CONCURRENT_REQUESTS = 2000;
+    static final int TOMCAT_MAX_THREADS = 200;
+    static final Duration UPSTREAM_LATENCY = Duration.ofSeconds(1);
+
+    private static final String APPLICATION_PACKAGE = "com.example.seoulcongestion.";
+    private static final Duration PINNED_THRESHOLD = Duration.ofMillis(20);
+
+    private static final AtomicInteger upstreamInFlight = new AtomicInteger();
+    private static final AtomicInteger peakUpstreamInFlight = new AtomicInteger();
+    private static final AtomicInteger upstreamRequests = new AtomicInteger();
+    private static DisposableServer upstream;
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private AreaRegistry areaRegistry;
+
+    record Result(long succeeded, Duration elapsed, int areas, int upstreamRequests, int peakUpstreamInFlight,
+                  int peakThreads, List<String> pinned) {
+    }
+
+    // 모든 장소에 같은 응답을 지연시켜 돌려준다 (장소 정보는 요청한 장소로 채워짐)
+    @DynamicPropertySource
+    static void upstreamProperties(DynamicPropertyRegistry registry) {
+        byte[] body;
+        try {
+            body = new ClassPathResource("citydata/gangnam-station.json").getContentAsByteArray();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        upstream = HttpServer.create()
+                .port(0)
+                .route(routes -> routes.route(request -> true, (request, response) -> {
+                    upstreamRequests.incrementAndGet();
+                    peakUpstreamInFlight.accumulateAndGet(upstreamInFlight.incrementAndGet(), Math::max);
+                    return Mono.delay(UPSTREAM_LATENCY)
+                            .then(response.header("Content-Type", "application/json")
+                                    .sendByteArray(Mono.just(body))
+                                    .then())
+                            .doFinally(signal -> upstreamInFlight.decrementAndGet());
+                }))
+                .bindNow();
+        registry.add("seoul.api.base-url", () -> "http://localhost:" + upstream.port());
+        // 재시도 없이 업스트림 지연만 보이도록 시간 제한과 호출 한도를 넉넉히
+        registry.add("seoul.api.call-timeout", () -> "PT10S");
+        registry.add("seoul.quota.daily-limit", () -> "1000000");
+    }
+
+    @AfterAll
+    static void stopUpstream() {
+        upstream.disposeNow();
+    }
+
+    Result run(String mode) {
+        upstreamRequests.set(0);
+        peakUpstreamInFlight.set(0);
+        // 캐시가 빈 상태에서 모든 장소를 고르게 요청해 첫 요청들이 업스트림 응답을 기다리게 한다
+        List<String> areaNames = areaRegistry.getAreas().stream().map(Area::getName).toList();
+
+        ConnectionProvider provider = ConnectionProvider.builder("load-test")
+                .maxConnections(CONCURRENT_REQUESTS)
+                .pendingAcquireMaxCount(-1)
+                .build();
+        WebClient client = WebClient.builder()
+                .baseUrl("http://localhost:" + port)
+                .clientConnector(new ReactorClientHttpConnector(HttpClient.create(provider)))
+                .build();
+
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        List<String> pinned = new CopyOnWriteArrayList<>();
+        Long succeeded;
+        Duration elapsed;
+        long heapBefore;
+        long heapAfter;
+
+        try (RecordingStream recording = new RecordingStream()) {
+            recording.enable("jdk.VirtualThreadPinned").withStackTrace().withThreshold(PINNED_THRESHOLD);
+            recording.onEvent("jdk.VirtualThreadPinned", event -> {
+                RecordedStackTrace stackTrace = event.getStackTrace();
+                String frames = stackTrace == null ? "" : applicationFrames(stackTrace);
+                if (!frames.isEmpty()) {
+                    pinned.add(frames);
+                }
+            });
+            recording.startAsync();
+
+            threads.resetPeakThreadCount();
+            heapBefore = memory.getHeapMemoryUsage().getUsed();
+            long startedAt = System.nanoTime();
+
+            succeeded = Flux.range(0, CONCURRENT_REQUESTS)
+                    .flatMap(i -> client.get().uri("/api/congestion/{areaName}", areaNames.get(i % areaNames.size()))
+                            .retrieve()
+                            .bodyToMono(CongestionData.class), CONCURRENT_REQUESTS)
+                    .count()
+                    .block(Duration.ofSeconds(60));
+
+            elapsed = Duration.ofNanos(System.nanoTime() - startedAt);
+            heapAfter = memory.getHeapMemoryUsage().getUsed();
+            // 남은 이벤트를 모두 받은 뒤 집계
+            recording.stop();
+        }
+
+        // 가상 스레드는 ThreadMXBean 스레드 수에 포함되지 않으므로 플랫폼 스레드 수만 나온다
+        int peakThreads = threads.getPeakThreadCount();
+        System.out.printf("%s: %d requests in %d ms, %d upstream calls (peak %d in flight), "
+                        + "peak platform threads %d, heap per request %d B, pinned %d%n",
+                mode, succeeded, elapsed.toMillis(), upstreamRequests.get(), peakUpstreamInFlight.get(), peakThreads,
+                (heapAfter - heapBefore) / CONCURRENT_REQUESTS, pinned.size());
+        pinned.forEach(frames -> System.out.println("  pinned: " + frames));
+
+        provider.disposeLater().block();
+        return new Result(succeeded == null ? 0 : succeeded, elapsed, areaNames.size(), upstreamRequests.get(),
+                peakUpstreamInFlight.get(), peakThreads, List.copyOf(pinned));
+    }
+
+    private static String applicationFrames(RecordedStackTrace stackTrace) {
+        return stackTrace.getFrames().stream()
+                .map(RecordedFrame::getMethod)
+                .map(method -> method.getType().getName() + "." + method.getName())
+                .filter(name -> name.startsWith(APPLICATION_PACKAGE))
+                .collect(Collectors.joining(" <- "));
+    }
+}
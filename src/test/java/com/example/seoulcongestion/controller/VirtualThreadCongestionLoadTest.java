@@ -0,0 +1,28 @@
+package com.example.seoulcongestion.controller;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 가상 스레드 모드: 요청을 가상 스레드에서 처리하는 동안 애플리케이션 코드가 캐리어 스레드를 고정하지 않아야 한다
+@Tag("load")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "spring.main.web-application-type=servlet",
+        "spring.threads.virtual.enabled=true",
+        "server.tomcat.threads.max=" + SlowUpstreamLoadTest.TOMCAT_MAX_THREADS})
+class VirtualThreadCongestionLoadTest extends SlowUpstreamLoadTest {
+
+    @Test
+    void servesSlowUpstreamWithoutPinningCarrierThreads() {
+        Result result = run("servlet/virtual");
+
+        assertThat(result.succeeded()).isEqualTo(CONCURRENT_REQUESTS);
+        assertThat(result.upstreamRequests()).isEqualTo(result.areas());
+        assertThat(result.elapsed())
+                .isLessThan(UPSTREAM_LATENCY.multipliedBy(CONCURRENT_REQUESTS / TOMCAT_MAX_THREADS / 2));
+        assertThat(result.peakThreads()).isLessThan(TOMCAT_MAX_THREADS);
+        assertThat(result.pinned()).isEmpty();
+    }
+}
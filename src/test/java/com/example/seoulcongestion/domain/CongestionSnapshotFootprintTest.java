@@ -0,0 +1,80 @@
+package com.example.seoulcongestion.domain;
+
+import com.example.seoulcongestion.service.AreaRegistry;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jol.info.GraphLayout;
+import org.springframework.core.io.ClassPathResource;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 전체 장소 스냅샷을 캐시에 올렸을 때의 힙 사용량을 문자열 기반 표현과 비교
+class CongestionSnapshotFootprintTest {
+
+    private static final String[] LEVELS = {"여유", "보통", "약간 붐빔", "붐빔"};
+    private static final String MESSAGE = "사람들이 몰려있을 가능성이 크고 붐빈다고 느낄 수 있어요. 인구밀도가 높은 구간에서는 도보 이동시 부딪힘이 발생할 수 있어요.";
+    private static final String ROAD_MESSAGE = "전체도로소통평균현황은 서행 입니다.";
+
+    @Test
+    void compactCitySnapshotIsSmallerThanStringModel() throws IOException {
+        Map<String, CongestionSnapshot> compact = new HashMap<>();
+        Map<String, CongestionData> legacy = new HashMap<>();
+
+        AreaRegistry areaRegistry = new AreaRegistry(new ClassPathResource("areas.csv"));
+        for (Area area : areaRegistry.getAreas()) {
+            CongestionSnapshot snapshot = sampleSnapshot(area);
+            compact.put(area.getName(), snapshot);
+            legacy.put(area.getName(), parsedAsStrings(snapshot.toCongestionData()));
+        }
+
+        long compactBytes = GraphLayout.parseInstance(compact).totalSize();
+        long legacyBytes = GraphLayout.parseInstance(legacy).totalSize();
+        System.out.printf("full-city snapshot (%d areas): compact %d KB, string model %d KB%n",
+                areaRegistry.size(), compactBytes / 1024, legacyBytes / 1024);
+
+        assertThat(compactBytes).isLessThan(legacyBytes / 2);
+    }
+
+    private CongestionSnapshot sampleSnapshot(Area area) {
+        short[] minutes = new short[12];
+        byte[] levels = new byte[12];
+        for (int i = 0; i < 12; i++) {
+            minutes[i] = (short) ((15 + i) % 24 * 60);
+            levels[i] = CongestionLevel.fromLabel(LEVELS[i % LEVELS.length]).code();
+        }
+        return CongestionSnapshot.builder()
+                .area(area)
+                .populationMinute(CongestionSnapshot.toPopulationMinute("2024-12-30 14:35"))
+                .level(CongestionLevel.SLIGHTLY_CROWDED)
+                .congestMessage(new String(MESSAGE))
+                .forecastMinutes(minutes)
+                .forecastLevels(levels)
+                .forecastCount(12)
+                .roadTrafficIndex(RoadTrafficIndex.SLOW)
+                .roadMessage(new String(ROAD_MESSAGE))
+                .build();
+    }
+
+    // 이전 파서처럼 응답마다 새 문자열을 만들었을 때의 CongestionData
+    private CongestionData parsedAsStrings(CongestionData data) {
+        List<String> times = new ArrayList<>();
+        List<String> congestions = new ArrayList<>();
+        data.getForecastTimes().forEach(time -> times.add(new String(time)));
+        data.getForecastCongestions().forEach(level -> congestions.add(new String(level)));
+        return data.toBuilder()
+                .populationTime(new String(data.getPopulationTime()))
+                .areaName(new String(data.getAreaName()))
+                .areaCongestLevel(new String(data.getAreaCongestLevel()))
+                .areaCongestMsg(new String(data.getAreaCongestMsg()))
+                .forecastTimes(times)
+                .forecastCongestions(congestions)
+                .roadCongestMsg(new String(data.getRoadCongestMsg()))
+                .roadCongestIdx(new String(data.getRoadCongestIdx()))
+                .build();
+    }
+}
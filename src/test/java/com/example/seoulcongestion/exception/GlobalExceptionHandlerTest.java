@@ -0,0 +1,43 @@
+package com.example.seoulcongestion.exception;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RestController;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+class GlobalExceptionHandlerTest {
+
+    private final MockMvc mockMvc = MockMvcBuilders.standaloneSetup(new FailingController())
+            .setControllerAdvice(new GlobalExceptionHandler())
+            .build();
+
+    @ParameterizedTest
+    @EnumSource(CustomErrorInfo.class)
+    void mapsEveryErrorToItsStatusAndBody(CustomErrorInfo info) throws Exception {
+        mockMvc.perform(get("/fail/{info}", info.name()))
+                .andExpect(status().is(info.getStatusCode()))
+                .andExpect(jsonPath("$.code").value(info.name()))
+                .andExpect(jsonPath("$.statusCode").value(info.getStatusCode()))
+                .andExpect(jsonPath("$.message").value(info.getMessage()))
+                // 오류 코드와 메시지만 내보낸다
+                .andExpect(jsonPath("$.trace").doesNotExist())
+                .andExpect(jsonPath("$.stackTrace").doesNotExist())
+                .andExpect(jsonPath("$.cause").doesNotExist());
+    }
+
+    @RestController
+    static class FailingController {
+
+        @GetMapping("/fail/{info}")
+        String fail(@PathVariable CustomErrorInfo info) {
+            throw new CustomException(info);
+        }
+    }
+}
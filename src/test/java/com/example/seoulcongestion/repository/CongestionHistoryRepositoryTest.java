@@ -0,0 +1,130 @@
+package com.example.seoulcongestion.repository;
+
+import com.example.seoulcongestion.config.JpaConfig;
+import com.example.seoulcongestion.domain.Area;
+import com.example.seoulcongestion.domain.CongestionHistory;
+import com.example.seoulcongestion.domain.CongestionLevel;
+import com.example.seoulcongestion.domain.CongestionSnapshot;
+import com.example.seoulcongestion.event.CongestionObservedEvent;
+import com.example.seoulcongestion.service.AreaRegistry;
+import com.example.seoulcongestion.service.ClusterLeaseManager;
+import com.example.seoulcongestion.service.CongestionHistoryWriter;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+// 기록 저장소의 JPQL(보존 기간 삭제, 다운샘플링)과 중복 관측 처리를 내장 H2에서 확인.
+// 중복 삽입 실패가 테스트 트랜잭션을 롤백 전용으로 만들지 않도록 저장소 호출마다 따로 커밋한다
+@DataJpaTest
+@Import(JpaConfig.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class CongestionHistoryRepositoryTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2024, 12, 30, 15, 0);
+
+    @Autowired
+    private CongestionHistoryRepository repository;
+
+    private AreaRegistry areaRegistry;
+    private Area gangnam;
+    private Area yeoksam;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        areaRegistry = new AreaRegistry(new ClassPathResource("areas.csv"));
+        gangnam = areaRegistry.get("강남역");
+        yeoksam = areaRegistry.get("역삼역");
+    }
+
+    @AfterEach
+    void cleanUp() {
+        repository.deleteAllInBatch();
+    }
+
+    @Test
+    void deletesObservationsPastRetention() {
+        repository.saveAll(List.of(history(gangnam, NOW.minusDays(31)), history(gangnam, NOW.minusDays(29))));
+
+        assertThat(repository.deleteOlderThan(NOW.minusDays(30))).isEqualTo(1);
+        assertThat(repository.findAll()).extracting(CongestionHistory::getPopulationTime)
+                .containsExactly(NOW.minusDays(29));
+    }
+
+    @Test
+    void keepsEarliestObservationPerAreaAndHourBeforeCutoff() {
+        LocalDateTime old = NOW.minusDays(3).withMinute(0);
+        repository.saveAll(List.of(
+                history(gangnam, old.plusMinutes(5)),
+                history(gangnam, old.plusMinutes(20)),
+                history(gangnam, old.plusMinutes(55)),
+                history(gangnam, old.plusMinutes(65)),
+                history(yeoksam, old.plusMinutes(20)),
+                history(yeoksam, old.plusMinutes(40)),
+                // cutoff 이후는 그대로
+                history(gangnam, NOW.minusMinutes(50)),
+                history(gangnam, NOW.minusMinutes(45))));
+
+        assertThat(repository.downsampleOlderThan(NOW.minusDays(2))).isEqualTo(3);
+        assertThat(repository.findAll()).extracting(CongestionHistory::getAreaId, CongestionHistory::getPopulationTime)
+                .containsExactlyInAnyOrder(
+                        tuple(gangnam.getId(), old.plusMinutes(5)),
+                        tuple(gangnam.getId(), old.plusMinutes(65)),
+                        tuple(yeoksam.getId(), old.plusMinutes(20)),
+                        tuple(gangnam.getId(), NOW.minusMinutes(50)),
+                        tuple(gangnam.getId(), NOW.minusMinutes(45)));
+    }
+
+    @Test
+    void findsLatestPopulationTimePerArea() {
+        repository.saveAll(List.of(history(gangnam, NOW.minusMinutes(10)), history(gangnam, NOW),
+                history(yeoksam, NOW.minusMinutes(5))));
+
+        assertThat(repository.findLatestPopulationTimes())
+                .extracting(row -> ((Number) row[0]).intValue(), row -> row[1])
+                .containsExactlyInAnyOrder(tuple(gangnam.getId(), NOW), tuple(yeoksam.getId(), NOW.minusMinutes(5)));
+    }
+
+    @Test
+    void writerSkipsObservationStoredByAnotherInstance() {
+        // 다른 인스턴스가 먼저 저장한 관측
+        repository.save(history(gangnam, NOW));
+        CongestionHistoryWriter writer = new CongestionHistoryWriter(repository, areaRegistry,
+                new ClusterLeaseManager(null, false, "test", 1, Duration.ofSeconds(30), Duration.ofSeconds(10),
+                        Duration.ofMinutes(5)),
+                100, 50, Duration.ofDays(30), Duration.ofDays(2));
+
+        writer.onCongestionObserved(new CongestionObservedEvent(snapshot(gangnam, NOW)));
+        writer.onCongestionObserved(new CongestionObservedEvent(snapshot(yeoksam, NOW)));
+        writer.shutdown();
+
+        assertThat(repository.findAll()).extracting(CongestionHistory::getAreaId)
+                .containsExactlyInAnyOrder(gangnam.getId(), yeoksam.getId());
+    }
+
+    private static CongestionHistory history(Area area, LocalDateTime populationTime) {
+        return CongestionHistory.of(snapshot(area, populationTime));
+    }
+
+    private static CongestionSnapshot snapshot(Area area, LocalDateTime populationTime) {
+        return CongestionSnapshot.builder()
+                .area(area)
+                .populationMinute((int) (populationTime.toEpochSecond(ZoneOffset.UTC) / 60))
+                .level(CongestionLevel.NORMAL)
+                .build();
+    }
+}
@@ -0,0 +1,41 @@
+package com.example.seoulcongestion.service;
+
+import com.example.seoulcongestion.domain.Area;
+import com.example.seoulcongestion.domain.AreaCategory;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.ClassPathResource;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class AreaRegistryTest {
+
+    @Test
+    void loadsBundledAreas() throws IOException {
+        AreaRegistry registry = new AreaRegistry(new ClassPathResource("areas.csv"));
+
+        assertThat(registry.size()).isEqualTo(115);
+        assertThat(registry.getAreas()).allSatisfy(area -> {
+            assertThat(area.getLatitude()).isBetween(37.4, 37.7);
+            assertThat(area.getLongitude()).isBetween(126.7, 127.2);
+            assertThat(registry.getById(area.getId())).isSameAs(area);
+        });
+
+        Area gangnam = registry.get("강남역");
+        assertThat(gangnam.getCategory()).isEqualTo(AreaCategory.STATION);
+        assertThat(registry.get("강남역")).isSameAs(gangnam);
+        assertThat(registry.contains("없는 장소")).isFalse();
+    }
+
+    @Test
+    void rejectsDuplicateNames() {
+        String csv = "1,강남역,STATION,37.4979,127.0276\n2,강남역,STATION,37.4979,127.0276\n";
+
+        assertThatThrownBy(() -> new AreaRegistry(new ByteArrayResource(csv.getBytes(StandardCharsets.UTF_8))))
+                .isInstanceOf(IllegalStateException.class);
+    }
+}
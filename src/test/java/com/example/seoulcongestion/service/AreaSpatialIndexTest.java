@@ -0,0 +1,53 @@
+package com.example.seoulcongestion.service;
+
+import com.example.seoulcongestion.domain.Area;
+import com.example.seoulcongestion.domain.NearbyArea;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+
+import java.io.IOException;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AreaSpatialIndexTest {
+
+    @Test
+    void matchesBruteForceSearch() throws IOException {
+        AreaRegistry registry = new AreaRegistry(new ClassPathResource("areas.csv"));
+        AreaSpatialIndex index = new AreaSpatialIndex(registry);
+        Random random = new Random(42);
+
+        for (int i = 0; i < 500; i++) {
+            double lat = 37.40 + random.nextDouble() * 0.30;
+            double lng = 126.75 + random.nextDouble() * 0.45;
+            int k = 1 + random.nextInt(10);
+            double radius = 200 + random.nextDouble() * 8000;
+
+            List<Area> expected = registry.getAreas().stream()
+                    .filter(area -> distance(lat, lng, area) <= radius)
+                    .sorted(Comparator.<Area>comparingDouble(area -> distance(lat, lng, area))
+                            .thenComparingInt(Area::getId))
+                    .limit(k)
+                    .toList();
+            List<Area> actual = index.findNearest(lat, lng, k, radius).stream()
+                    .map(NearbyArea::getArea)
+                    .toList();
+
+            assertThat(actual).containsExactlyElementsOf(expected);
+        }
+    }
+
+    @Test
+    void returnsNothingFarOutsideSeoul() throws IOException {
+        AreaSpatialIndex index = new AreaSpatialIndex(new AreaRegistry(new ClassPathResource("areas.csv")));
+
+        assertThat(index.findNearest(35.1796, 129.0756, 5, 5000)).isEmpty();
+    }
+
+    private static double distance(double lat, double lng, Area area) {
+        return AreaSpatialIndex.distanceMeters(lat, lng, area.getLatitude(), area.getLongitude());
+    }
+}
@@ -0,0 +1,103 @@
+package com.example.seoulcongestion.service;
+
+import com.example.seoulcongestion.domain.Area;
+import com.example.seoulcongestion.domain.AreaCategory;
+import com.example.seoulcongestion.domain.CongestionData;
+import com.example.seoulcongestion.domain.CongestionSnapshot;
+import com.example.seoulcongestion.exception.CustomErrorInfo;
+import com.example.seoulcongestion.exception.CustomException;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CityDataParserTest {
+
+    private final JsonFactory jsonFactory = new JsonFactory();
+
+    @Test
+    void extractsOnlyCongestionFields() throws IOException {
+        CongestionData data = parse(fixture("gangnam-station.json"), Integer.MAX_VALUE, "강남역").toCongestionData();
+
+        assertThat(data.getAreaName()).isEqualTo("강남역");
+        assertThat(data.getPopulationTime()).isEqualTo("2024-12-30 14:35");
+        assertThat(data.getAreaCongestLevel()).isEqualTo("약간 붐빔");
+        assertThat(data.getAreaCongestMsg()).startsWith("사람들이 몰려있을 가능성이 크고");
+        assertThat(data.getForecastTimes()).hasSize(12).startsWith("15:00", "16:00");
+        assertThat(data.getForecastCongestions()).hasSize(12);
+        assertThat(data.getRoadCongestIdx()).isEqualTo("서행");
+        assertThat(data.getRoadCongestMsg()).isEqualTo("전체도로소통평균현황은 서행 입니다.");
+    }
+
+    @Test
+    void resultDoesNotDependOnBufferBoundaries() throws IOException {
+        byte[] body = fixture("gangnam-station.json");
+
+        CongestionData whole = parse(body, Integer.MAX_VALUE, "강남역").toCongestionData();
+        CongestionData chunked = parse(body, 7, "강남역").toCongestionData();
+
+        assertThat(chunked).usingRecursiveComparison().isEqualTo(whole);
+    }
+
+    @Test
+    void rejectsResponseWithoutCityData() {
+        byte[] body = "{\"RESULT\":{\"RESULT.CODE\":\"ERROR-500\"}}".getBytes(StandardCharsets.UTF_8);
+
+        assertThatThrownBy(() -> parse(body, Integer.MAX_VALUE, "강남역"))
+                .isInstanceOfSatisfying(CustomException.class, e ->
+                        assertThat(e.getCustomErrorInfo()).isEqualTo(CustomErrorInfo.INVALID_JSON_STRUCTURE));
+    }
+
+    @Test
+    void rejectsResponseForDifferentArea() throws IOException {
+        byte[] body = fixture("gangnam-station.json");
+
+        assertThatThrownBy(() -> parse(body, Integer.MAX_VALUE, "서울역"))
+                .isInstanceOfSatisfying(CustomException.class, e ->
+                        assertThat(e.getCustomErrorInfo()).isEqualTo(CustomErrorInfo.INVALID_AREA_NAME));
+    }
+
+    @Test
+    void rejectsMalformedJson() {
+        byte[] body = "{\"CITYDATA\":{\"AREA_NM\":".getBytes(StandardCharsets.UTF_8);
+
+        assertThatThrownBy(() -> parse(body, Integer.MAX_VALUE, "강남역"))
+                .isInstanceOfSatisfying(CustomException.class, e ->
+                        assertThat(e.getCustomErrorInfo()).isEqualTo(CustomErrorInfo.FAILED_TO_PARSE_DATA));
+    }
+
+    @Test
+    void closesParserWhenFieldConversionFails() throws IOException {
+        byte[] body = new String(fixture("gangnam-station.json"), StandardCharsets.UTF_8)
+                .replace("\"FCST_TIME\": \"2024-12-30 15:00\"", "\"FCST_TIME\": \"15시\"")
+                .getBytes(StandardCharsets.UTF_8);
+        CityDataParser parser = new CityDataParser(jsonFactory);
+
+        assertThatThrownBy(() -> parser.feed(DefaultDataBufferFactory.sharedInstance.wrap(body)))
+                .isInstanceOfSatisfying(CustomException.class, e ->
+                        assertThat(e.getCustomErrorInfo()).isEqualTo(CustomErrorInfo.FAILED_TO_PARSE_DATA));
+        assertThat(((JsonParser) ReflectionTestUtils.getField(parser, "parser")).isClosed()).isTrue();
+    }
+
+    private CongestionSnapshot parse(byte[] body, int chunkSize, String areaName) {
+        CityDataParser parser = new CityDataParser(jsonFactory);
+        for (int from = 0; from < body.length; from += chunkSize) {
+            byte[] chunk = Arrays.copyOfRange(body, from, Math.min(body.length, from + chunkSize));
+            parser.feed(DefaultDataBufferFactory.sharedInstance.wrap(chunk));
+        }
+        return parser.finish(new Area(1, areaName, AreaCategory.STATION, 0, 0));
+    }
+
+    private byte[] fixture(String name) throws IOException {
+        return new ClassPathResource("citydata/" + name).getContentAsByteArray();
+    }
+}
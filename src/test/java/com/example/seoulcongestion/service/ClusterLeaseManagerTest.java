@@ -0,0 +1,164 @@
+package com.example.seoulcongestion.service;
+
+import com.example.seoulcongestion.domain.Area;
+import com.example.seoulcongestion.domain.AreaCategory;
+import org.h2.tools.Server;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.net.ServerSocket;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+// 여러 인스턴스가 공유하는 DB 대신 H2 서버 모드에 각 노드가 TCP로 따로 접속한다
+class ClusterLeaseManagerTest {
+
+    private static final Duration LEASE = Duration.ofSeconds(30);
+    private static final Duration RENEW = Duration.ofSeconds(10);
+    private static final Duration UPDATE_INTERVAL = Duration.ofMinutes(5);
+
+    private final List<Area> areas = IntStream.rangeClosed(1, 12)
+            .mapToObj(id -> new Area(id, "장소" + id, AreaCategory.STATION, 37.5, 127.0))
+            .toList();
+    private final MutableClock clock = new MutableClock();
+
+    private Server server;
+    private String url;
+
+    @BeforeEach
+    void startServer() throws Exception {
+        int port;
+        try (ServerSocket socket = new ServerSocket(0)) {
+            port = socket.getLocalPort();
+        }
+        server = Server.createTcpServer("-tcpPort", String.valueOf(port), "-ifNotExists").start();
+        url = "jdbc:h2:tcp://localhost:" + port + "/mem:leases-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1";
+    }
+
+    @AfterEach
+    void stopServer() {
+        server.stop();
+    }
+
+    @Test
+    void splitsShardsBetweenNodesWithoutOverlap() {
+        ClusterLeaseManager a = node("a");
+        ClusterLeaseManager b = node("b");
+
+        a.renew();
+        assertThat(a.getOwnedShardCount()).isEqualTo(4);
+
+        // b가 합류하면 a는 다음 연장 때 몫을 넘는 샤드를 내려놓고, b가 그것을 가져간다
+        b.renew();
+        assertThat(b.getOwnedShardCount()).isZero();
+        a.renew();
+        b.renew();
+
+        assertThat(a.getOwnedShardCount()).isEqualTo(2);
+        assertThat(b.getOwnedShardCount()).isEqualTo(2);
+        assertExactlyOneOwner(a, b);
+    }
+
+    @Test
+    void survivingNodeTakesOverWithinOneRefreshInterval() {
+        ClusterLeaseManager a = node("a");
+        ClusterLeaseManager b = node("b");
+        a.renew();
+        b.renew();
+        a.renew();
+        b.renew();
+        assertExactlyOneOwner(a, b);
+
+        // a가 연장을 멈춘 뒤(장애) b만 주기대로 연장
+        Instant crashedAt = clock.instant();
+        while (b.getOwnedShardCount() < 4) {
+            clock.advance(RENEW);
+            b.renew();
+            assertThat(Duration.between(crashedAt, clock.instant())).isLessThanOrEqualTo(LEASE.plus(RENEW));
+            // 임대가 넘어간 샤드를 a가 여전히 자기 것으로 보면 안 된다
+            assertThat(areas).noneMatch(area -> a.owns(area) && b.owns(area));
+        }
+
+        assertThat(Duration.between(crashedAt, clock.instant())).isLessThanOrEqualTo(UPDATE_INTERVAL);
+        assertThat(areas).allMatch(b::owns).noneMatch(a::owns);
+    }
+
+    @Test
+    void releasesLeasesOnShutdown() {
+        ClusterLeaseManager a = node("a");
+        ClusterLeaseManager b = node("b");
+        a.renew();
+        b.renew();
+        assertThat(b.getOwnedShardCount()).isZero();
+
+        a.shutdown();
+        b.renew();
+
+        assertThat(b.getOwnedShardCount()).isEqualTo(4);
+        assertThat(areas).noneMatch(a::owns);
+    }
+
+    @Test
+    void ownsEverythingWhenDisabled() {
+        ClusterLeaseManager disabled = new ClusterLeaseManager(null, false, "solo", 4, LEASE, RENEW,
+                UPDATE_INTERVAL, clock);
+
+        disabled.renew();
+
+        assertThat(areas).allMatch(disabled::owns);
+    }
+
+    @Test
+    void rejectsLeaseLongerThanRefreshInterval() {
+        assertThatThrownBy(() -> new ClusterLeaseManager(null, true, "a", 4, Duration.ofMinutes(5), RENEW,
+                UPDATE_INTERVAL, clock))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private ClusterLeaseManager node(String nodeId) {
+        // 노드마다 커넥션을 따로 연다
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(url, "sa", "");
+        return new ClusterLeaseManager(new JdbcTemplate(dataSource), true, nodeId, 4, LEASE, RENEW,
+                UPDATE_INTERVAL, clock);
+    }
+
+    private void assertExactlyOneOwner(ClusterLeaseManager a, ClusterLeaseManager b) {
+        assertThat(areas).allMatch(area -> a.owns(area) ^ b.owns(area));
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private Instant now = Instant.parse("2024-12-30T05:00:00Z");
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package com.example.seoulcongestion.service;
+
+import com.example.seoulcongestion.domain.Area;
+import com.example.seoulcongestion.domain.CongestionData;
+import com.example.seoulcongestion.domain.CongestionLevel;
+import com.example.seoulcongestion.domain.CongestionSnapshot;
+import com.example.seoulcongestion.dto.ApiResponse;
+import com.example.seoulcongestion.dto.AreaError;
+import com.example.seoulcongestion.exception.CustomErrorInfo;
+import com.example.seoulcongestion.exception.CustomException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.test.util.ReflectionTestUtils;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class CongestionBatchServiceTest {
+
+    private final CongestionSnapshotService snapshotService = mock(CongestionSnapshotService.class);
+    private AreaRegistry areaRegistry;
+    private CongestionBatchService batchService;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        areaRegistry = new AreaRegistry(new ClassPathResource("areas.csv"));
+        batchService = new CongestionBatchService(snapshotService, areaRegistry);
+        ReflectionTestUtils.setField(batchService, "concurrency", 16);
+        ReflectionTestUtils.setField(batchService, "deadline", Duration.ofSeconds(3));
+        given(snapshotService.getCongestion(anyString(), anyBoolean()))
+                .willAnswer(invocation -> Mono.just(snapshotOf(areaRegistry.get(invocation.getArgument(0)))));
+    }
+
+    @Test
+    void fetchesRepeatedNamesOnce() {
+        ApiResponse response = batchService.getCongestions(List.of("강남역", " 강남역 ", "역삼역", "")).block();
+
+        assertThat(response.getResults()).extracting(CongestionData::getAreaName).containsExactly("강남역", "역삼역");
+        assertThat(response.getErrors()).isEmpty();
+        verify(snapshotService, times(1)).getCongestion("강남역", true);
+        verify(snapshotService, times(1)).getCongestion("역삼역", true);
+    }
+
+    @Test
+    void expandsAllWithoutCountingPopularity() {
+        ApiResponse response = batchService.getCongestions(List.of("강남역", "ALL")).block();
+
+        assertThat(response.getResults()).hasSize(areaRegistry.size());
+        assertThat(response.getResults().get(0).getAreaName()).isEqualTo("강남역");
+        // 직접 지정한 장소만 조회 수에 반영
+        verify(snapshotService).getCongestion("강남역", true);
+        verify(snapshotService, never()).getCongestion("역삼역", true);
+        verify(snapshotService).getCongestion("역삼역", false);
+    }
+
+    @Test
+    void reportsFailedAreaNextToPartialResults() {
+        given(snapshotService.getCongestion(eq("역삼역"), anyBoolean()))
+                .willReturn(Mono.error(new CustomException(CustomErrorInfo.UPSTREAM_UNAVAILABLE)));
+        given(snapshotService.getCongestion(eq("없는 장소"), anyBoolean()))
+                .willReturn(Mono.error(new CustomException(CustomErrorInfo.INVALID_AREA_NAME)));
+
+        ApiResponse response = batchService.getCongestions(List.of("강남역", "역삼역", "없는 장소")).block();
+
+        assertThat(response.getResults()).extracting(CongestionData::getAreaName).containsExactly("강남역");
+        assertThat(response.getErrors()).extracting(AreaError::getAreaName, AreaError::getStatusCode)
+                .containsExactly(
+                        tuple("역삼역", CustomErrorInfo.UPSTREAM_UNAVAILABLE.getStatusCode()),
+                        tuple("없는 장소", CustomErrorInfo.INVALID_AREA_NAME.getStatusCode()));
+    }
+
+    @Test
+    void reportsAreasStillPendingAtDeadlineAsTimeout() {
+        ReflectionTestUtils.setField(batchService, "deadline", Duration.ofMillis(200));
+        given(snapshotService.getCongestion(eq("역삼역"), anyBoolean())).willReturn(Mono.never());
+
+        ApiResponse response = batchService.getCongestions(List.of("강남역", "역삼역")).block(Duration.ofSeconds(2));
+
+        assertThat(response.getResults()).extracting(CongestionData::getAreaName).containsExactly("강남역");
+        assertThat(response.getErrors()).singleElement().satisfies(error -> {
+            assertThat(error.getAreaName()).isEqualTo("역삼역");
+            assertThat(error.getStatusCode()).isEqualTo(CustomErrorInfo.REQUEST_TIMEOUT.getStatusCode());
+            assertThat(error.getMessage()).isEqualTo(CustomErrorInfo.REQUEST_TIMEOUT.getMessage());
+        });
+    }
+
+    private static CongestionSnapshot snapshotOf(Area area) {
+        return CongestionSnapshot.builder()
+                .area(area)
+                .populationMinute(CongestionSnapshot.toPopulationMinute("2024-12-30 14:35"))
+                .level(CongestionLevel.NORMAL)
+                .build();
+    }
+}
@@ -0,0 +1,109 @@
+package com.example.seoulcongestion.service;
+
+import com.example.seoulcongestion.domain.Area;
+import com.example.seoulcongestion.domain.AreaCategory;
+import com.example.seoulcongestion.domain.CongestionData;
+import com.example.seoulcongestion.domain.CongestionLevel;
+import com.example.seoulcongestion.domain.CongestionSnapshot;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CongestionCachePolicyTest {
+
+    // 2024-12-30 14:35 (서울) = 05:35 UTC, 다음 갱신은 14:40
+    private static final Instant NOW = Instant.parse("2024-12-30T05:37:00Z");
+
+    private final CongestionCachePolicy policy =
+            new CongestionCachePolicy(Duration.ofMinutes(5), Duration.ofMinutes(10), Clock.fixed(NOW, ZoneOffset.UTC));
+
+    private final CongestionSnapshot snapshot = CongestionSnapshot.builder()
+            .area(new Area(42, "강남역", AreaCategory.STATION, 37.4979, 127.0276))
+            .populationMinute(CongestionSnapshot.toPopulationMinute("2024-12-30 14:35"))
+            .level(CongestionLevel.CROWDED)
+            .build();
+
+    @Test
+    void returnsBodyWithValidatorsAndMaxAgeUntilNextUpdate() {
+        ResponseEntity<CongestionData> response = respond(policy, null, null);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getHeaders().getETag()).isEqualTo("W/\"42-" + snapshot.getPopulationMinute() + "\"");
+        assertThat(response.getHeaders().getVary()).containsExactly(HttpHeaders.ACCEPT_ENCODING);
+        assertThat(response.getHeaders().getLastModified()).isEqualTo(Instant.parse("2024-12-30T05:35:00Z").toEpochMilli());
+        assertThat(response.getHeaders().getCacheControl()).isEqualTo("max-age=180, public");
+        assertThat(response.getBody().getAreaName()).isEqualTo("강남역");
+    }
+
+    @Test
+    void returnsNotModifiedForMatchingEtag() {
+        String etag = respond(policy, null, null).getHeaders().getETag();
+
+        ResponseEntity<CongestionData> response = respond(policy, "\"other\", " + etag, null);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+        assertThat(response.getBody()).isNull();
+        // If-None-Match는 약한 비교이므로 W/ 없이 보내도 일치
+        assertThat(respond(policy, etag.substring(2), null).getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+    }
+
+    @Test
+    void usesIfModifiedSinceOnlyWithoutIfNoneMatch() {
+        String since = "Mon, 30 Dec 2024 05:35:00 GMT";
+
+        assertThat(respond(policy, null, since).getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+        assertThat(respond(policy, "\"stale\"", since).getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(respond(policy, null, "Mon, 30 Dec 2024 05:30:00 GMT").getStatusCode())
+                .isEqualTo(HttpStatus.OK);
+        assertThat(respond(policy, null, "not a date").getStatusCode()).isEqualTo(HttpStatus.OK);
+    }
+
+    @Test
+    void revalidatesOnceExpectedUpdateHasPassed() {
+        CongestionCachePolicy late = new CongestionCachePolicy(Duration.ofMinutes(5), Duration.ofMinutes(10),
+                Clock.fixed(NOW.plus(Duration.ofMinutes(10)), ZoneOffset.UTC));
+
+        assertThat(respond(late, null, null).getHeaders().getCacheControl())
+                .isEqualTo("max-age=0, must-revalidate, public");
+    }
+
+    @Test
+    void reportsAgeAndMarksStaleSnapshots() {
+        CongestionSnapshot recent = fetchedBefore(Duration.ofMinutes(1));
+        ResponseEntity<CongestionData> response = policy.toResponse(recent, null, null,
+                builder -> builder.body(recent.toCongestionData()));
+
+        assertThat(response.getHeaders().getFirst("Age")).isEqualTo("60");
+        assertThat(response.getHeaders().getFirst("X-Congestion-Stale")).isNull();
+        // 받는 쪽 캐시가 Age를 빼고도 다음 갱신 시각까지 보관하도록 max-age에 더한다
+        assertThat(response.getHeaders().getCacheControl()).isEqualTo("max-age=240, public");
+
+        CongestionSnapshot old = fetchedBefore(Duration.ofMinutes(11));
+        ResponseEntity<CongestionData> stale = policy.toResponse(old, null, null,
+                builder -> builder.body(old.toCongestionData()));
+
+        assertThat(stale.getHeaders().getFirst("Age")).isEqualTo("660");
+        assertThat(stale.getHeaders().getFirst("X-Congestion-Stale")).isEqualTo("true");
+    }
+
+    private CongestionSnapshot fetchedBefore(Duration age) {
+        return CongestionSnapshot.builder()
+                .area(snapshot.getArea())
+                .populationMinute(snapshot.getPopulationMinute())
+                .level(CongestionLevel.CROWDED)
+                .fetchedAt(NOW.minus(age).toEpochMilli())
+                .build();
+    }
+
+    private ResponseEntity<CongestionData> respond(CongestionCachePolicy policy, String ifNoneMatch, String ifModifiedSince) {
+        return policy.toResponse(snapshot, ifNoneMatch, ifModifiedSince, builder -> builder.body(snapshot.toCongestionData()));
+    }
+}
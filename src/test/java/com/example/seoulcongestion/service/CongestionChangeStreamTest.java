@@ -0,0 +1,98 @@
+package com.example.seoulcongestion.service;
+
+import com.example.seoulcongestion.domain.Area;
+import com.example.seoulcongestion.domain.CongestionLevel;
+import com.example.seoulcongestion.domain.CongestionSnapshot;
+import com.example.seoulcongestion.domain.RoadTrafficIndex;
+import com.example.seoulcongestion.dto.CongestionChangeEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.http.codec.ServerSentEvent;
+import reactor.test.StepVerifier;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CongestionChangeStreamTest {
+
+    private AreaRegistry registry;
+    private CongestionChangeStream stream;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        registry = new AreaRegistry(new ClassPathResource("areas.csv"));
+        stream = new CongestionChangeStream(registry, Duration.ofHours(1), Duration.ofHours(1), 16);
+    }
+
+    @Test
+    void emitsOnlyWhenSubscribedAreaChanges() {
+        Area gangnam = registry.get("강남역");
+        Area hongdae = registry.get("홍대입구역(2호선)");
+
+        StepVerifier.create(stream.subscribe(List.of("강남역")))
+                .then(() -> stream.publish(snapshot(gangnam, "2024-12-30 14:00", CongestionLevel.NORMAL, RoadTrafficIndex.SLOW)))
+                .assertNext(event -> assertThat(event.data().getChanges())
+                        .containsExactly("populationTime", "level", "roadTrafficIndex"))
+                // 같은 값, 다른 장소, 이전 시각은 보내지 않는다
+                .then(() -> stream.publish(snapshot(gangnam, "2024-12-30 14:00", CongestionLevel.NORMAL, RoadTrafficIndex.SLOW)))
+                .then(() -> stream.publish(snapshot(hongdae, "2024-12-30 14:00", CongestionLevel.CROWDED, RoadTrafficIndex.SLOW)))
+                .then(() -> stream.publish(snapshot(gangnam, "2024-12-30 13:55", CongestionLevel.CROWDED, RoadTrafficIndex.SLOW)))
+                .then(() -> stream.publish(snapshot(gangnam, "2024-12-30 14:05", CongestionLevel.CROWDED, RoadTrafficIndex.SLOW)))
+                .assertNext(event -> {
+                    assertThat(event.data().getAreaName()).isEqualTo("강남역");
+                    assertThat(event.data().getChanges()).containsExactly("populationTime", "level");
+                    assertThat(event.data().getCongestion().getAreaCongestLevel()).isEqualTo("붐빔");
+                })
+                .thenCancel()
+                .verify(Duration.ofSeconds(5));
+    }
+
+    @Test
+    void newSubscriberReceivesCurrentStateFirst() {
+        Area gangnam = registry.get("강남역");
+        stream.publish(snapshot(gangnam, "2024-12-30 14:00", CongestionLevel.NORMAL, RoadTrafficIndex.SLOW));
+
+        StepVerifier.create(stream.subscribe(List.of("all")).map(ServerSentEvent::data))
+                .assertNext(data -> assertThat(data.getCongestion().getPopulationTime()).isEqualTo("2024-12-30 14:00"))
+                .then(() -> stream.publish(snapshot(gangnam, "2024-12-30 14:00", CongestionLevel.NORMAL, RoadTrafficIndex.CONGESTED)))
+                .assertNext(data -> assertThat(data.getChanges()).containsExactly("roadTrafficIndex"))
+                .thenCancel()
+                .verify(Duration.ofSeconds(5));
+    }
+
+    @Test
+    void sendsHeartbeatComments() {
+        CongestionChangeStream heartbeatStream = new CongestionChangeStream(registry, Duration.ofMillis(50), Duration.ofHours(1), 16);
+
+        StepVerifier.create(heartbeatStream.subscribe(List.of("강남역")))
+                .assertNext(event -> {
+                    assertThat(event.comment()).isEqualTo("heartbeat");
+                    assertThat(event.data()).isNull();
+                })
+                .thenCancel()
+                .verify(Duration.ofSeconds(5));
+    }
+
+    @Test
+    void completesAfterMaxDuration() {
+        CongestionChangeStream shortStream = new CongestionChangeStream(registry, Duration.ofHours(1),
+                Duration.ofMillis(100), 16);
+
+        StepVerifier.create(shortStream.subscribe(List.of("강남역")))
+                .expectComplete()
+                .verify(Duration.ofSeconds(5));
+    }
+
+    private static CongestionSnapshot snapshot(Area area, String time, CongestionLevel level, RoadTrafficIndex road) {
+        return CongestionSnapshot.builder()
+                .area(area)
+                .populationMinute(CongestionSnapshot.toPopulationMinute(time))
+                .level(level)
+                .roadTrafficIndex(road)
+                .build();
+    }
+}
@@ -0,0 +1,166 @@
+package com.example.seoulcongestion.service;
+
+import com.example.seoulcongestion.domain.Area;
+import com.example.seoulcongestion.domain.CongestionHistory;
+import com.example.seoulcongestion.domain.CongestionLevel;
+import com.example.seoulcongestion.domain.CongestionSnapshot;
+import com.example.seoulcongestion.event.CongestionObservedEvent;
+import com.example.seoulcongestion.repository.CongestionHistoryRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.io.IOException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.atLeast;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class CongestionHistoryWriterTest {
+
+    private final CongestionHistoryRepository repository = mock(CongestionHistoryRepository.class);
+    private ClusterLeaseManager leaseManager = new ClusterLeaseManager(null, false, "test", 1,
+            Duration.ofSeconds(30), Duration.ofSeconds(10), Duration.ofMinutes(5), Clock.systemUTC());
+    private AreaRegistry areaRegistry;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        areaRegistry = new AreaRegistry(new ClassPathResource("areas.csv"));
+    }
+
+    @Test
+    void queuesEachPopulationTimeOnce() {
+        CongestionHistoryWriter writer = writer(100, 50);
+
+        writer.onCongestionObserved(observed("강남역", "2024-12-30 14:35"));
+        writer.onCongestionObserved(observed("강남역", "2024-12-30 14:35"));
+        // 늦게 도착한 이전 관측과 시각이 없는 관측은 저장하지 않는다
+        writer.onCongestionObserved(observed("강남역", "2024-12-30 14:30"));
+        writer.onCongestionObserved(observed("강남역", null));
+        writer.onCongestionObserved(observed("강남역", "2024-12-30 14:40"));
+        writer.onCongestionObserved(observed("역삼역", "2024-12-30 14:35"));
+        writer.flush();
+
+        assertThat(savedBatches()).singleElement().satisfies(batch -> assertThat(batch)
+                .extracting(CongestionHistory::getAreaId, CongestionHistory::getPopulationTime)
+                .containsExactly(
+                        tuple(areaRegistry.get("강남역").getId(),
+                                LocalDateTime.of(2024, 12, 30, 14, 35)),
+                        tuple(areaRegistry.get("강남역").getId(),
+                                LocalDateTime.of(2024, 12, 30, 14, 40)),
+                        tuple(areaRegistry.get("역삼역").getId(),
+                                LocalDateTime.of(2024, 12, 30, 14, 35))));
+    }
+
+    @Test
+    void skipsObservationsAlreadyStoredBeforeRestart() {
+        given(repository.findLatestPopulationTimes()).willReturn(List.<Object[]>of(
+                new Object[]{areaRegistry.get("강남역").getId(), LocalDateTime.of(2024, 12, 30, 14, 35)}));
+        CongestionHistoryWriter writer = writer(100, 50);
+        writer.loadLatestPopulationTimes();
+
+        writer.onCongestionObserved(observed("강남역", "2024-12-30 14:35"));
+        writer.flush();
+
+        verify(repository, never()).saveAll(anyList());
+    }
+
+    @Test
+    void writesInBatchesOfConfiguredSize() {
+        CongestionHistoryWriter writer = writer(100, 2);
+        for (Area area : areaRegistry.getAreas().subList(0, 5)) {
+            writer.onCongestionObserved(observed(area.getName(), "2024-12-30 14:35"));
+        }
+
+        writer.flush();
+
+        assertThat(savedBatches()).extracting(List::size).containsExactly(2, 2, 1);
+    }
+
+    @Test
+    void fallsBackToSingleInsertsWhenBatchHitsDuplicate() {
+        given(repository.saveAll(anyList())).willThrow(new DataIntegrityViolationException("duplicate"));
+        int duplicateArea = areaRegistry.get("역삼역").getId();
+        given(repository.save(argThat(history -> history != null && history.getAreaId() == duplicateArea)))
+                .willThrow(new DataIntegrityViolationException("duplicate"));
+        CongestionHistoryWriter writer = writer(100, 50);
+        for (String area : List.of("강남역", "역삼역", "선릉역")) {
+            writer.onCongestionObserved(observed(area, "2024-12-30 14:35"));
+        }
+
+        writer.flush();
+
+        // 중복인 한 건만 건너뛰고 나머지는 저장
+        verify(repository, times(3)).save(any(CongestionHistory.class));
+    }
+
+    @Test
+    void dropsObservationsWhenQueueIsFull() {
+        CongestionHistoryWriter writer = writer(1, 50);
+
+        writer.onCongestionObserved(observed("강남역", "2024-12-30 14:35"));
+        writer.onCongestionObserved(observed("역삼역", "2024-12-30 14:35"));
+        writer.flush();
+
+        assertThat(savedBatches()).singleElement().satisfies(batch -> assertThat(batch).hasSize(1));
+    }
+
+    @Test
+    void flushesQueueOnShutdown() {
+        CongestionHistoryWriter writer = writer(100, 50);
+        writer.onCongestionObserved(observed("강남역", "2024-12-30 14:35"));
+
+        writer.shutdown();
+
+        assertThat(savedBatches()).singleElement().satisfies(batch -> assertThat(batch).hasSize(1));
+    }
+
+    @Test
+    void leavesPersistenceToLeaseOwner() {
+        // 임대를 하나도 갖지 않은 클러스터 노드
+        leaseManager = new ClusterLeaseManager(null, true, "b", 1, Duration.ofSeconds(30), Duration.ofSeconds(10),
+                Duration.ofMinutes(5), Clock.systemUTC());
+        CongestionHistoryWriter writer = writer(100, 50);
+
+        writer.onCongestionObserved(observed("강남역", "2024-12-30 14:35"));
+        writer.flush();
+        writer.maintain();
+
+        verify(repository, never()).saveAll(anyList());
+        verify(repository, never()).deleteOlderThan(any());
+    }
+
+    private CongestionHistoryWriter writer(int queueCapacity, int batchSize) {
+        return new CongestionHistoryWriter(repository, areaRegistry, leaseManager, queueCapacity, batchSize,
+                Duration.ofDays(30), Duration.ofDays(2));
+    }
+
+    private CongestionObservedEvent observed(String areaName, String populationTime) {
+        return new CongestionObservedEvent(CongestionSnapshot.builder()
+                .area(areaRegistry.get(areaName))
+                .populationMinute(CongestionSnapshot.toPopulationMinute(populationTime))
+                .level(CongestionLevel.NORMAL)
+                .build());
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<List<CongestionHistory>> savedBatches() {
+        ArgumentCaptor<List<CongestionHistory>> batches = ArgumentCaptor.forClass(List.class);
+        verify(repository, atLeast(0)).saveAll(batches.capture());
+        return batches.getAllValues();
+    }
+}
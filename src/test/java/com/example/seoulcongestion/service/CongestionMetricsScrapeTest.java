@@ -0,0 +1,54 @@
+package com.example.seoulcongestion.service;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+import reactor.core.publisher.Mono;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// 실제 레지스트리에 등록된 미터가 /actuator/prometheus로 노출되는지 (태그 키가 이름마다 일정해야 스크랩된다)
+@SpringBootTest(properties = {
+        "spring.main.web-application-type=servlet",
+        "management.endpoints.web.exposure.include=prometheus"})
+@AutoConfigureMockMvc
+@AutoConfigureObservability(tracing = false)
+class CongestionMetricsScrapeTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private CongestionMetrics metrics;
+
+    @Autowired
+    private AreaRegistry areaRegistry;
+
+    @Test
+    void exposesRecordedMetersToPrometheus() throws Exception {
+        metrics.recordUpstream(areaRegistry.get("강남역"), 120_000_000L, 80_000, 1_000_000);
+        metrics.recordCacheMiss();
+        metrics.timeRequest("강남역", Mono.just("ok")).block();
+
+        String scrape = mockMvc.perform(get("/actuator/prometheus"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString(StandardCharsets.UTF_8);
+
+        assertThat(scrape)
+                .contains("seoul_api_upstream_seconds_count{")
+                .contains("seoul_api_upstream_all_seconds_bucket{")
+                .contains("congestion_request_all_seconds_bucket{")
+                .contains("congestion_cache_requests_total{")
+                .containsPattern("congestion_request_seconds_count\\{.*area=\"강남역\".*outcome=\"SUCCESS\"");
+        // 장소별 타이머에는 버킷을 내보내지 않는다
+        assertThat(scrape).doesNotContain("congestion_request_seconds_bucket{")
+                .doesNotContain("seoul_api_upstream_seconds_bucket{");
+    }
+}
@@ -0,0 +1,67 @@
+package com.example.seoulcongestion.service;
+
+import com.example.seoulcongestion.exception.CustomErrorInfo;
+import com.example.seoulcongestion.exception.CustomException;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CongestionMetricsTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private AreaRegistry areaRegistry;
+    private CongestionMetrics metrics;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        areaRegistry = new AreaRegistry(new ClassPathResource("areas.csv"));
+        metrics = new CongestionMetrics(meterRegistry, areaRegistry, true, false);
+    }
+
+    @Test
+    void recordsByAreaAndOutcomeWithHistogramOnlyAcrossAreas() {
+        metrics.timeRequest("강남역", Mono.just("ok")).block();
+        metrics.timeRequest(" 강남역", Mono.just("ok")).block();
+        assertThatThrownBy(() -> metrics.timeRequest("강남역",
+                Mono.error(new CustomException(CustomErrorInfo.UPSTREAM_UNAVAILABLE))).block())
+                .isInstanceOf(CustomException.class);
+        metrics.timeRequest("없는 장소", Mono.just("ok")).block();
+
+        Timer gangnam = meterRegistry.get("congestion.request").tag("area", "강남역").tag("outcome", "SUCCESS").timer();
+        assertThat(gangnam.count()).isEqualTo(2);
+        assertThat(meterRegistry.get("congestion.request").tag("area", "강남역")
+                .tag("outcome", "UPSTREAM_UNAVAILABLE").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("congestion.request").tag("area", "unknown").timer().count()).isEqualTo(1);
+
+        // 장소별 타이머에는 버킷이 없고, 장소 구분 없는 타이머에만 히스토그램이 있다
+        assertThat(gangnam.takeSnapshot().histogramCounts()).isEmpty();
+        Timer overall = meterRegistry.get("congestion.request.all").tag("outcome", "SUCCESS").timer();
+        assertThat(overall.count()).isEqualTo(3);
+        assertThat(overall.takeSnapshot().histogramCounts()).isNotEmpty();
+    }
+
+    @Test
+    void reusesRegisteredMeters() {
+        metrics.recordUpstream(areaRegistry.get("강남역"), Duration.ofMillis(120).toNanos(), 80_000, 1_000_000);
+        Timer upstream = meterRegistry.get("seoul.api.upstream").tag("area", "강남역").timer();
+
+        metrics.recordUpstream(areaRegistry.get("강남역"), Duration.ofMillis(80).toNanos(), 81_000, 1_000_000);
+
+        assertThat(meterRegistry.get("seoul.api.upstream").tag("area", "강남역").timer()).isSameAs(upstream);
+        assertThat(upstream.count()).isEqualTo(2);
+        assertThat(meterRegistry.get("seoul.api.upstream.all").timer().count()).isEqualTo(2);
+        assertThat(meterRegistry.get("seoul.api.response.size").tag("area", "강남역").summary().totalAmount())
+                .isEqualTo(161_000);
+        // 기록한 장소의 미터만 등록된다
+        assertThat(meterRegistry.find("seoul.api.upstream").timers()).hasSize(1);
+    }
+}
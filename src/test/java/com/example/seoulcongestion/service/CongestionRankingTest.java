@@ -0,0 +1,91 @@
+package com.example.seoulcongestion.service;
+
+import com.example.seoulcongestion.domain.Area;
+import com.example.seoulcongestion.domain.AreaCategory;
+import com.example.seoulcongestion.domain.CongestionLevel;
+import com.example.seoulcongestion.domain.CongestionSnapshot;
+import com.example.seoulcongestion.domain.RoadTrafficIndex;
+import com.example.seoulcongestion.dto.CongestionRankingResponse;
+import com.example.seoulcongestion.dto.CongestionRankingResponse.RankedArea;
+import com.example.seoulcongestion.service.CongestionRanking.RankBy;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+
+import java.io.IOException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CongestionRankingTest {
+
+    private AreaRegistry registry;
+    private CongestionRanking ranking;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        registry = new AreaRegistry(new ClassPathResource("areas.csv"));
+        ranking = new CongestionRanking(registry, 3);
+    }
+
+    @Test
+    void ranksAreasByLevelThenRoadTraffic() {
+        ranking.update(snapshot("강남역", "14:30", CongestionLevel.CROWDED, RoadTrafficIndex.SLOW));
+        ranking.update(snapshot("서울역", "14:30", CongestionLevel.CROWDED, RoadTrafficIndex.CONGESTED));
+        ranking.update(snapshot("명동 관광특구", "14:30", CongestionLevel.NORMAL, RoadTrafficIndex.SMOOTH));
+        ranking.update(snapshot("여의도한강공원", "14:30", CongestionLevel.RELAXED, RoadTrafficIndex.SMOOTH));
+        ranking.update(snapshot("홍대 관광특구", "14:30", CongestionLevel.UNKNOWN, null));
+
+        CongestionRankingResponse level = ranking.getRanking(RankBy.LEVEL, null);
+        assertThat(level.getRankedAreas()).isEqualTo(4);
+        assertThat(level.getMostCrowded()).extracting(RankedArea::getAreaName)
+                .containsExactly("서울역", "강남역", "명동 관광특구");
+        assertThat(level.getMostCrowded()).extracting(RankedArea::getRank).containsExactly(1, 2, 3);
+        assertThat(level.getQuietest()).extracting(RankedArea::getAreaName).first().isEqualTo("여의도한강공원");
+
+        CongestionRankingResponse road = ranking.getRanking(RankBy.ROAD, null);
+        assertThat(road.getMostCrowded()).extracting(RankedArea::getAreaName).startsWith("서울역", "강남역");
+    }
+
+    @Test
+    void movesAreaWhenItsSnapshotChanges() {
+        ranking.update(snapshot("강남역", "14:30", CongestionLevel.CROWDED, RoadTrafficIndex.SLOW));
+        ranking.update(snapshot("서울역", "14:30", CongestionLevel.NORMAL, RoadTrafficIndex.SLOW));
+        CongestionRankingResponse before = ranking.getRanking(RankBy.LEVEL, null);
+
+        ranking.update(snapshot("강남역", "14:35", CongestionLevel.RELAXED, RoadTrafficIndex.SLOW));
+        // 늦게 도착한 이전 관측은 반영하지 않는다
+        ranking.update(snapshot("강남역", "14:25", CongestionLevel.CROWDED, RoadTrafficIndex.SLOW));
+
+        CongestionRankingResponse after = ranking.getRanking(RankBy.LEVEL, null);
+        assertThat(after.getRankedAreas()).isEqualTo(2);
+        assertThat(after.getMostCrowded()).extracting(RankedArea::getAreaName).containsExactly("서울역", "강남역");
+        assertThat(after.getMostCrowded().get(1).getPopulationTime()).isEqualTo("2024-12-30 14:35");
+        // 이미 게시된 응답은 바뀌지 않는다
+        assertThat(before.getMostCrowded()).extracting(RankedArea::getAreaName).containsExactly("강남역", "서울역");
+    }
+
+    @Test
+    void keepsSeparateRankingsPerCategory() {
+        Area station = registry.get("강남역");
+        Area park = registry.get("여의도한강공원");
+        ranking.update(snapshot(station.getName(), "14:30", CongestionLevel.NORMAL, RoadTrafficIndex.SMOOTH));
+        ranking.update(snapshot(park.getName(), "14:30", CongestionLevel.CROWDED, RoadTrafficIndex.SMOOTH));
+
+        CongestionRankingResponse stations = ranking.getRanking(RankBy.LEVEL, station.getCategory());
+        assertThat(stations.getCategory()).isEqualTo(station.getCategory().getLabel());
+        assertThat(stations.getMostCrowded()).extracting(RankedArea::getAreaName).containsExactly(station.getName());
+
+        assertThat(ranking.getRanking(RankBy.LEVEL, park.getCategory()).getMostCrowded())
+                .extracting(RankedArea::getAreaName).containsExactly(park.getName());
+        assertThat(ranking.getRanking(RankBy.LEVEL, AreaCategory.HERITAGE).getMostCrowded()).isEmpty();
+    }
+
+    private CongestionSnapshot snapshot(String areaName, String time, CongestionLevel level, RoadTrafficIndex road) {
+        return CongestionSnapshot.builder()
+                .area(registry.get(areaName))
+                .populationMinute(CongestionSnapshot.toPopulationMinute("2024-12-30 " + time))
+                .level(level)
+                .roadTrafficIndex(road)
+                .build();
+    }
+}
@@ -0,0 +1,111 @@
+package com.example.seoulcongestion.service;
+
+import com.example.seoulcongestion.domain.Area;
+import com.example.seoulcongestion.domain.CongestionData;
+import com.example.seoulcongestion.domain.CongestionLevel;
+import com.example.seoulcongestion.domain.CongestionSnapshot;
+import com.example.seoulcongestion.event.CongestionObservedEvent;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CongestionResponseEncoderTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void encodesEachSnapshotOnce() throws IOException {
+        AreaRegistry registry = new AreaRegistry(new ClassPathResource("areas.csv"));
+        CongestionResponseEncoder encoder = new CongestionResponseEncoder(objectMapper, registry, 5);
+        CongestionSnapshot snapshot = snapshot(registry.get("강남역"), "2024-12-30 14:35");
+
+        CongestionResponseEncoder.Encoded first = encoder.encode(snapshot);
+        assertThat(encoder.encode(snapshot)).isSameAs(first);
+        assertThat(objectMapper.readValue(first.identity(), CongestionData.class).getAreaName()).isEqualTo("강남역");
+        assertThat(gunzip(first.gzip())).isEqualTo(first.identity());
+
+        // 갱신된 스냅샷은 다시 인코딩
+        CongestionSnapshot refreshed = snapshot(registry.get("강남역"), "2024-12-30 14:40");
+        assertThat(encoder.encode(refreshed)).isNotSameAs(first);
+    }
+
+    @Test
+    void encodesWhenSnapshotIsPublished() throws IOException {
+        AreaRegistry registry = new AreaRegistry(new ClassPathResource("areas.csv"));
+        CongestionResponseEncoder encoder = new CongestionResponseEncoder(objectMapper, registry, 5);
+        CongestionSnapshot snapshot = snapshot(registry.get("강남역"), "2024-12-30 14:35", 2_000);
+
+        encoder.onCongestionObserved(new CongestionObservedEvent(snapshot));
+        CongestionResponseEncoder.Encoded published = encoder.encode(snapshot);
+
+        // 요청 경로에서는 게시할 때 만든 바이트를 그대로 쓴다
+        assertThat(encoder.write(ResponseEntity.ok(), snapshot, "gzip").getBody()).isSameAs(published.gzip());
+        assertThat(encoder.encode(snapshot)).isSameAs(published);
+
+        // 늦게 도착한 이전 조회 결과가 최신 인코딩을 덮어쓰지 않는다
+        CongestionSnapshot older = snapshot(registry.get("강남역"), "2024-12-30 14:30", 1_000);
+        encoder.onCongestionObserved(new CongestionObservedEvent(older));
+        assertThat(encoder.encode(snapshot)).isSameAs(published);
+    }
+
+    @Test
+    void choosesBodyByAcceptEncoding() throws IOException {
+        AreaRegistry registry = new AreaRegistry(new ClassPathResource("areas.csv"));
+        CongestionResponseEncoder encoder = new CongestionResponseEncoder(objectMapper, registry, 5);
+        CongestionSnapshot snapshot = snapshot(registry.get("강남역"), "2024-12-30 14:35");
+        CongestionResponseEncoder.Encoded encoded = encoder.encode(snapshot);
+
+        ResponseEntity<byte[]> identity = encoder.write(ResponseEntity.ok(), snapshot, null);
+        assertThat(identity.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING)).isNull();
+        assertThat(identity.getBody()).isSameAs(encoded.identity());
+
+        ResponseEntity<byte[]> gzip = encoder.write(ResponseEntity.ok(), snapshot, "gzip, deflate, br;q=0");
+        assertThat(gzip.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING)).isEqualTo("gzip");
+        assertThat(gzip.getBody()).isSameAs(encoded.gzip());
+
+        ResponseEntity<byte[]> preferred = encoder.write(ResponseEntity.ok(), snapshot, "gzip, br");
+        if (encoded.brotli() != null) {
+            assertThat(preferred.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING)).isEqualTo("br");
+            assertThat(preferred.getBody()).isSameAs(encoded.brotli());
+        } else {
+            assertThat(preferred.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING)).isEqualTo("gzip");
+        }
+    }
+
+    @Test
+    void parsesAcceptEncodingQualities() {
+        assertThat(CongestionResponseEncoder.accepts("gzip;q=0.5", "gzip")).isTrue();
+        assertThat(CongestionResponseEncoder.accepts("GZIP", "gzip")).isTrue();
+        assertThat(CongestionResponseEncoder.accepts("gzip;q=0", "gzip")).isFalse();
+        assertThat(CongestionResponseEncoder.accepts("deflate", "gzip")).isFalse();
+        assertThat(CongestionResponseEncoder.accepts(null, "gzip")).isFalse();
+    }
+
+    private static CongestionSnapshot snapshot(Area area, String time) {
+        return snapshot(area, time, 0);
+    }
+
+    private static CongestionSnapshot snapshot(Area area, String time, long fetchedAt) {
+        return CongestionSnapshot.builder()
+                .fetchedAt(fetchedAt)
+                .area(area)
+                .populationMinute(CongestionSnapshot.toPopulationMinute(time))
+                .level(CongestionLevel.SLIGHTLY_CROWDED)
+                .congestMessage("사람이 몰려있을 수 있지만 크게 붐비지는 않아요.")
+                .build();
+    }
+
+    private static byte[] gunzip(byte[] gzip) throws IOException {
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(gzip))) {
+            return in.readAllBytes();
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package com.example.seoulcongestion.service;
+
+import com.example.seoulcongestion.domain.Area;
+import com.example.seoulcongestion.domain.AreaCategory;
+import com.example.seoulcongestion.domain.CongestionLevel;
+import com.example.seoulcongestion.domain.CongestionSnapshot;
+import com.example.seoulcongestion.exception.CustomErrorInfo;
+import com.example.seoulcongestion.exception.CustomException;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import reactor.core.publisher.Mono;
+
+import java.time.Clock;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class CongestionSnapshotServiceTest {
+
+    private final Area area = new Area(42, "강남역", AreaCategory.STATION, 37.4979, 127.0276);
+    private final SeoulApiService seoulApiService = mock(SeoulApiService.class);
+    private final CongestionSnapshotService service = new CongestionSnapshotService(seoulApiService,
+            mock(AreaPopularityTracker.class), mock(CongestionMetrics.class),
+            new ClusterLeaseManager(null, false, "test", 1, Duration.ofSeconds(30), Duration.ofSeconds(10),
+                    Duration.ofMinutes(5), Clock.systemUTC()));
+
+    @Test
+    void servesStaleSnapshotWhileUpstreamIsFailing() {
+        ReflectionTestUtils.setField(service, "staleAfter", Duration.ofMinutes(10));
+        CongestionSnapshot old = CongestionSnapshot.builder()
+                .area(area)
+                .populationMinute(CongestionSnapshot.toPopulationMinute("2024-12-30 14:35"))
+                .level(CongestionLevel.CROWDED)
+                .fetchedAt(System.currentTimeMillis() - Duration.ofMinutes(30).toMillis())
+                .build();
+        given(seoulApiService.fetchCongestionInfo("강남역")).willReturn(Mono.just(old));
+        service.refresh("강남역").block();
+
+        given(seoulApiService.fetchCongestionInfo("강남역"))
+                .willReturn(Mono.error(new CustomException(CustomErrorInfo.UPSTREAM_UNAVAILABLE)));
+
+        assertThat(service.getCongestion("강남역").block(Duration.ofSeconds(1))).isSameAs(old);
+        assertThat(service.find("강남역")).containsSame(old);
+        // 응답과 별개로 백그라운드 갱신을 시도
+        verify(seoulApiService, times(2)).fetchCongestionInfo("강남역");
+    }
+
+    @Test
+    void doesNotRevalidateFreshSnapshot() {
+        ReflectionTestUtils.setField(service, "staleAfter", Duration.ofMinutes(10));
+        CongestionSnapshot fresh = CongestionSnapshot.builder()
+                .area(area)
+                .populationMinute(CongestionSnapshot.toPopulationMinute("2024-12-30 14:35"))
+                .level(CongestionLevel.NORMAL)
+                .build();
+        given(seoulApiService.fetchCongestionInfo("강남역")).willReturn(Mono.just(fresh));
+        service.refresh("강남역").block();
+
+        assertThat(service.getCongestion("강남역").block()).isSameAs(fresh);
+        verify(seoulApiService, times(1)).fetchCongestionInfo("강남역");
+    }
+
+    @Test
+    void nonOwnerWaitsForOwnerWithinFailoverBound() {
+        CongestionSnapshotService nonOwner = nonOwner();
+        // 오래됐지만 임대 노드가 갱신하거나 임대가 넘어갈 시간이 남아 있으면 공유 저장소를 기다린다
+        nonOwner.accept(snapshotFetchedAgo(Duration.ofMinutes(10).plusSeconds(20)));
+
+        nonOwner.getCongestion("강남역").block();
+
+        verify(seoulApiService, never()).fetchCongestionInfo("강남역");
+    }
+
+    @Test
+    void nonOwnerFetchesSnapshotLeftStaleBeyondFailoverBound() {
+        CongestionSnapshotService nonOwner = nonOwner();
+        CongestionSnapshot orphaned = snapshotFetchedAgo(Duration.ofMinutes(30));
+        nonOwner.accept(orphaned);
+        given(seoulApiService.fetchCongestionInfo("강남역")).willReturn(Mono.just(snapshotFetchedAgo(Duration.ZERO)));
+
+        assertThat(nonOwner.getCongestion("강남역").block()).isSameAs(orphaned);
+        verify(seoulApiService, times(1)).fetchCongestionInfo("강남역");
+        assertThat(nonOwner.isStale(nonOwner.find("강남역").orElseThrow())).isFalse();
+    }
+
+    // 임대를 하나도 갖지 않은 클러스터 노드
+    private CongestionSnapshotService nonOwner() {
+        CongestionSnapshotService nonOwner = new CongestionSnapshotService(seoulApiService,
+                mock(AreaPopularityTracker.class), mock(CongestionMetrics.class),
+                new ClusterLeaseManager(null, true, "b", 1, Duration.ofSeconds(30), Duration.ofSeconds(10),
+                        Duration.ofMinutes(5), Clock.systemUTC()));
+        ReflectionTestUtils.setField(nonOwner, "staleAfter", Duration.ofMinutes(10));
+        return nonOwner;
+    }
+
+    private CongestionSnapshot snapshotFetchedAgo(Duration age) {
+        return CongestionSnapshot.builder()
+                .area(area)
+                .populationMinute(CongestionSnapshot.toPopulationMinute("2024-12-30 14:35"))
+                .level(CongestionLevel.NORMAL)
+                .fetchedAt(System.currentTimeMillis() - age.toMillis())
+                .build();
+    }
+}
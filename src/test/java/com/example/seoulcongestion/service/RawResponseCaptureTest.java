@@ -0,0 +1,128 @@
+package com.example.seoulcongestion.service;
+
+import com.example.seoulcongestion.domain.Area;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RawResponseCaptureTest {
+
+    @TempDir
+    Path directory;
+
+    private AreaRegistry registry;
+    private byte[] fixture;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        registry = new AreaRegistry(new ClassPathResource("areas.csv"));
+        fixture = new ClassPathResource("citydata/gangnam-station.json").getContentAsByteArray();
+    }
+
+    @Test
+    void capturedBodiesAreIndexedByAreaAndTime() throws IOException {
+        Area gangnam = registry.get("강남역");
+        Area seoulStation = registry.get("서울역");
+        RawResponseCapture capture = capture();
+
+        record(capture, gangnam, fixture);
+        record(capture, seoulStation, "{\"CITYDATA\":{}}".getBytes(StandardCharsets.UTF_8));
+        capture.shutdown();
+
+        List<Path> segments = CaptureSegmentReader.list(directory);
+        assertThat(segments).hasSize(1);
+        try (CaptureSegmentReader reader = CaptureSegmentReader.open(segments.get(0))) {
+            assertThat(reader.getEntries()).extracting(CaptureSegmentReader.Entry::areaId)
+                    .containsExactly(gangnam.getId(), seoulStation.getId());
+
+            List<CaptureSegmentReader.Entry> found = reader.find(gangnam.getId(), 0, Long.MAX_VALUE);
+            assertThat(found).hasSize(1);
+            assertThat(reader.read(found.get(0))).isEqualTo(fixture);
+            assertThat(reader.find(gangnam.getId(), 0, found.get(0).capturedAtSecond())).isEmpty();
+        }
+        // 본문이 압축되어 저장된다
+        assertThat(Files.size(segments.get(0))).isLessThan(fixture.length / 2);
+    }
+
+    @Test
+    void ignoresRecordsTruncatedByCrash() throws IOException {
+        RawResponseCapture capture = capture();
+        record(capture, registry.get("강남역"), fixture);
+        capture.shutdown();
+
+        Path segment = CaptureSegmentReader.list(directory).get(0);
+        Path index = CaptureSegmentReader.indexPathOf(segment);
+        // 다음 레코드와 인덱스 항목을 쓰다가 멈춘 상태
+        Files.write(segment, new byte[]{0, 0, 1, 0, 0, 0, 2}, StandardOpenOption.APPEND);
+        Files.write(index, new byte[]{0, 14, 0, 0}, StandardOpenOption.APPEND);
+
+        try (CaptureSegmentReader reader = CaptureSegmentReader.open(segment)) {
+            assertThat(reader.getEntries()).hasSize(1);
+        }
+
+        // 인덱스가 없으면 세그먼트를 훑어 다시 만든다
+        Files.delete(index);
+        try (CaptureSegmentReader reader = CaptureSegmentReader.open(segment)) {
+            assertThat(reader.getEntries()).hasSize(1);
+            assertThat(reader.read(reader.getEntries().get(0))).isEqualTo(fixture);
+        }
+    }
+
+    @Test
+    void replaysCapturedBodiesThroughParser() throws IOException {
+        RawResponseCapture capture = capture();
+        record(capture, registry.get("강남역"), fixture);
+        // 다른 장소의 응답을 받은 경우와 깨진 JSON
+        record(capture, registry.get("서울역"), fixture);
+        record(capture, registry.get("강남역"), Arrays.copyOf(fixture, fixture.length / 2));
+        capture.shutdown();
+
+        Path output = directory.resolve("replay.csv");
+        Path failures = directory.resolve("failures");
+        CaptureReplayer replayer = new CaptureReplayer(registry, null, 1024);
+        CaptureReplayer.ReplayReport report = replayer.replay(directory, 0, 0, Long.MAX_VALUE, output, failures);
+
+        assertThat(report.records()).isEqualTo(3);
+        assertThat(report.failed()).isEqualTo(2);
+        assertThat(report.failures()).isEqualTo(Map.of("INVALID_AREA_NAME", 1, "FAILED_TO_PARSE_DATA", 1));
+        assertThat(Files.readAllLines(output)).singleElement().asString()
+                .endsWith(",강남역,2024-12-30 14:35,SLIGHTLY_CROWDED,12,SLOW");
+        try (var dumped = Files.list(failures)) {
+            assertThat(dumped).hasSize(2);
+        }
+
+        CaptureReplayer.ReplayReport onlySeoulStation = replayer.replay(directory, registry.get("서울역").getId(),
+                0, Long.MAX_VALUE, null, null);
+        assertThat(onlySeoulStation.records()).isEqualTo(1);
+    }
+
+    private RawResponseCapture capture() {
+        return new RawResponseCapture(true, directory, DataSize.ofMegabytes(1), DataSize.ofMegabytes(100), 6, 100);
+    }
+
+    // 네트워크에서 받는 것처럼 여러 버퍼로 나눠 기록
+    private static void record(RawResponseCapture capture, Area area, byte[] body) {
+        RawResponseCapture.Recorder recorder = capture.start(area);
+        for (int from = 0; from < body.length; from += 4096) {
+            DataBuffer buffer = DefaultDataBufferFactory.sharedInstance.wrap(
+                    Arrays.copyOfRange(body, from, Math.min(body.length, from + 4096)));
+            recorder.write(buffer);
+        }
+        recorder.complete();
+    }
+}
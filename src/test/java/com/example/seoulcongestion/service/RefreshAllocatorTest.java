@@ -0,0 +1,145 @@
+package com.example.seoulcongestion.service;
+
+import com.example.seoulcongestion.domain.Area;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class RefreshAllocatorTest {
+
+    @Test
+    void allocatesBySquareRootOfPopularity() {
+        double[] rates = RefreshAllocator.allocateRates(new double[]{400, 100, 0.1}, 3.0, 10.0, 0.5);
+
+        assertThat(rates[0]).isCloseTo(2.0, within(1e-9));
+        assertThat(rates[1]).isCloseTo(1.0, within(1e-9));
+        // 거의 조회되지 않는 장소는 요청 시에만 조회
+        assertThat(rates[2]).isZero();
+    }
+
+    @Test
+    void redistributesShareAboveMaxRate() {
+        double[] rates = RefreshAllocator.allocateRates(new double[]{10_000, 100, 100}, 1.0, 0.5, 0.5);
+
+        assertThat(rates[0]).isEqualTo(0.5);
+        assertThat(rates[1]).isCloseTo(0.25, within(1e-9));
+        assertThat(rates[2]).isCloseTo(0.25, within(1e-9));
+    }
+
+    @Test
+    void neverAllocatesMoreThanBudget() {
+        double[] popularity = new double[115];
+        for (int i = 0; i < popularity.length; i++) {
+            popularity[i] = 1000.0 / (i + 1);
+        }
+
+        double[] rates = RefreshAllocator.allocateRates(popularity, 0.2, 1.0 / 300, 0.5);
+
+        assertThat(Arrays.stream(rates).sum()).isLessThanOrEqualTo(0.2 + 1e-9);
+        assertThat(rates).allSatisfy(rate -> assertThat(rate).isLessThanOrEqualTo(1.0 / 300 + 1e-12));
+    }
+
+    @Test
+    void schedulesPopularAreasFirstWithinHeadroom() throws IOException {
+        AreaRegistry registry = new AreaRegistry(new ClassPathResource("areas.csv"));
+        AreaPopularityTracker tracker = new AreaPopularityTracker(registry);
+        QuotaBudget budget = new QuotaBudget(20_000, 0.8, Duration.ofMinutes(10), () -> 1);
+        // 인기 순서만 보도록 기본 빈도는 끈다
+        RefreshAllocator allocator = new RefreshAllocator(registry, tracker, budget, Duration.ofMinutes(1),
+                Duration.ofHours(1), 0.5, Duration.ZERO, Duration.ofMinutes(5));
+        for (int i = 0; i < 30; i++) {
+            tracker.recordRequest("강남역");
+        }
+        for (int i = 0; i < 10; i++) {
+            tracker.recordRequest("성수카페거리");
+        }
+        tracker.recordRequest("서울숲공원");
+        allocator.reallocate();
+
+        long now = System.nanoTime();
+        List<Area> first = allocator.takeDueAreas(now, 2);
+        assertThat(first).extracting(Area::getName).containsExactly("강남역", "성수카페거리");
+        assertThat(allocator.takeDueAreas(now, 10)).extracting(Area::getName).containsExactly("서울숲공원");
+        // 간격이 지나기 전에는 다시 고르지 않는다
+        assertThat(allocator.takeDueAreas(now + Duration.ofSeconds(1).toNanos(), 10)).isEmpty();
+        assertThat(allocator.getAllocation().getAreas().get(0).getRefreshIntervalSeconds()).isEqualTo(300L);
+    }
+
+    @Test
+    void givesEveryAreaBaselineBeforePopularityShare() {
+        double[] rates = RefreshAllocator.allocateRates(new double[]{400, 100, 0, 0}, 3.0, 10.0, 0.5, 0.25);
+
+        // 기본 빈도 4 x 0.25를 뺀 2.0을 sqrt(인기) 비율로 더 배분
+        assertThat(rates[0]).isCloseTo(0.25 + 2.0 * 2 / 3, within(1e-9));
+        assertThat(rates[1]).isCloseTo(0.25 + 2.0 / 3, within(1e-9));
+        assertThat(rates[2]).isEqualTo(0.25);
+        assertThat(rates[3]).isEqualTo(0.25);
+        assertThat(Arrays.stream(rates).sum()).isCloseTo(3.0, within(1e-9));
+    }
+
+    @Test
+    void splitsBudgetEvenlyWhenBaselineDoesNotFit() {
+        double[] rates = RefreshAllocator.allocateRates(new double[]{400, 0, 0, 0}, 1.0, 10.0, 0.5, 1.0);
+
+        assertThat(rates).containsOnly(0.25);
+    }
+
+    @Test
+    void schedulesEveryAreaWithoutPopularityHistory() throws IOException {
+        AreaRegistry registry = new AreaRegistry(new ClassPathResource("areas.csv"));
+        QuotaBudget budget = new QuotaBudget(20_000, 0.8, Duration.ofMinutes(10), () -> 1);
+        RefreshAllocator allocator = new RefreshAllocator(registry, new AreaPopularityTracker(registry), budget,
+                Duration.ofMinutes(1), Duration.ofHours(1), 0.5, Duration.ofMinutes(30), Duration.ofMinutes(5));
+
+        // 재배분 전(시작 직후)에도, 아무 요청 없이 재배분한 뒤에도 모든 장소가 주기 갱신 대상
+        assertThat(allocator.takeDueAreas(System.nanoTime(), Integer.MAX_VALUE)).hasSize(registry.size());
+        allocator.reallocate();
+        assertThat(allocator.getAllocation().getAreas())
+                .allSatisfy(area -> assertThat(area.getRefreshIntervalSeconds()).isEqualTo(1800L));
+        long later = System.nanoTime() + Duration.ofMinutes(30).toNanos();
+        assertThat(allocator.takeDueAreas(later, Integer.MAX_VALUE)).hasSize(registry.size());
+    }
+
+    @Test
+    void quotaBudgetStopsAtBurstCapacity() {
+        // 하루 8640회 = 10초에 1회, 버스트 10분 = 60회
+        QuotaBudget budget = new QuotaBudget(8640, 0.5, Duration.ofMinutes(10), () -> 1);
+
+        assertThat(budget.getScheduledHeadroom()).isEqualTo(30);
+        int acquired = 0;
+        while (budget.tryAcquire()) {
+            acquired++;
+        }
+        assertThat(acquired).isEqualTo(60);
+        assertThat(budget.getScheduledHeadroom()).isZero();
+        assertThat(budget.getUsedToday()).isEqualTo(60);
+    }
+
+    @Test
+    void quotaBudgetSplitsDailyLimitAcrossLiveMembers() {
+        AtomicInteger members = new AtomicInteger(3);
+        QuotaBudget budget = new QuotaBudget(8640, 0.5, Duration.ofMinutes(10), members::get);
+
+        // 세 노드가 나눠 쓰므로 이 노드의 몫은 하루 2880회, 버스트 20회
+        assertThat(budget.getDailyLimit()).isEqualTo(2880);
+        assertThat(budget.getScheduledHeadroom()).isEqualTo(10);
+        int acquired = 0;
+        while (budget.tryAcquire()) {
+            acquired++;
+        }
+        assertThat(acquired).isEqualTo(20);
+        // 클러스터 전체 갱신 속도는 그대로 (각 노드는 임대를 가진 장소만 조회)
+        assertThat(budget.getScheduledRatePerSecond()).isCloseTo(8640 * 0.5 / 86400, within(1e-12));
+
+        members.set(1);
+        assertThat(budget.getDailyLimit()).isEqualTo(8640);
+    }
+}
@@ -0,0 +1,220 @@
+package com.example.seoulcongestion.service;
+
+import com.example.seoulcongestion.config.ResilienceConfig;
+import com.example.seoulcongestion.config.SeoulApiClientProperties;
+import com.example.seoulcongestion.config.WebClientConfig;
+import com.example.seoulcongestion.domain.CongestionSnapshot;
+import com.example.seoulcongestion.exception.CustomErrorInfo;
+import com.example.seoulcongestion.exception.CustomException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.server.HttpServer;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+// 장애를 흉내내는 로컬 Seoul API 스텁으로 시간 제한·재시도·회로 차단을 확인
+class SeoulApiServiceResilienceTest {
+
+    private static final Duration CALL_TIMEOUT = Duration.ofMillis(300);
+
+    private final AtomicInteger requests = new AtomicInteger();
+    private final AtomicInteger failuresRemaining = new AtomicInteger();
+    private volatile Duration delay = Duration.ZERO;
+    private volatile int failureStatus = 503;
+    // 본문 뒤에 덧붙이는 공백 (JSON으로는 그대로 유효)
+    private volatile int paddingBytes;
+    private byte[] fixture;
+    private volatile byte[] body;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private DisposableServer server;
+    private ConnectionProvider provider;
+    private CircuitBreaker circuitBreaker;
+    private SeoulApiService service;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        fixture = new ClassPathResource("citydata/gangnam-station.json").getContentAsByteArray();
+        body = fixture;
+        server = HttpServer.create()
+                .port(0)
+                .route(routes -> routes.route(request -> true, (request, response) -> {
+                    requests.incrementAndGet();
+                    if (failuresRemaining.getAndUpdate(n -> n == 0 ? 0 : n - 1) != 0) {
+                        return response.status(failureStatus).send();
+                    }
+                    return Mono.delay(delay)
+                            .then(response.header("Content-Type", "application/json")
+                                    .sendByteArray(Mono.fromSupplier(() -> body).concatWith(Mono.fromSupplier(() -> {
+                                        byte[] padding = new byte[paddingBytes];
+                                        Arrays.fill(padding, (byte) ' ');
+                                        return padding;
+                                    })))
+                                    .then());
+                }))
+                .bindNow();
+
+        SeoulApiClientProperties properties = new SeoulApiClientProperties();
+        properties.setResponseTimeout(CALL_TIMEOUT);
+        WebClientConfig webClientConfig = new WebClientConfig();
+        provider = webClientConfig.seoulApiConnectionProvider(properties);
+        WebClient webClient = webClientConfig.seoulApiWebClient(WebClient.builder(), provider, properties,
+                "http://localhost:" + server.port(), CALL_TIMEOUT);
+        circuitBreaker = new ResilienceConfig().seoulApiCircuitBreaker(50, 4, 4, Duration.ofMinutes(1), 1);
+
+        AreaRegistry areaRegistry = new AreaRegistry(new ClassPathResource("areas.csv"));
+        service = new SeoulApiService(webClient, areaRegistry, event -> { }, circuitBreaker,
+                new QuotaBudget(100_000, 0.8, Duration.ofHours(1), () -> 1),
+                new CongestionMetrics(meterRegistry, areaRegistry, false, false),
+                new RawResponseCapture(false, Path.of("unused"), DataSize.ofMegabytes(1), DataSize.ofMegabytes(1), 6, 1));
+        ReflectionTestUtils.setField(service, "apiKey", "test-key");
+        ReflectionTestUtils.setField(service, "requestType", "json");
+        ReflectionTestUtils.setField(service, "serviceName", "citydata");
+        ReflectionTestUtils.setField(service, "startIndex", "1");
+        ReflectionTestUtils.setField(service, "endIndex", "10");
+        ReflectionTestUtils.setField(service, "negativeCacheTtl", Duration.ofMinutes(1));
+        ReflectionTestUtils.setField(service, "callTimeout", CALL_TIMEOUT);
+        ReflectionTestUtils.setField(service, "maxRetries", 2);
+        ReflectionTestUtils.setField(service, "minBackoff", Duration.ofMillis(10));
+        ReflectionTestUtils.setField(service, "maxBackoff", Duration.ofMillis(50));
+    }
+
+    @AfterEach
+    void tearDown() {
+        provider.dispose();
+        server.disposeNow();
+    }
+
+    @Test
+    void retriesTransientServerErrors() {
+        failuresRemaining.set(2);
+
+        CongestionSnapshot snapshot = service.fetchCongestionInfo("강남역").block(Duration.ofSeconds(5));
+
+        assertThat(snapshot.getAreaName()).isEqualTo("강남역");
+        assertThat(requests.get()).isEqualTo(3);
+        // 성공한 시도만 응답 시간·크기·파싱 시간을 남기고, 조회 전체는 결과 태그와 함께 한 번 기록
+        assertThat(meterRegistry.get("seoul.api.upstream").tag("area", "강남역").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("seoul.api.response.size").summary().totalAmount()).isGreaterThan(0);
+        assertThat(meterRegistry.get("seoul.api.fetch").tag("outcome", "SUCCESS").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    void doesNotRetryClientErrors() {
+        failuresRemaining.set(1);
+        failureStatus = 404;
+
+        assertThatThrownBy(() -> service.fetchCongestionInfo("강남역").block(Duration.ofSeconds(5)))
+                .isInstanceOfSatisfying(CustomException.class, e ->
+                        assertThat(e.getCustomErrorInfo()).isEqualTo(CustomErrorInfo.FAILED_TO_FETCH_DATA));
+        assertThat(requests.get()).isEqualTo(1);
+    }
+
+    @Test
+    void abortsOversizedResponseBody() {
+        ReflectionTestUtils.setField(service, "maxResponseSize", DataSize.ofKilobytes(100));
+        assertThat(service.fetchCongestionInfo("강남역").block(Duration.ofSeconds(5)).getAreaName()).isEqualTo("강남역");
+
+        paddingBytes = 64 * 1024;
+        assertThatThrownBy(() -> service.fetchCongestionInfo("강남역").block(Duration.ofSeconds(5)))
+                .isInstanceOfSatisfying(CustomException.class, e ->
+                        assertThat(e.getCustomErrorInfo()).isEqualTo(CustomErrorInfo.FAILED_TO_FETCH_DATA));
+        // 한도 초과는 일시적인 오류가 아니므로 재시도하지 않는다
+        assertThat(requests.get()).isEqualTo(2);
+    }
+
+    @Test
+    void boundsLatencyOfSlowUpstream() {
+        delay = Duration.ofSeconds(5);
+        long startedAt = System.nanoTime();
+
+        assertThatThrownBy(() -> service.fetchCongestionInfo("강남역").block(Duration.ofSeconds(10)))
+                .isInstanceOfSatisfying(CustomException.class, e ->
+                        assertThat(e.getCustomErrorInfo()).isEqualTo(CustomErrorInfo.REQUEST_TIMEOUT));
+
+        // 시도 3번 x 300ms + 백오프
+        assertThat(Duration.ofNanos(System.nanoTime() - startedAt)).isLessThan(Duration.ofSeconds(2));
+        assertThat(requests.get()).isEqualTo(3);
+    }
+
+    @Test
+    void opensCircuitAndFailsFastWhileUpstreamIsDown() {
+        failuresRemaining.set(Integer.MAX_VALUE);
+
+        for (int i = 0; i < 4; i++) {
+            assertThatThrownBy(() -> service.fetchCongestionInfo("강남역").block(Duration.ofSeconds(5)))
+                    .isInstanceOf(CustomException.class);
+        }
+        assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+        int requestsBeforeOpen = requests.get();
+
+        assertThatThrownBy(() -> service.fetchCongestionInfo("강남역").block(Duration.ofSeconds(5)))
+                .isInstanceOfSatisfying(CustomException.class, e ->
+                        assertThat(e.getCustomErrorInfo()).isEqualTo(CustomErrorInfo.UPSTREAM_UNAVAILABLE));
+        assertThat(requests.get()).isEqualTo(requestsBeforeOpen);
+        assertThat(meterRegistry.get("seoul.api.fetch").tag("outcome", "UPSTREAM_UNAVAILABLE").timer().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    void rejectsUnregisteredAreaWithoutCallingUpstream() {
+        assertThatThrownBy(() -> service.fetchCongestionInfo("없는 장소").block(Duration.ofSeconds(5)))
+                .isInstanceOfSatisfying(CustomException.class, e ->
+                        assertThat(e.getCustomErrorInfo()).isEqualTo(CustomErrorInfo.INVALID_AREA_NAME));
+        assertThat(requests.get()).isZero();
+    }
+
+    @Test
+    void skipsAreaNameRejectedByUpstreamUntilTtlExpires() throws InterruptedException {
+        ReflectionTestUtils.setField(service, "negativeCacheTtl", Duration.ofMillis(200));
+        // Seoul API가 요청한 장소명을 인식하지 못하면 다른 AREA_NM을 돌려준다
+        body = new String(fixture, StandardCharsets.UTF_8).replace("\"강남역\"", "\"역삼역\"")
+                .getBytes(StandardCharsets.UTF_8);
+
+        for (int i = 0; i < 2; i++) {
+            assertThatThrownBy(() -> service.fetchCongestionInfo("강남역").block(Duration.ofSeconds(5)))
+                    .isInstanceOfSatisfying(CustomException.class, e ->
+                            assertThat(e.getCustomErrorInfo()).isEqualTo(CustomErrorInfo.INVALID_AREA_NAME));
+        }
+        assertThat(requests.get()).isEqualTo(1);
+
+        body = fixture;
+        Thread.sleep(300);
+        assertThat(service.fetchCongestionInfo("강남역").block(Duration.ofSeconds(5)).getAreaName()).isEqualTo("강남역");
+        assertThat(requests.get()).isEqualTo(2);
+    }
+
+    @Test
+    void doesNotBlockAreaOnErrorEnvelope() {
+        // 인증 키 오류, 호출 한도 초과, 데이터 없음 등은 CITYDATA 없이 결과 코드만 온다
+        body = """
+                {"RESULT": {"RESULT.CODE": "INFO-200", "RESULT.MESSAGE": "해당하는 데이터가 없습니다."}}
+                """.getBytes(StandardCharsets.UTF_8);
+
+        assertThatThrownBy(() -> service.fetchCongestionInfo("강남역").block(Duration.ofSeconds(5)))
+                .isInstanceOfSatisfying(CustomException.class, e ->
+                        assertThat(e.getCustomErrorInfo()).isEqualTo(CustomErrorInfo.INVALID_JSON_STRUCTURE));
+
+        body = fixture;
+        assertThat(service.fetchCongestionInfo("강남역").block(Duration.ofSeconds(5)).getAreaName()).isEqualTo("강남역");
+        assertThat(requests.get()).isEqualTo(2);
+    }
+}
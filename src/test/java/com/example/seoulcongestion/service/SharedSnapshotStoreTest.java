@@ -0,0 +1,222 @@
+package com.example.seoulcongestion.service;
+
+import com.example.seoulcongestion.domain.Area;
+import com.example.seoulcongestion.domain.CongestionLevel;
+import com.example.seoulcongestion.domain.CongestionSnapshot;
+import com.example.seoulcongestion.domain.RoadTrafficIndex;
+import com.example.seoulcongestion.domain.SharedSnapshot;
+import com.example.seoulcongestion.event.CongestionObservedEvent;
+import com.example.seoulcongestion.repository.SharedSnapshotRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.h2.tools.Server;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
+
+import javax.sql.DataSource;
+import java.net.ServerSocket;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+// ClusterLeaseManagerTest와 같이 H2 서버 모드에 두 노드가 각자 접속해 공유 테이블로 스냅샷을 주고받는다
+class SharedSnapshotStoreTest {
+
+    private static final Duration LEASE = Duration.ofSeconds(30);
+    private static final Duration RENEW = Duration.ofSeconds(10);
+    private static final Duration UPDATE_INTERVAL = Duration.ofMinutes(5);
+
+    private final List<AnnotationConfigApplicationContext> contexts = new ArrayList<>();
+
+    private Server server;
+    private String url;
+    private AreaRegistry areaRegistry;
+
+    @BeforeEach
+    void startServer() throws Exception {
+        int port;
+        try (ServerSocket socket = new ServerSocket(0)) {
+            port = socket.getLocalPort();
+        }
+        server = Server.createTcpServer("-tcpPort", String.valueOf(port), "-ifNotExists").start();
+        url = "jdbc:h2:tcp://localhost:" + port + "/mem:shared-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1";
+        areaRegistry = new AreaRegistry(new ClassPathResource("areas.csv"));
+    }
+
+    @AfterEach
+    void stopServer() {
+        contexts.forEach(AnnotationConfigApplicationContext::close);
+        server.stop();
+    }
+
+    @Test
+    void publishedSnapshotIsImportedByOtherNode() {
+        Node a = node("a");
+        Node b = node("b");
+        a.leaseManager.renew();
+        b.leaseManager.renew();
+        a.leaseManager.renew();
+        b.leaseManager.renew();
+
+        Area owned = areaRegistry.getAreas().stream().filter(a.leaseManager::owns).findFirst().orElseThrow();
+        Area notOwned = areaRegistry.getAreas().stream().filter(b.leaseManager::owns).findFirst().orElseThrow();
+        CongestionSnapshot snapshot = CongestionSnapshot.builder()
+                .area(owned)
+                .populationMinute(CongestionSnapshot.toPopulationMinute("2024-12-30 14:35"))
+                .level(CongestionLevel.SLIGHTLY_CROWDED)
+                .congestMessage("사람이 몰려있을 수 있지만 크게 붐비지는 않아요.")
+                .forecastMinutes(new short[]{15 * 60, 16 * 60, 23 * 60 + 59})
+                .forecastLevels(new byte[]{CongestionLevel.CROWDED.code(), CongestionLevel.NORMAL.code(),
+                        CongestionLevel.RELAXED.code()})
+                .forecastCount(3)
+                .roadTrafficIndex(RoadTrafficIndex.SLOW)
+                .roadMessage("전체 도로 소통이 서행입니다.")
+                .build();
+        a.store.onCongestionObserved(new CongestionObservedEvent(snapshot));
+        // 임대가 없는 장소는 게시하지 않는다
+        a.store.onCongestionObserved(new CongestionObservedEvent(CongestionSnapshot.builder().area(notOwned).build()));
+
+        a.store.publish();
+        b.store.sync();
+
+        CongestionSnapshot imported = b.snapshotService.find(owned.getName()).orElseThrow();
+        assertThat(imported).isNotSameAs(snapshot);
+        assertThat(imported.getArea()).isSameAs(owned);
+        assertThat(imported.getPopulationMinute()).isEqualTo(snapshot.getPopulationMinute());
+        assertThat(imported.getLevel()).isEqualTo(CongestionLevel.SLIGHTLY_CROWDED);
+        assertThat(imported.getCongestMessage()).isEqualTo(snapshot.getCongestMessage());
+        assertThat(imported.getForecastCount()).isEqualTo(3);
+        for (int i = 0; i < 3; i++) {
+            assertThat(imported.getForecastMinute(i)).isEqualTo(snapshot.getForecastMinute(i));
+            assertThat(imported.getForecastLevel(i)).isEqualTo(snapshot.getForecastLevel(i));
+        }
+        assertThat(imported.getRoadTrafficIndex()).isEqualTo(RoadTrafficIndex.SLOW);
+        assertThat(imported.getRoadMessage()).isEqualTo(snapshot.getRoadMessage());
+        assertThat(imported.getFetchedAt()).isEqualTo(snapshot.getFetchedAt());
+        assertThat(b.snapshotService.find(notOwned.getName())).isEmpty();
+
+        ArgumentCaptor<CongestionObservedEvent> event = ArgumentCaptor.forClass(CongestionObservedEvent.class);
+        verify(b.eventPublisher).publishEvent(event.capture());
+        assertThat(event.getValue().getSnapshot()).isSameAs(imported);
+
+        // 이미 반영한 행은 다시 가져오지 않는다 (겹쳐 읽는 구간 안에 있어도)
+        b.store.sync();
+        verify(b.eventPublisher, times(1)).publishEvent(any(CongestionObservedEvent.class));
+        verify(a.eventPublisher, never()).publishEvent(any(CongestionObservedEvent.class));
+    }
+
+    @Test
+    void nonOwnerCacheMissReadsSharedSnapshotBeforeCallingUpstream() {
+        Node a = node("a");
+        Node b = node("b");
+        a.leaseManager.renew();
+        b.leaseManager.renew();
+        a.leaseManager.renew();
+        b.leaseManager.renew();
+
+        Area owned = areaRegistry.getAreas().stream().filter(a.leaseManager::owns).findFirst().orElseThrow();
+        CongestionSnapshot snapshot = CongestionSnapshot.builder()
+                .area(owned)
+                .populationMinute(CongestionSnapshot.toPopulationMinute("2024-12-30 14:35"))
+                .level(CongestionLevel.NORMAL)
+                .build();
+        a.store.onCongestionObserved(new CongestionObservedEvent(snapshot));
+        a.store.publish();
+
+        // 동기화 전에 들어온 요청도 공유 테이블의 행으로 응답하고 Seoul API는 부르지 않는다
+        CongestionSnapshot served = b.snapshotService.getCongestion(owned.getName()).block();
+
+        assertThat(served.getPopulationMinute()).isEqualTo(snapshot.getPopulationMinute());
+        assertThat(served.getFetchedAt()).isEqualTo(snapshot.getFetchedAt());
+        assertThat(b.snapshotService.find(owned.getName())).containsSame(served);
+        verify(b.seoulApiService, never()).fetchCongestionInfo(any());
+        // 같은 행은 동기화 때 다시 반영하지 않는다
+        b.store.sync();
+        verify(b.eventPublisher, times(1)).publishEvent(any(CongestionObservedEvent.class));
+    }
+
+    @Test
+    void encodesSnapshotWithoutForecastOrRoadTraffic() {
+        Area area = areaRegistry.get("강남역");
+        CongestionSnapshot snapshot = CongestionSnapshot.builder()
+                .area(area)
+                .populationMinute(CongestionSnapshot.NO_TIME)
+                .level(CongestionLevel.UNKNOWN)
+                .build();
+
+        CongestionSnapshot decoded = SharedSnapshot.of(snapshot, "a").toSnapshot(area);
+
+        assertThat(decoded.hasPopulationTime()).isFalse();
+        assertThat(decoded.getLevel()).isEqualTo(CongestionLevel.UNKNOWN);
+        assertThat(decoded.getForecastCount()).isZero();
+        assertThat(decoded.getRoadTrafficIndex()).isNull();
+        assertThat(decoded.getFetchedAt()).isEqualTo(snapshot.getFetchedAt());
+    }
+
+    private Node node(String nodeId) {
+        // 노드마다 커넥션과 영속성 컨텍스트를 따로 둔다
+        AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext();
+        context.registerBean(DataSource.class, () -> new DriverManagerDataSource(url, "sa", ""));
+        context.register(JpaConfig.class);
+        context.refresh();
+        contexts.add(context);
+
+        ClusterLeaseManager leaseManager = new ClusterLeaseManager(
+                new JdbcTemplate(context.getBean(DataSource.class)), true, nodeId, 4, LEASE, RENEW,
+                UPDATE_INTERVAL, Clock.systemUTC());
+        SeoulApiService seoulApiService = mock(SeoulApiService.class);
+        CongestionSnapshotService snapshotService = new CongestionSnapshotService(seoulApiService,
+                mock(AreaPopularityTracker.class), mock(CongestionMetrics.class), leaseManager);
+        ApplicationEventPublisher eventPublisher = mock(ApplicationEventPublisher.class);
+        SharedSnapshotStore store = new SharedSnapshotStore(context.getBean(SharedSnapshotRepository.class),
+                leaseManager, snapshotService, areaRegistry, eventPublisher, Duration.ofSeconds(10));
+        return new Node(leaseManager, seoulApiService, snapshotService, eventPublisher, store);
+    }
+
+    private record Node(ClusterLeaseManager leaseManager, SeoulApiService seoulApiService,
+                        CongestionSnapshotService snapshotService, ApplicationEventPublisher eventPublisher,
+                        SharedSnapshotStore store) {
+    }
+
+    @Configuration
+    @EnableJpaRepositories(basePackageClasses = SharedSnapshotRepository.class)
+    static class JpaConfig {
+
+        @Bean
+        LocalContainerEntityManagerFactoryBean entityManagerFactory(DataSource dataSource) {
+            LocalContainerEntityManagerFactoryBean factory = new LocalContainerEntityManagerFactoryBean();
+            factory.setDataSource(dataSource);
+            factory.setPackagesToScan(SharedSnapshot.class.getPackageName());
+            factory.setJpaVendorAdapter(new HibernateJpaVendorAdapter());
+            factory.setJpaPropertyMap(Map.of("hibernate.hbm2ddl.auto", "update"));
+            return factory;
+        }
+
+        @Bean
+        JpaTransactionManager transactionManager(EntityManagerFactory entityManagerFactory) {
+            return new JpaTransactionManager(entityManagerFactory);
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package com.example.seoulcongestion.service;
+
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SingleFlightTest {
+
+    @Test
+    void concurrentCallersShareOneLoad() {
+        SingleFlight<String, String> singleFlight = new SingleFlight<>();
+        Sinks.One<String> upstream = Sinks.one();
+        AtomicInteger loads = new AtomicInteger();
+
+        List<CompletableFuture<String>> callers = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            callers.add(singleFlight.execute("강남역", key -> {
+                loads.incrementAndGet();
+                return upstream.asMono();
+            }).toFuture());
+        }
+
+        upstream.tryEmitValue("snapshot");
+
+        assertThat(callers).allSatisfy(caller -> assertThat(caller.join()).isEqualTo("snapshot"));
+        assertThat(loads).hasValue(1);
+        assertThat(singleFlight.getCoalescedCount()).isEqualTo(49);
+        assertThat(singleFlight.getInFlightCount()).isZero();
+    }
+
+    @Test
+    void completedLoadIsNotReused() {
+        SingleFlight<String, Integer> singleFlight = new SingleFlight<>();
+        AtomicInteger loads = new AtomicInteger();
+
+        singleFlight.execute("강남역", key -> Mono.fromSupplier(loads::incrementAndGet)).block();
+        Integer second = singleFlight.execute("강남역", key -> Mono.fromSupplier(loads::incrementAndGet)).block();
+
+        assertThat(second).isEqualTo(2);
+        assertThat(singleFlight.getCoalescedCount()).isZero();
+    }
+
+    @Test
+    void errorIsSharedAndKeyIsReleased() {
+        SingleFlight<String, String> singleFlight = new SingleFlight<>();
+        Sinks.One<String> upstream = Sinks.one();
+
+        Mono<String> first = singleFlight.execute("강남역", key -> upstream.asMono());
+        CompletableFuture<String> a = first.toFuture();
+        CompletableFuture<String> b = singleFlight.execute("강남역", key -> upstream.asMono()).toFuture();
+
+        upstream.tryEmitError(new IllegalStateException("upstream down"));
+
+        assertThatThrownBy(a::join).hasCauseInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(b::join).hasCauseInstanceOf(IllegalStateException.class);
+        assertThat(singleFlight.getInFlightCount()).isZero();
+    }
+}
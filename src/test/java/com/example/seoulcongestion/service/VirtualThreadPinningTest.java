@@ -0,0 +1,118 @@
+package com.example.seoulcongestion.service;
+
+import com.example.seoulcongestion.domain.CongestionLevel;
+import com.example.seoulcongestion.domain.CongestionSnapshot;
+import com.example.seoulcongestion.repository.CongestionRollupRepository;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+import org.junit.jupiter.api.Test;
+import org.mockito.stubbing.Answer;
+import org.springframework.core.io.ClassPathResource;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+// synchronized 안에서 블로킹하면 가상 스레드가 캐리어 스레드에 고정되어 가상 스레드 모드에서도 동시 처리가 막힌다.
+// JFR의 jdk.VirtualThreadPinned 이벤트로 애플리케이션 코드에서 고정이 일어나는지 확인
+class VirtualThreadPinningTest {
+
+    private static final String APPLICATION_PACKAGE = "com.example.seoulcongestion.";
+    private static final Duration SLOW_IO = Duration.ofMillis(50);
+
+    @Test
+    void detectsBlockingInsideSynchronized() throws Exception {
+        Object lock = new Object();
+
+        List<String> pinned = pinnedStacks(() -> {
+            synchronized (lock) {
+                Thread.sleep(SLOW_IO.toMillis());
+            }
+            return null;
+        });
+
+        assertThat(pinned).isNotEmpty();
+    }
+
+    @Test
+    void weeklyRollupDoesNotBlockWhileHoldingMonitor() throws Exception {
+        AreaRegistry registry = new AreaRegistry(new ClassPathResource("areas.csv"));
+        CongestionRollupRepository repository = mock(CongestionRollupRepository.class);
+        when(repository.findAll()).thenAnswer(slow(List.of()));
+        when(repository.saveAll(anyList())).thenAnswer(slow(List.of()));
+        WeeklyCongestionAggregator aggregator = new WeeklyCongestionAggregator(repository, registry,
+                new ClusterLeaseManager(null, false, "test", 1, Duration.ofSeconds(30), Duration.ofSeconds(10),
+                        Duration.ofMinutes(5), Clock.systemUTC()));
+
+        List<String> pinned = pinnedStacks(() -> {
+            aggregator.restore();
+            aggregator.fold(CongestionSnapshot.builder()
+                    .area(registry.get("강남역"))
+                    .populationMinute(CongestionSnapshot.toPopulationMinute("2024-12-30 14:35"))
+                    .level(CongestionLevel.NORMAL)
+                    .build());
+            aggregator.checkpoint();
+            return null;
+        });
+
+        assertThat(pinned).isEmpty();
+    }
+
+    // 느린 DB 호출 흉내
+    private static <T> Answer<T> slow(T result) {
+        return invocation -> {
+            Thread.sleep(SLOW_IO.toMillis());
+            return result;
+        };
+    }
+
+    // 가상 스레드에서 task를 실행하는 동안 고정된 구간의 애플리케이션 스택 프레임
+    private static List<String> pinnedStacks(Callable<?> task) throws Exception {
+        List<String> pinned = new CopyOnWriteArrayList<>();
+        AtomicReference<Exception> failure = new AtomicReference<>();
+
+        try (RecordingStream recording = new RecordingStream()) {
+            recording.enable("jdk.VirtualThreadPinned").withStackTrace().withThreshold(SLOW_IO.dividedBy(2));
+            recording.onEvent("jdk.VirtualThreadPinned", event -> {
+                RecordedStackTrace stackTrace = event.getStackTrace();
+                if (stackTrace != null) {
+                    pinned.add(applicationFrames(stackTrace));
+                }
+            });
+            recording.startAsync();
+
+            Thread.ofVirtual().start(() -> {
+                try {
+                    task.call();
+                } catch (Exception e) {
+                    failure.set(e);
+                }
+            }).join();
+            // 남은 이벤트를 모두 받은 뒤 반환
+            recording.stop();
+        }
+
+        if (failure.get() != null) {
+            throw failure.get();
+        }
+        return pinned.stream().filter(frames -> !frames.isEmpty()).toList();
+    }
+
+    private static String applicationFrames(RecordedStackTrace stackTrace) {
+        return stackTrace.getFrames().stream()
+                .map(RecordedFrame::getMethod)
+                .map(method -> method.getType().getName() + "." + method.getName())
+                .filter(name -> name.startsWith(APPLICATION_PACKAGE))
+                .collect(Collectors.joining(" <- "));
+    }
+}
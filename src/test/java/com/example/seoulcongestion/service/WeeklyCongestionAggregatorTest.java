@@ -0,0 +1,117 @@
+package com.example.seoulcongestion.service;
+
+import com.example.seoulcongestion.domain.Area;
+import com.example.seoulcongestion.domain.CongestionLevel;
+import com.example.seoulcongestion.domain.CongestionRollup;
+import com.example.seoulcongestion.domain.CongestionSnapshot;
+import com.example.seoulcongestion.domain.RoadTrafficIndex;
+import com.example.seoulcongestion.dto.WeeklyProfileResponse;
+import com.example.seoulcongestion.repository.CongestionRollupRepository;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.core.io.ClassPathResource;
+
+import java.io.IOException;
+import java.time.Clock;
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class WeeklyCongestionAggregatorTest {
+
+    private final ClusterLeaseManager standalone = new ClusterLeaseManager(null, false, "test", 1,
+            Duration.ofSeconds(30), Duration.ofSeconds(10), Duration.ofMinutes(5), Clock.systemUTC());
+
+    @Test
+    void foldsObservationsIntoHourOfWeekSlots() throws IOException {
+        AreaRegistry registry = new AreaRegistry(new ClassPathResource("areas.csv"));
+        Area area = registry.get("강남역");
+        WeeklyCongestionAggregator aggregator = new WeeklyCongestionAggregator(mock(CongestionRollupRepository.class), registry,
+                standalone);
+
+        // 2024-12-30은 월요일
+        aggregator.fold(snapshot(area, "2024-12-30 14:05", CongestionLevel.CROWDED, RoadTrafficIndex.CONGESTED));
+        aggregator.fold(snapshot(area, "2024-12-30 14:05", CongestionLevel.CROWDED, RoadTrafficIndex.CONGESTED));
+        aggregator.fold(snapshot(area, "2024-12-30 14:35", CongestionLevel.NORMAL, RoadTrafficIndex.SMOOTH));
+        aggregator.fold(snapshot(area, "2025-01-06 14:10", CongestionLevel.CROWDED, RoadTrafficIndex.SLOW));
+
+        WeeklyProfileResponse.HourProfile hour = aggregator.getProfile(area).getHours().get(14);
+        assertThat(hour.getDayOfWeek()).isEqualTo(DayOfWeek.MONDAY);
+        assertThat(hour.getHour()).isEqualTo(14);
+        assertThat(hour.getSamples()).isEqualTo(3);
+        assertThat(hour.getCrowded()).isEqualTo(2);
+        assertThat(hour.getNormal()).isEqualTo(1);
+        assertThat(hour.getDominantLevel()).isEqualTo("붐빔");
+        assertThat(hour.getMeanRoadIndex()).isEqualTo(1.0);
+
+        WeeklyProfileResponse.HourProfile empty = aggregator.getProfile(area).getHours().get(15);
+        assertThat(empty.getSamples()).isZero();
+        assertThat(empty.getDominantLevel()).isNull();
+        assertThat(empty.getMeanRoadIndex()).isNull();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void restoresCountersFromCheckpoint() throws IOException {
+        AreaRegistry registry = new AreaRegistry(new ClassPathResource("areas.csv"));
+        Area area = registry.get("강남역");
+        CongestionRollupRepository repository = mock(CongestionRollupRepository.class);
+        WeeklyCongestionAggregator aggregator = new WeeklyCongestionAggregator(repository, registry, standalone);
+        aggregator.fold(snapshot(area, "2025-01-04 09:00", CongestionLevel.RELAXED, RoadTrafficIndex.SMOOTH));
+        aggregator.checkpoint();
+
+        ArgumentCaptor<List<CongestionRollup>> saved = ArgumentCaptor.forClass(List.class);
+        verify(repository).saveAll(saved.capture());
+        assertThat(saved.getValue()).extracting(CongestionRollup::getAreaId).containsExactly(area.getId());
+
+        CongestionRollupRepository restoredRepository = mock(CongestionRollupRepository.class);
+        when(restoredRepository.findAll()).thenReturn(saved.getValue());
+        WeeklyCongestionAggregator restored = new WeeklyCongestionAggregator(restoredRepository, registry,
+                standalone);
+        restored.restore();
+
+        // 토요일 9시, 이미 반영한 관측은 다시 세지 않는다
+        restored.fold(snapshot(area, "2025-01-04 09:00", CongestionLevel.RELAXED, RoadTrafficIndex.SMOOTH));
+        WeeklyProfileResponse.HourProfile hour = restored.getProfile(area).getHours().get(5 * 24 + 9);
+        assertThat(hour.getSamples()).isEqualTo(1);
+        assertThat(hour.getRelaxed()).isEqualTo(1);
+        assertThat(hour.getMeanRoadIndex()).isEqualTo(0.0);
+
+        restored.checkpoint();
+        verify(restoredRepository, never()).saveAll(anyList());
+    }
+
+    @Test
+    void checkpointsOnlyAreasWithLease() throws IOException {
+        AreaRegistry registry = new AreaRegistry(new ClassPathResource("areas.csv"));
+        Area area = registry.get("강남역");
+        CongestionRollupRepository repository = mock(CongestionRollupRepository.class);
+        // 임대를 하나도 갖지 않은 클러스터 노드
+        ClusterLeaseManager nonOwner = new ClusterLeaseManager(null, true, "b", 1, Duration.ofSeconds(30),
+                Duration.ofSeconds(10), Duration.ofMinutes(5), Clock.systemUTC());
+        WeeklyCongestionAggregator aggregator = new WeeklyCongestionAggregator(repository, registry, nonOwner);
+
+        aggregator.fold(snapshot(area, "2025-01-04 09:00", CongestionLevel.RELAXED, RoadTrafficIndex.SMOOTH));
+        aggregator.checkpoint();
+
+        // 다른 노드가 게시한 관측도 조회용으로는 누적하지만 저장은 임대를 가진 노드에 맡긴다
+        assertThat(aggregator.getProfile(area).getHours().get(5 * 24 + 9).getSamples()).isEqualTo(1);
+        verify(repository, never()).saveAll(anyList());
+    }
+
+    private static CongestionSnapshot snapshot(Area area, String time, CongestionLevel level, RoadTrafficIndex road) {
+        return CongestionSnapshot.builder()
+                .area(area)
+                .populationMinute(CongestionSnapshot.toPopulationMinute(time))
+                .level(level)
+                .roadTrafficIndex(road)
+                .build();
+    }
+}